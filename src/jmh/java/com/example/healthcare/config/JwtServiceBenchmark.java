@@ -0,0 +1,66 @@
+package com.example.healthcare.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.security.Key;
+import java.util.Date;
+
+/**
+ * 인증된 요청 하나가 JwtAuthenticationFilter 에서 토큰 검증에 쓰는 비용을 비교합니다.
+ * ./gradlew jmh 로 실행합니다.
+ */
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET_KEY = "64KcIOygnOuhnOuyoOydtOyKpOyXkOyEnCDsvZTrlKnsnYQg67Cw7Jqw6rOg7J6I7JeJ";
+
+    private JwtService jwtService;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService();
+        userDetails = User.withUsername("user").password("password").authorities("USER").build();
+        token = jwtService.generateToken(userDetails);
+    }
+
+    /**
+     * 이전 방식: extractUsername 후 isTokenValid 가 다시 제목과 만료를 꺼내므로, 요청마다 키 디코딩, 파서 생성,
+     * 서명 검증을 세 번 합니다.
+     */
+    @Benchmark
+    public boolean parsePerClaim() {
+        // 필터의 extractUsername
+        String username = legacyClaims(token).getSubject();
+        // isTokenValid 의 extractUsername, extractExpiration
+        return username != null && legacyClaims(token).getSubject().equals(userDetails.getUsername())
+                && !legacyClaims(token).getExpiration().before(new Date());
+    }
+
+    /**
+     * 현재 방식: 캐시한 파서로 한 번 검증하고 ParsedToken 의 값을 씁니다.
+     */
+    @Benchmark
+    public boolean parseOnce() {
+        return jwtService.parse(token).isValidFor(userDetails);
+    }
+
+    private static Claims legacyClaims(String token) {
+        Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY));
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
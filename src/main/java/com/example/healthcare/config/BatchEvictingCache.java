@@ -0,0 +1,26 @@
+package com.example.healthcare.config;
+
+import org.springframework.cache.Cache;
+
+import java.util.Collection;
+
+/**
+ * 여러 키를 한 번에 지울 수 있는 캐시입니다. 다른 노드에는 키마다 따로 알리지 않고 묶어서 알립니다.
+ */
+public interface BatchEvictingCache {
+
+    void evictAll(Collection<?> keys);
+
+    /**
+     * 캐시가 묶음 삭제를 지원하면 한 번에, 아니면 키마다 지웁니다.
+     */
+    static void evictAll(Cache cache, Collection<?> keys) {
+        if (cache instanceof BatchEvictingCache) {
+            ((BatchEvictingCache) cache).evictAll(keys);
+            return;
+        }
+        for (Object key : keys) {
+            cache.evict(key);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.healthcare.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * id_sequence 테이블의 시작 값을 기존 데이터의 최대 ID 보다 크게 맞춥니다.
+ * 수동으로 ID 를 부여하던 테이블을 @TableGenerator 로 옮기면서 이미 사용된 ID 가
+ * 다시 발급되지 않도록, 엔티티 매니저(ddl-auto)가 테이블을 만든 직후 한 번 실행됩니다.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+@Slf4j
+public class IdSequenceInitializer {
+
+    // @TableGenerator 의 allocationSize 와 같아야 합니다.
+    static final int ALLOCATION_SIZE = 50;
+
+    // sequence_name -> ID 를 사용하는 테이블
+    private static final Map<String, String> SEQUENCES = new LinkedHashMap<>();
+
+    static {
+        SEQUENCES.put("diet", "diet");
+        SEQUENCES.put("diet_info", "diet_info");
+        SEQUENCES.put("exercise", "exercise");
+        SEQUENCES.put("exercise_set", "exercise_set");
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void initialize() {
+        SEQUENCES.forEach(this::initialize);
+    }
+
+    private void initialize(String sequenceName, String tableName) {
+        Long maxId = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(id), 0) FROM " + tableName, Long.class);
+        // pooled 최적화기는 읽은 값에서 allocationSize 만큼 앞의 값부터 발급할 수 있으므로 그만큼 여유를 둡니다.
+        long required = maxId + 1 + ALLOCATION_SIZE;
+
+        List<Long> current = jdbcTemplate.queryForList(
+                "SELECT next_val FROM id_sequence WHERE sequence_name = ?", Long.class, sequenceName);
+        if (current.isEmpty()) {
+            try {
+                jdbcTemplate.update("INSERT INTO id_sequence (sequence_name, next_val) VALUES (?, ?)",
+                        sequenceName, required);
+                log.info("id_sequence '{}' 초기화: {}", sequenceName, required);
+                return;
+            } catch (DuplicateKeyException e) {
+                // 다른 노드가 먼저 만들었다면 아래의 조건부 갱신으로 넘어갑니다.
+            }
+        }
+        int updated = jdbcTemplate.update(
+                "UPDATE id_sequence SET next_val = ? WHERE sequence_name = ? AND next_val < ?",
+                required, sequenceName, required);
+        if (updated > 0) {
+            log.info("id_sequence '{}' 보정: {}", sequenceName, required);
+        }
+    }
+}
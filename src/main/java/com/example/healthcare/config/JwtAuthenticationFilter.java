@@ -1,11 +1,12 @@
 package com.example.healthcare.config;
 
+import com.example.healthcare.domain.memeber.MemberPrincipal;
+import com.example.healthcare.service.MemberAuthState;
+import com.example.healthcare.service.MemberAuthStateCache;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -21,7 +22,7 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
+    private final MemberAuthStateCache memberAuthStateCache;
 
     @Override
     protected void doFilterInternal(
@@ -31,21 +32,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
-        final String userEmail;
+        final ParsedToken token;
         if(authHeader == null || !authHeader.startsWith("Bearer ")){
             filterChain.doFilter(request, response);
             return ;
         }
         // header 값에 Bearer {토근값 => 이것을 뽑아내기 위해서 쓰는 것 }
         jwt = authHeader.substring(7);
-        userEmail = jwtService.extractUsername(jwt); // todo extract the userEmail from JWT token;
-        if(userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null){
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-            if(jwtService.isTokenValid(jwt,userDetails)) {
+        // 서명 검증은 요청마다 한 번만 하고, 이후에는 검증된 토큰의 값을 씁니다.
+        token = jwtService.parse(jwt);
+        // 회원 ID 클레임이 없는 이전 토큰은 인증하지 않습니다. (다시 로그인하면 새 토큰을 받습니다)
+        if(token.getSubject() != null && token.getMemberId() != null
+                && SecurityContextHolder.getContext().getAuthentication() == null){
+            // 회원 전체를 조회하는 대신 짧게 캐시한 상태로 탈퇴, 비활성, 비밀번호 변경만 확인합니다.
+            MemberAuthState state = memberAuthStateCache.get(token.getMemberId());
+            if(state != null && !token.isExpired() && state.accepts(token.getSubject(), token.getAuthVersion())) {
+                MemberPrincipal principal = MemberPrincipal.createMemberPrincipal(
+                        token.getMemberId(), token.getSubject(), token.getRole());
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails,
+                        principal,
                         null,
-                        userDetails.getAuthorities()
+                        principal.getAuthorities()
                 );
                 authToken.setDetails(
                         new WebAuthenticationDetailsSource().buildDetails(request)
@@ -1,6 +1,8 @@
 package com.example.healthcare.config;
 
+import com.example.healthcare.domain.memeber.Member;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -17,21 +19,51 @@ import java.util.function.Function;
 @Service
 public class JwtService {
 
+    // 인증 필터가 회원 조회 없이 MemberPrincipal 을 만들 수 있도록 토큰에 담는 클레임
+    public static final String MEMBER_ID_CLAIM = "mid";
+    public static final String ROLE_CLAIM = "role";
+    public static final String AUTH_VERSION_CLAIM = "ver";
+
     private static final String SECRET_KEY = "64KcIOygnOuhnOuyoOydtOyKpOyXkOyEnCDsvZTrlKnsnYQg67Cw7Jqw6rOg7J6I7JeJ";
 
+    // 키와 파서는 스레드 안전하므로 요청마다 만들지 않고 한 번만 만듭니다.
+    private final Key signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY));
+    private final JwtParser jwtParser = Jwts.parserBuilder()
+            .setSigningKey(signInKey)
+            .build();
+
+    /**
+     * 토큰의 서명과 만료를 한 번 검증하고, 제목, 만료 시각, 클레임을 담은 객체를 반환합니다.
+     *
+     * @throws io.jsonwebtoken.JwtException 서명이 맞지 않거나 만료되었거나 형식이 잘못된 경우 예외 발생
+     */
+    public ParsedToken parse(String token) {
+        return new ParsedToken(jwtParser.parseClaimsJws(token).getBody());
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> clamsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return clamsResolver.apply(claims);
+        return clamsResolver.apply(parse(token).getClaims());
     }
 
     public String generateToken(UserDetails userDetails) {
         return generateToken(new HashMap<>(), userDetails);
     }
 
+    /**
+     * 회원 ID, 권한, 인증 버전을 클레임으로 담은 토큰을 발급합니다.
+     */
+    public String generateToken(Member member) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(MEMBER_ID_CLAIM, member.getId());
+        claims.put(ROLE_CLAIM, member.getMemberType().name());
+        claims.put(AUTH_VERSION_CLAIM, member.getAuthVersion());
+        return generateToken(claims, member);
+    }
+
     public String generateToken(
             Map<String, Object> extraClaims,
             UserDetails userDetails
@@ -42,34 +74,11 @@ public class JwtService {
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 24))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256) // HS256 알고리즘 사용
+                .signWith(signInKey, SignatureAlgorithm.HS256) // HS256 알고리즘 사용
                 .compact();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
-
-    private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(SECRET_KEY);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return parse(token).isValidFor(userDetails);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,50 @@
+package com.example.healthcare.config;
+
+import com.example.healthcare.domain.enumType.member.MemberTypeRole;
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Date;
+
+/**
+ * JwtService 가 서명을 검증한 토큰입니다. 같은 토큰을 다시 파싱하지 않고 필요한 값을 꺼내 씁니다.
+ */
+@Getter
+public class ParsedToken {
+
+    private final Claims claims;
+    private final String subject;
+    private final Date expiration;
+
+    ParsedToken(Claims claims) {
+        this.claims = claims;
+        this.subject = claims.getSubject();
+        this.expiration = claims.getExpiration();
+    }
+
+    // 회원 ID 클레임이 없는 토큰(클레임 도입 전 발급)이면 null
+    public Long getMemberId() {
+        return claims.get(JwtService.MEMBER_ID_CLAIM, Long.class);
+    }
+
+    public Long getAuthVersion() {
+        return claims.get(JwtService.AUTH_VERSION_CLAIM, Long.class);
+    }
+
+    public MemberTypeRole getRole() {
+        String role = claims.get(JwtService.ROLE_CLAIM, String.class);
+        return role == null ? null : MemberTypeRole.valueOf(role);
+    }
+
+    public boolean isExpired() {
+        return expiration != null && expiration.before(new Date());
+    }
+
+    /**
+     * 토큰이 이 사용자의 것이고 아직 만료되지 않았는지 확인합니다.
+     */
+    public boolean isValidFor(UserDetails userDetails) {
+        return userDetails.getUsername().equals(subject) && !isExpired();
+    }
+}
@@ -1,19 +1,39 @@
 package com.example.healthcare.config;
 
+import com.example.healthcare.service.CalendarCacheKeys;
+import com.example.healthcare.service.ExerciseCacheKeys;
+import com.example.healthcare.service.MemberAuthStateCache;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.CacheManager;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.actuate.metrics.cache.RedisCacheMetrics;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCache;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.time.Duration;
+import java.util.Map;
+
 @Configuration
+@EnableCaching
 public class RedisConfig {
 
     @Value("${spring.redis.host}")
@@ -22,17 +42,84 @@ public class RedisConfig {
     @Value("${spring.redis.port}")
     private int port;
 
-    // CacheManager를 구성하는 메서드
+    /**
+     * 노드 메모리의 L1 과 Redis 의 L2 로 이루어진 CacheManager 입니다.
+     * 자주 읽는 항목은 네트워크와 역직렬화 없이 L1 에서 바로 응답합니다.
+     */
+    @Bean
+    public TwoTierCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                            StringRedisTemplate stringRedisTemplate,
+                                            @Value("${cache.ttl.default:PT10M}") Duration defaultTtl,
+                                            @Value("${cache.ttl.exercise-day:PT10M}") Duration exerciseDayTtl,
+                                            @Value("${cache.ttl.exercise-week:PT30M}") Duration exerciseWeekTtl,
+                                            @Value("${cache.ttl.exercise-month:PT1H}") Duration exerciseMonthTtl,
+                                            @Value("${cache.ttl.calendar-month:PT1H}") Duration calendarMonthTtl,
+                                            @Value("${cache.ttl.member-auth-state:PT5M}") Duration memberAuthStateTtl,
+                                            @Value("${cache.local.maximum-size:10000}") long localMaximumSize,
+                                            @Value("${cache.local.ttl:PT30S}") Duration localTtl) {
+        return new TwoTierCacheManager(
+                redisCacheManager(redisConnectionFactory, defaultTtl,
+                        exerciseDayTtl, exerciseWeekTtl, exerciseMonthTtl, calendarMonthTtl, memberAuthStateTtl),
+                stringRedisTemplate, localMaximumSize, localTtl);
+    }
+
+    // 다른 노드가 보낸 캐시 무효화 메시지를 받아 L1 에서 지웁니다.
     @Bean
-    public CacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory){
-        // Redis 캐시 설정을 구성합니다.
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                            TwoTierCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(TwoTierCacheManager.INVALIDATION_CHANNEL));
+        return container;
+    }
+
+    // 계층별(tier=l1|l2) 캐시 hit/miss 지표를 등록합니다.
+    @Bean
+    public CacheMeterBinderProvider<TwoTierCache> twoTierCacheMeterBinderProvider() {
+        return (cache, tags) -> registry -> {
+            new CaffeineCacheMetrics<>(cache.getLocalCache(), cache.getName(), Tags.concat(tags, "tier", "l1"))
+                    .bindTo(registry);
+            if (cache.getRemoteCache() instanceof RedisCache) {
+                new RedisCacheMetrics((RedisCache) cache.getRemoteCache(), Tags.concat(tags, "tier", "l2"))
+                        .bindTo(registry);
+            }
+        };
+    }
+
+    // L2 로 쓰는 Redis CacheManager를 구성하는 메서드
+    RedisCacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory, Duration defaultTtl,
+                                        Duration exerciseDayTtl, Duration exerciseWeekTtl, Duration exerciseMonthTtl,
+                                        Duration calendarMonthTtl, Duration memberAuthStateTtl){
+        // Redis 캐시 설정을 구성합니다. 변경 시 명시적으로 지우므로 TTL 은 지우지 못한 항목의 상한입니다.
         RedisCacheConfiguration configuration = RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(defaultTtl)
+                .disableCachingNullValues()
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()));
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        new GenericJackson2JsonRedisSerializer(cacheObjectMapper())));
 
         // RedisCacheManager를 생성하여 반환합니다.
+        // 캐시를 미리 만들어 두어야 시작 시점에 캐시별 hit/miss 지표(cache.gets)가 등록됩니다.
         return RedisCacheManager.RedisCacheManagerBuilder.fromConnectionFactory(redisConnectionFactory)
-                .cacheDefaults(configuration).build();
+                .cacheDefaults(configuration)
+                .withInitialCacheConfigurations(Map.of(
+                        ExerciseCacheKeys.DAY, configuration.entryTtl(exerciseDayTtl),
+                        ExerciseCacheKeys.WEEK, configuration.entryTtl(exerciseWeekTtl),
+                        ExerciseCacheKeys.MONTH, configuration.entryTtl(exerciseMonthTtl),
+                        CalendarCacheKeys.MONTH, configuration.entryTtl(calendarMonthTtl),
+                        MemberAuthStateCache.NAME, configuration.entryTtl(memberAuthStateTtl)))
+                .enableStatistics()
+                .build();
+    }
+
+    // LocalDateTime 을 포함한 응답 객체를 타입 정보와 함께 저장합니다.
+    private static ObjectMapper cacheObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.activateDefaultTyping(LaissezFaireSubTypeValidator.instance,
+                ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+        return objectMapper;
     }
 
     // Redis 연결 팩토리를 구성하는 메서드
@@ -0,0 +1,155 @@
+package com.example.healthcare.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * 노드 메모리의 L1(Caffeine)을 Redis 캐시(L2) 앞에 둔 캐시입니다.
+ * 조회는 L1 → L2 → 원본 순으로 하고, 삭제와 putAndPublish 는 두 계층을 바꾼 뒤 다른 노드에 알립니다.
+ * L1 은 다른 노드의 변경을 메시지로만 알 수 있으므로 메시지가 유실돼도 짧은 TTL 안에 만료됩니다.
+ */
+public class TwoTierCache implements org.springframework.cache.Cache, BatchEvictingCache, WriteThroughCache {
+
+    private final String name;
+    private final Cache<String, Object> localCache;
+    private final org.springframework.cache.Cache remoteCache;
+    private final TwoTierCacheManager cacheManager;
+
+    TwoTierCache(String name, Cache<String, Object> localCache, org.springframework.cache.Cache remoteCache,
+                 TwoTierCacheManager cacheManager) {
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remoteCache.getNativeCache();
+    }
+
+    public Cache<String, Object> getLocalCache() {
+        return localCache;
+    }
+
+    public org.springframework.cache.Cache getRemoteCache() {
+        return remoteCache;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        Object value = localCache.getIfPresent(localKey);
+        if (value != null) {
+            return new SimpleValueWrapper(value);
+        }
+        ValueWrapper wrapper = remoteCache.get(key);
+        if (wrapper != null && wrapper.get() != null) {
+            localCache.put(localKey, wrapper.get());
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper == null ? null : wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값의 타입이 " + type.getName() + " 이 아닙니다: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        // 같은 노드에서 동시에 놓친 요청은 한 번만 L2/원본을 읽습니다.
+        return (T) localCache.get(localKey(key), localKey -> remoteCache.get(key, valueLoader));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remoteCache.put(key, value);
+        if (value != null) {
+            localCache.put(localKey(key), value);
+        }
+    }
+
+    /**
+     * L2 에 값이 있으면 그 값을 L1 에 두고 반환합니다. 조회 중에 다른 요청이 써 둔 최신 값을 덮어쓰지 않습니다.
+     */
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remoteCache.putIfAbsent(key, value);
+        Object stored = existing == null ? value : existing.get();
+        if (stored != null) {
+            localCache.put(localKey(key), stored);
+        }
+        return existing;
+    }
+
+    /**
+     * 두 계층에 쓴 뒤 다른 노드의 L1 을 지웁니다. 다른 노드는 다음 조회에서 L2 의 새 값을 읽습니다.
+     */
+    @Override
+    public void putAndPublish(Object key, Object value) {
+        put(key, value);
+        cacheManager.publishEviction(name, localKey(key));
+    }
+
+    @Override
+    public void evict(Object key) {
+        remoteCache.evict(key);
+        localCache.invalidate(localKey(key));
+        cacheManager.publishEviction(name, localKey(key));
+    }
+
+    /**
+     * 여러 키를 지우고 다른 노드에는 묶어서 알립니다. 키마다 메시지를 보내는 evict 보다 방송 수가 적습니다.
+     */
+    @Override
+    public void evictAll(Collection<?> keys) {
+        List<String> localKeys = new ArrayList<>(keys.size());
+        for (Object key : keys) {
+            remoteCache.evict(key);
+            localKeys.add(localKey(key));
+        }
+        if (localKeys.isEmpty()) {
+            return;
+        }
+        localCache.invalidateAll(localKeys);
+        cacheManager.publishEvictions(name, localKeys);
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        localCache.invalidateAll();
+        cacheManager.publishEviction(name, null);
+    }
+
+    // 다른 노드에서 온 무효화 메시지를 반영합니다. L2 는 보낸 노드가 이미 지웠습니다.
+    void evictLocal(String localKey) {
+        if (localKey == null) {
+            localCache.invalidateAll();
+        } else {
+            localCache.invalidate(localKey);
+        }
+    }
+
+    // Redis 캐시 키와 마찬가지로 문자열로 맞춰, 메시지로 받은 키와 비교할 수 있게 합니다.
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
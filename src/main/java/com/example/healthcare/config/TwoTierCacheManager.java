@@ -0,0 +1,114 @@
+package com.example.healthcare.config;
+
+import com.example.healthcare.util.QueryChunks;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 캐시마다 노드 메모리의 L1 을 Redis 캐시(L2) 앞에 붙이는 CacheManager 입니다.
+ * 삭제는 Redis 채널로 방송하여 모든 노드가 자신의 L1 항목을 지웁니다.
+ * 메시지 형식: {노드 ID}\n{캐시 이름}[\n{키}...] (키가 없으면 캐시 전체)
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager, MessageListener, InitializingBean {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+    // 한 메시지에 담을 최대 키 수 (메시지가 지나치게 커지지 않도록 나눠 보냅니다)
+    static final int KEYS_PER_MESSAGE = 500;
+
+    private final CacheManager remoteCacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final long localMaximumSize;
+    private final Duration localTtl;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager remoteCacheManager, StringRedisTemplate redisTemplate,
+                               long localMaximumSize, Duration localTtl) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.localMaximumSize = localMaximumSize;
+        this.localTtl = localTtl;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        if (remoteCacheManager instanceof InitializingBean) {
+            ((InitializingBean) remoteCacheManager).afterPropertiesSet();
+        }
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoTierCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remoteCache = remoteCacheManager.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, key -> new TwoTierCache(key, Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build(), remoteCache, this));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    void publishEviction(String cacheName, String key) {
+        send(cacheName, nodeId + "\n" + cacheName + (key == null ? "" : "\n" + key));
+    }
+
+    void publishEvictions(String cacheName, List<String> keys) {
+        for (List<String> chunk : QueryChunks.partition(keys, KEYS_PER_MESSAGE)) {
+            send(cacheName, nodeId + "\n" + cacheName + "\n" + String.join("\n", chunk));
+        }
+    }
+
+    private void send(String cacheName, String message) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        } catch (RuntimeException e) {
+            // 방송에 실패해도 다른 노드의 L1 은 TTL 안에 만료됩니다.
+            log.warn("캐시 무효화 메시지 전송 실패 ({}): {}", cacheName, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\n");
+        if (parts.length < 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+        TwoTierCache cache = caches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+        if (parts.length == 2) {
+            cache.evictLocal(null);
+            return;
+        }
+        for (int i = 2; i < parts.length; i++) {
+            cache.evictLocal(parts[i]);
+        }
+    }
+}
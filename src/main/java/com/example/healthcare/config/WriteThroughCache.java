@@ -0,0 +1,23 @@
+package com.example.healthcare.config;
+
+import org.springframework.cache.Cache;
+
+/**
+ * 새 값을 쓰면서 다른 노드의 로컬 캐시도 무효화할 수 있는 캐시입니다.
+ * 지우기만 하면 그 사이 옛 값을 읽은 요청이 다시 채울 수 있으므로, 변경 직후 최신 값을 직접 씁니다.
+ */
+public interface WriteThroughCache {
+
+    void putAndPublish(Object key, Object value);
+
+    /**
+     * 캐시가 지원하면 다른 노드에도 알리고, 아니면 그냥 씁니다.
+     */
+    static void put(Cache cache, Object key, Object value) {
+        if (cache instanceof WriteThroughCache) {
+            ((WriteThroughCache) cache).putAndPublish(key, value);
+            return;
+        }
+        cache.put(key, value);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.healthcare.controller;
+
+import com.example.healthcare.controller.response.calendar.CalendarMonthResponse;
+import com.example.healthcare.domain.memeber.MemberPrincipal;
+import com.example.healthcare.service.CalendarSummaryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/calendar")
+public class CalendarController {
+
+    private final CalendarSummaryService calendarSummaryService;
+
+    /**
+     * 달력 화면용 월간 요약을 조회하는 엔드포인트입니다.
+     *
+     * @param member     현재 로그인한 회원 정보
+     * @param selectDate 조회하려는 월 (yyyy-MM)
+     * @return           일자별 운동/식단 상태 개수
+     */
+    @GetMapping("/month")
+    public ResponseEntity<CalendarMonthResponse> myCalendarForMonth(@AuthenticationPrincipal MemberPrincipal member,
+                                                                    @RequestParam String selectDate) {
+        return ResponseEntity.ok(calendarSummaryService.getMonth(member.getId(), selectDate));
+    }
+}
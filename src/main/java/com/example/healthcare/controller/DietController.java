@@ -1,15 +1,21 @@
 package com.example.healthcare.controller;
 
 import com.example.healthcare.controller.request.diet.DietRequest;
+import com.example.healthcare.controller.response.diet.DietHistoryPageResponse;
 import com.example.healthcare.controller.response.diet.DietWithImgResponse;
-import com.example.healthcare.domain.memeber.Member;
+import com.example.healthcare.controller.response.diet.NutritionSummaryResponse;
+import com.example.healthcare.domain.memeber.MemberPrincipal;
+import com.example.healthcare.service.DailyNutritionSummaryService;
+import com.example.healthcare.service.DietHistoryExporter;
 import com.example.healthcare.service.DietService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -21,8 +27,10 @@ import java.util.Map;
 public class DietController {
 
     private final DietService dietService;
+    private final DailyNutritionSummaryService dailyNutritionSummaryService;
+    private final DietHistoryExporter dietHistoryExporter;
     @PostMapping("/register")
-    public ResponseEntity<String> registerDiet(@AuthenticationPrincipal Member member,
+    public ResponseEntity<String> registerDiet(@AuthenticationPrincipal MemberPrincipal member,
                                                @RequestPart("dietDate") String dietDate,
                                                @RequestPart("dietRequests") List<DietRequest> dietRequests,
                                                @RequestPart(value = "files", required = false) List<MultipartFile> files) {
@@ -33,7 +41,7 @@ public class DietController {
 
     @GetMapping("")
     public ResponseEntity<DietWithImgResponse> myDietForDate(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @RequestParam String selectDate) {
         return ResponseEntity.ok(dietService.myDietForDate(member.getId(), selectDate));
     }
@@ -41,34 +49,72 @@ public class DietController {
 
     @GetMapping("/week")
     public ResponseEntity<DietWithImgResponse> myDietForWeek(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @RequestParam String selectDate) {
         return ResponseEntity.ok(dietService.myDietForWeek(member.getId(), selectDate));
     }
 
     @GetMapping("/month")
     public ResponseEntity<DietWithImgResponse> myDietForMonth(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @RequestParam String selectDate) {
         return ResponseEntity.ok(dietService.myDietForMonth(member.getId(), selectDate));
     }
 
 
+    @GetMapping("/nutrition/week")
+    public ResponseEntity<NutritionSummaryResponse> myNutritionForWeek(
+            @AuthenticationPrincipal MemberPrincipal member,
+            @RequestParam String selectDate) {
+        return ResponseEntity.ok(dailyNutritionSummaryService.getWeeklySummary(member.getId(), selectDate));
+    }
+
+    @GetMapping("/nutrition/month")
+    public ResponseEntity<NutritionSummaryResponse> myNutritionForMonth(
+            @AuthenticationPrincipal MemberPrincipal member,
+            @RequestParam String selectDate) {
+        return ResponseEntity.ok(dailyNutritionSummaryService.getMonthlySummary(member.getId(), selectDate));
+    }
+
+    @GetMapping("/nutrition/year")
+    public ResponseEntity<NutritionSummaryResponse> myNutritionForYear(
+            @AuthenticationPrincipal MemberPrincipal member,
+            @RequestParam String selectDate) {
+        return ResponseEntity.ok(dailyNutritionSummaryService.getYearlySummary(member.getId(), selectDate));
+    }
+
+
     @GetMapping("/my-all-diets")
-    public ResponseEntity<DietWithImgResponse> getAllDiets(@AuthenticationPrincipal Member member) {
+    public ResponseEntity<DietWithImgResponse> getAllDiets(@AuthenticationPrincipal MemberPrincipal member) {
         return ResponseEntity.ok(dietService.getAllDiets(member.getId()));
     }
 
+    @GetMapping("/my-all-diets/page")
+    public ResponseEntity<DietHistoryPageResponse> getDietHistoryPage(
+            @AuthenticationPrincipal MemberPrincipal member,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(dietService.getDietHistoryPage(member.getId(), cursor, size));
+    }
+
+    @GetMapping(value = "/my-all-diets/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportAllDiets(@AuthenticationPrincipal MemberPrincipal member) {
+        Long userId = member.getId();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> dietHistoryExporter.export(userId, out));
+    }
+
     @GetMapping("/my-diet-detail/{dietId}")
     public ResponseEntity<DietWithImgResponse> getDetailDiets(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @PathVariable Long dietId) {
         return ResponseEntity.ok(dietService.getDetailDiets(member.getId(), dietId));
     }
 
     @PutMapping("/success")
     public ResponseEntity<String> dietSuccess(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @RequestParam Long dietId,
             @RequestParam Long dietInfoId
     ){
@@ -79,19 +125,20 @@ public class DietController {
 
     @PutMapping("/my-diet-detail/{dietId}/update")
     public ResponseEntity<String> updateDiet(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @PathVariable Long dietId,
             @RequestPart("dietDate") String dietDate,
             @RequestPart("dietRequests")List<DietRequest> dietRequests,
+            @RequestPart(value = "keepImageIds", required = false)List<Long> keepImageIds,
             @RequestPart(value = "files", required = false)List<MultipartFile> files
     ) {
-        dietService.updateDiet(member.getId(), dietId, dietDate, dietRequests, files);
+        dietService.updateDiet(member.getId(), dietId, dietDate, dietRequests, keepImageIds, files);
         return ResponseEntity.ok("식단 정보가 수정 되었습니다.");
     }
 
 
     @DeleteMapping("/my-diet-detail/{dietId}/delete")
-    public ResponseEntity<String> deleteDiet(@AuthenticationPrincipal Member member,
+    public ResponseEntity<String> deleteDiet(@AuthenticationPrincipal MemberPrincipal member,
                                              @PathVariable Long dietId){
         dietService.deleteDiet(member.getId(), dietId);
         return ResponseEntity.ok("식단 삭제가 완료 되었습니다.");
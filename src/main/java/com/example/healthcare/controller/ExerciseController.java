@@ -1,9 +1,14 @@
 package com.example.healthcare.controller;
 
 import com.example.healthcare.controller.request.exercise.ExerciseRequest;
+import com.example.healthcare.controller.response.exercise.ExercisePageResponse;
 import com.example.healthcare.controller.response.exercise.ExerciseResponse;
-import com.example.healthcare.domain.memeber.Member;
+import com.example.healthcare.controller.response.exercise.ExerciseVolumeResponse;
+import com.example.healthcare.controller.response.exercise.PersonalRecordResponse;
+import com.example.healthcare.domain.enumType.exercise.ExerciseRole;
+import com.example.healthcare.domain.memeber.MemberPrincipal;
 import com.example.healthcare.service.ExerciseService;
+import com.example.healthcare.service.ExerciseVolumeService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -20,9 +25,10 @@ import java.util.Map;
 public class ExerciseController {
 
     private final ExerciseService exerciseService;
+    private final ExerciseVolumeService exerciseVolumeService;
 
     @PostMapping("/register")
-    public ResponseEntity<String> registerExercise(@AuthenticationPrincipal Member member,
+    public ResponseEntity<String> registerExercise(@AuthenticationPrincipal MemberPrincipal member,
                                                    @RequestBody List<ExerciseRequest>  requests) {
         exerciseService.registerExercise(member.getId(), requests);
         return ResponseEntity.ok("운동 계획이 등록되었습니다.");
@@ -39,7 +45,7 @@ public class ExerciseController {
      */
     @GetMapping("")
     public ResponseEntity<List<ExerciseResponse>> myExerciseForDay(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @RequestParam String selectDate) {
 
         List<ExerciseResponse> exerciseResponses = exerciseService.myExerciseForDate(member.getId(), selectDate);
@@ -57,7 +63,7 @@ public class ExerciseController {
      */
     @GetMapping("/week")
     public ResponseEntity<List<ExerciseResponse>> myExercisesForWeek(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @RequestParam String selectDate) {
 
         log.info(member.getId().toString()+"의 "+selectDate+" 주 조회");
@@ -73,7 +79,7 @@ public class ExerciseController {
      */
     @GetMapping("/month")
     public ResponseEntity<List<ExerciseResponse>> myExercisesForMonth(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @RequestParam String selectDate) {
 
         log.info(member.getId().toString()+"의 "+selectDate+" 월 조회");
@@ -89,7 +95,7 @@ public class ExerciseController {
      * @return            삭제 결과 메시지 또는 예외 상태 응답
      */
     @DeleteMapping("/delete")
-    public ResponseEntity<String> deleteExercise(@AuthenticationPrincipal Member member,
+    public ResponseEntity<String> deleteExercise(@AuthenticationPrincipal MemberPrincipal member,
                                                  @RequestParam Long exerciseId) {
 
         exerciseService.deleteExercise(member.getId(), exerciseId);
@@ -97,7 +103,7 @@ public class ExerciseController {
     }
 
     @PutMapping("/update")
-    public ResponseEntity<String> updateExercise(@AuthenticationPrincipal Member member,
+    public ResponseEntity<String> updateExercise(@AuthenticationPrincipal MemberPrincipal member,
                                                  @RequestParam Long exerciseId,
                                                  @RequestBody ExerciseRequest request) {
 
@@ -106,7 +112,7 @@ public class ExerciseController {
     }
 
     @PutMapping("/success")
-    public ResponseEntity<String> successExercise(@AuthenticationPrincipal Member member,
+    public ResponseEntity<String> successExercise(@AuthenticationPrincipal MemberPrincipal member,
                                                  @RequestParam Long exerciseId) {
 
         exerciseService.successExercise(member.getId(), exerciseId);
@@ -121,7 +127,42 @@ public class ExerciseController {
     }
 
     @GetMapping("/my-all-exercises")
-    public ResponseEntity<List<ExerciseResponse>> getAllExercises(@AuthenticationPrincipal Member member) {
+    public ResponseEntity<List<ExerciseResponse>> getAllExercises(@AuthenticationPrincipal MemberPrincipal member) {
         return ResponseEntity.ok(exerciseService.getAllExercises(member.getId()));
     }
+
+    @GetMapping("/my-all-exercises/page")
+    public ResponseEntity<ExercisePageResponse> getExercisePage(
+            @AuthenticationPrincipal MemberPrincipal member,
+            @RequestParam(required = false) String sports,
+            @RequestParam(required = false) ExerciseRole status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(exerciseService.getExercisePage(member.getId(), sports, status, cursor, size));
+    }
+
+    /**
+     * 한 종목의 주간 운동량 추이를 조회하는 엔드포인트입니다.
+     *
+     * @param member 현재 로그인한 회원 정보
+     * @param sports 종목
+     * @param from   시작 날짜 (yyyy-MM-dd)
+     * @param to     종료 날짜 (yyyy-MM-dd)
+     * @return       주별 운동량 (완료한 세트가 없는 주는 0)
+     */
+    @GetMapping("/volume")
+    public ResponseEntity<List<ExerciseVolumeResponse>> getWeeklyVolume(@AuthenticationPrincipal MemberPrincipal member,
+                                                                        @RequestParam String sports,
+                                                                        @RequestParam String from,
+                                                                        @RequestParam String to) {
+        return ResponseEntity.ok(exerciseVolumeService.getWeeklyVolume(member.getId(), sports, from, to));
+    }
+
+    /**
+     * 종목별 개인 기록(최대 무게, 최대 주간 운동량)을 조회하는 엔드포인트입니다.
+     */
+    @GetMapping("/personal-records")
+    public ResponseEntity<List<PersonalRecordResponse>> getPersonalRecords(@AuthenticationPrincipal MemberPrincipal member) {
+        return ResponseEntity.ok(exerciseVolumeService.getPersonalRecords(member.getId()));
+    }
 }
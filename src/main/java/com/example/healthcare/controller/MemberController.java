@@ -4,7 +4,7 @@ import com.example.healthcare.controller.request.member.AuthenticationRequest;
 import com.example.healthcare.controller.request.member.MemberRequest;
 import com.example.healthcare.controller.response.member.AuthenticationResponse;
 import com.example.healthcare.controller.response.member.MemberResponse;
-import com.example.healthcare.domain.memeber.Member;
+import com.example.healthcare.domain.memeber.MemberPrincipal;
 import com.example.healthcare.service.MemberService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -77,7 +77,7 @@ public class MemberController {
      * @return 회원 탈퇴 결과 및 응답
      */
     @DeleteMapping("/delete")
-    public ResponseEntity<String> delete(@AuthenticationPrincipal Member member,
+    public ResponseEntity<String> delete(@AuthenticationPrincipal MemberPrincipal member,
                                          @RequestBody AuthenticationRequest request) {
         memberService.delete(member.getUserId(), request);
         return ResponseEntity.ok("회원 삭제를 완료하였습니다");
@@ -90,7 +90,7 @@ public class MemberController {
      * @return 공개 전환 결과 및 응답
      */
     @PutMapping("/changeDisclosure")
-    public ResponseEntity<String> changeDisclosure(@AuthenticationPrincipal Member member) {
+    public ResponseEntity<String> changeDisclosure(@AuthenticationPrincipal MemberPrincipal member) {
         log.info(member.getUserId());
         memberService.changeDisclosure(member.getUserId());
         return ResponseEntity.ok("나의 공개 정보가 변경 되었습니다.");
@@ -104,7 +104,7 @@ public class MemberController {
      * @return 회원 정보 조회 결과 및 응답
      */
     @GetMapping("/memberInfo")
-    public ResponseEntity<MemberResponse> memberInfo(@AuthenticationPrincipal Member member,
+    public ResponseEntity<MemberResponse> memberInfo(@AuthenticationPrincipal MemberPrincipal member,
                                                      @RequestBody AuthenticationRequest request) {
         MemberResponse memberResponse = memberService.getMemberInfoByUserId(member.getUserId(), request);
         return ResponseEntity.ok(memberResponse);
@@ -118,7 +118,7 @@ public class MemberController {
      * @return 계정 정보 변경 결과 및 응답
      */
     @PutMapping("/update")
-    public ResponseEntity<String> update(@AuthenticationPrincipal Member member,
+    public ResponseEntity<String> update(@AuthenticationPrincipal MemberPrincipal member,
                                          @RequestBody MemberRequest request) {
         memberService.update(member.getUserId(), request);
         return ResponseEntity.ok("나의 정보가 변경 되었습니다.");
@@ -12,7 +12,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class DietRequest {
 
-
+    // 수정 시 기존 식단 정보의 ID (새로 추가하는 항목은 null)
+    private Long id;
     private String foodName;
     private Double carbohydrate;
     private Double protein;
@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -15,6 +17,13 @@ public class ExerciseRequest {
     private int cnt;
     private int breakTime;
     private String exerciseDate;
+    // 세트별 무게/횟수 (없으면 weight/cnt/breakTime 을 한 세트로 봅니다)
+    private List<ExerciseSetRequest> sets;
 
-
+    public List<ExerciseSetRequest> resolveSets() {
+        if (sets == null || sets.isEmpty()) {
+            return List.of(new ExerciseSetRequest(weight, cnt, breakTime));
+        }
+        return sets;
+    }
 }
@@ -15,4 +15,5 @@ public class AuthenticationRequest {
     private String email;
     private String password;
     private String nickname;
+    private String timeZone;
 }
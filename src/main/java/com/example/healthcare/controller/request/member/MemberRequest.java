@@ -18,5 +18,6 @@ public class MemberRequest {
     private Double height;
     private Double weight;
     private Double muscleMass;
+    private String timeZone;
 }
 
@@ -0,0 +1,27 @@
+package com.example.healthcare.controller.response.calendar;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 한 달의 일자별 운동/식단 상태 개수입니다.
+ * days[일 - 1] 은 exerciseStatuses 순서의 운동 세션 수 뒤에 dietStatuses 순서의 식단 항목 수를 이어 붙인 배열입니다.
+ * 예) exerciseStatuses = [COMPLETE, INCOMPLETE, SCHEDULED_TO_BE_COMPLETED],
+ *     dietStatuses = [COMPLETE, INCOMPLETE, SCHEDULED_TO_BE_EAT] 이면 [2, 0, 1, 3, 0, 0]
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class CalendarMonthResponse {
+
+    // yyyy-MM
+    private String month;
+    private List<String> exerciseStatuses;
+    private List<String> dietStatuses;
+    private int[][] days;
+}
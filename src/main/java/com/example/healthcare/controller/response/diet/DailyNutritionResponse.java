@@ -0,0 +1,40 @@
+package com.example.healthcare.controller.response.diet;
+
+import com.example.healthcare.domain.diet.DailyNutritionSummary;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class DailyNutritionResponse {
+
+    private LocalDate date;
+    private double plannedKcal;
+    private double plannedCarbohydrate;
+    private double plannedProtein;
+    private double plannedFat;
+    private double completedKcal;
+    private double completedCarbohydrate;
+    private double completedProtein;
+    private double completedFat;
+
+    public static DailyNutritionResponse createDailyNutritionResponse(DailyNutritionSummary summary) {
+        return DailyNutritionResponse.builder()
+                .date(summary.getSummaryDate())
+                .plannedKcal(summary.getPlannedKcal())
+                .plannedCarbohydrate(summary.getPlannedCarbohydrate())
+                .plannedProtein(summary.getPlannedProtein())
+                .plannedFat(summary.getPlannedFat())
+                .completedKcal(summary.getCompletedKcal())
+                .completedCarbohydrate(summary.getCompletedCarbohydrate())
+                .completedProtein(summary.getCompletedProtein())
+                .completedFat(summary.getCompletedFat())
+                .build();
+    }
+}
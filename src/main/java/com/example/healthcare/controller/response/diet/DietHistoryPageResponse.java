@@ -0,0 +1,20 @@
+package com.example.healthcare.controller.response.diet;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 식단 기록 페이지 응답. nextCursor 가 null 이면 마지막 페이지입니다.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class DietHistoryPageResponse {
+    private List<DietHistoryResponse> diets;
+    private String nextCursor;
+}
@@ -0,0 +1,35 @@
+package com.example.healthcare.controller.response.diet;
+
+import com.example.healthcare.domain.diet.Diet;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 식단 하나와 그 식단의 식단 정보, 이미지를 담은 응답입니다.
+ * 식단 기록 페이지 조회와 NDJSON 내보내기의 한 줄에 사용합니다.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class DietHistoryResponse {
+    private Long dietId;
+    private LocalDate dietDate;
+    private List<DietInfoResponse> dietResponses;
+    private List<DietImgUrlResponse> dietImgUrlResponses;
+
+    public static DietHistoryResponse createDietHistoryResponse(Diet diet, DietWithImgResponse dietWithImg) {
+        return DietHistoryResponse.builder()
+                .dietId(diet.getId())
+                .dietDate(diet.getDietDate())
+                .dietResponses(dietWithImg != null ? dietWithImg.getDietResponses() : new ArrayList<>())
+                .dietImgUrlResponses(dietWithImg != null ? dietWithImg.getDietImgUrlResponses() : new ArrayList<>())
+                .build();
+    }
+}
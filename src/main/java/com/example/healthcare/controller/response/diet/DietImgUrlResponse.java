@@ -14,6 +14,8 @@ public class DietImgUrlResponse {
     private Long id;
     private Long dietId;
     private String imgUrl;
+    private String mediumUrl;
+    private String thumbnailUrl;
 
 
     public static DietImgUrlResponse createDietImgUrlResponse(DietImageUrl url){
@@ -21,6 +23,8 @@ public class DietImgUrlResponse {
                 .id(url.getId())
                 .dietId(url.getDietId())
                 .imgUrl(url.getImgUrl())
+                .mediumUrl(url.getMediumUrl())
+                .thumbnailUrl(url.getThumbnailUrl())
                 .build();
     }
 }
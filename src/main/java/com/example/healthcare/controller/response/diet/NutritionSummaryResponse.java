@@ -0,0 +1,45 @@
+package com.example.healthcare.controller.response.diet;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 기간별 영양 합계 응답. total 은 기간 전체 합계, days 는 기록이 있는 날짜별 합계입니다.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class NutritionSummaryResponse {
+
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private DailyNutritionResponse total;
+    private List<DailyNutritionResponse> days;
+
+    public static NutritionSummaryResponse createNutritionSummaryResponse(
+            LocalDate startDate, LocalDate endDate, List<DailyNutritionResponse> days) {
+        DailyNutritionResponse total = new DailyNutritionResponse();
+        for (DailyNutritionResponse day : days) {
+            total.setPlannedKcal(total.getPlannedKcal() + day.getPlannedKcal());
+            total.setPlannedCarbohydrate(total.getPlannedCarbohydrate() + day.getPlannedCarbohydrate());
+            total.setPlannedProtein(total.getPlannedProtein() + day.getPlannedProtein());
+            total.setPlannedFat(total.getPlannedFat() + day.getPlannedFat());
+            total.setCompletedKcal(total.getCompletedKcal() + day.getCompletedKcal());
+            total.setCompletedCarbohydrate(total.getCompletedCarbohydrate() + day.getCompletedCarbohydrate());
+            total.setCompletedProtein(total.getCompletedProtein() + day.getCompletedProtein());
+            total.setCompletedFat(total.getCompletedFat() + day.getCompletedFat());
+        }
+        return NutritionSummaryResponse.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .total(total)
+                .days(days)
+                .build();
+    }
+}
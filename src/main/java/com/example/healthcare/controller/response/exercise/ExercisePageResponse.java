@@ -0,0 +1,17 @@
+package com.example.healthcare.controller.response.exercise;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class ExercisePageResponse {
+    private List<ExerciseResponse> exercises;
+    private String nextCursor;
+}
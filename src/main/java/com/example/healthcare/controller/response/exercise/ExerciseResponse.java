@@ -10,6 +10,8 @@ import lombok.NoArgsConstructor;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Data
 @Builder
@@ -25,9 +27,14 @@ public class ExerciseResponse {
 
     @Enumerated(EnumType.STRING)
     private ExerciseRole status;
+    private List<ExerciseSetResponse> sets;
 
 
     public static ExerciseResponse createFromExercise(Exercise exercise) {
+        return createFromExercise(exercise, new ArrayList<>());
+    }
+
+    public static ExerciseResponse createFromExercise(Exercise exercise, List<ExerciseSetResponse> sets) {
         return ExerciseResponse.builder()
                 .id(exercise.getId())
                 .sports(exercise.getSports())
@@ -36,6 +43,7 @@ public class ExerciseResponse {
                 .breakTime(exercise.getBreakTime())
                 .exerciseDate(exercise.getExerciseDate())
                 .status(exercise.getStatus())
+                .sets(sets)
                 .build();
     }
 
@@ -0,0 +1,29 @@
+package com.example.healthcare.controller.response.exercise;
+
+import com.example.healthcare.domain.exercise.ExerciseSet;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExerciseSetResponse {
+    private Long id;
+    private int setOrder;
+    private int weight;
+    private int cnt;
+    private int breakTime;
+
+    public static ExerciseSetResponse createFromExerciseSet(ExerciseSet exerciseSet) {
+        return ExerciseSetResponse.builder()
+                .id(exerciseSet.getId())
+                .setOrder(exerciseSet.getSetOrder())
+                .weight(exerciseSet.getWeight())
+                .cnt(exerciseSet.getCnt())
+                .breakTime(exerciseSet.getBreakTime())
+                .build();
+    }
+}
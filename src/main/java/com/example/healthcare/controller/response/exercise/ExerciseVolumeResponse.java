@@ -0,0 +1,38 @@
+package com.example.healthcare.controller.response.exercise;
+
+import com.example.healthcare.domain.exercise.ExerciseVolumeSummary;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class ExerciseVolumeResponse {
+
+    // 주의 월요일
+    private LocalDate weekStart;
+    private long volume;
+    private int maxWeight;
+    private int completedSets;
+
+    public static ExerciseVolumeResponse createExerciseVolumeResponse(ExerciseVolumeSummary summary) {
+        return ExerciseVolumeResponse.builder()
+                .weekStart(summary.getWeekStart())
+                .volume(summary.getVolume())
+                .maxWeight(summary.getMaxWeight())
+                .completedSets(summary.getCompletedSets())
+                .build();
+    }
+
+    // 완료한 세트가 없는 주
+    public static ExerciseVolumeResponse createEmptyExerciseVolumeResponse(LocalDate weekStart) {
+        return ExerciseVolumeResponse.builder()
+                .weekStart(weekStart)
+                .build();
+    }
+}
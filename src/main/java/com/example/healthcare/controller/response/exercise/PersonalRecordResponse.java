@@ -0,0 +1,24 @@
+package com.example.healthcare.controller.response.exercise;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 종목별 개인 기록입니다. 기록을 처음 세운 주(월요일)를 함께 돌려줍니다.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class PersonalRecordResponse {
+
+    private String sports;
+    private int maxWeight;
+    private LocalDate maxWeightWeek;
+    private long bestWeeklyVolume;
+    private LocalDate bestWeeklyVolumeWeek;
+}
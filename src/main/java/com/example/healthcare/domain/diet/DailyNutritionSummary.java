@@ -0,0 +1,43 @@
+package com.example.healthcare.domain.diet;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * 사용자별 하루 영양 합계 (읽기 모델).
+ * DietService 가 식단 정보를 바꿀 때마다 증감분을 더해 갱신하며, planned 는 그날 계획한 전체,
+ * completed 는 COMPLETE 처리된 항목만의 합계입니다. 지방은 불포화/트랜스/포화 지방의 합입니다.
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_daily_nutrition_summary_user_date", columnNames = {"userId", "summaryDate"}))
+public class DailyNutritionSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+    @Column(nullable = false)
+    private LocalDate summaryDate;
+
+    private double plannedKcal;
+    private double plannedCarbohydrate;
+    private double plannedProtein;
+    private double plannedFat;
+
+    private double completedKcal;
+    private double completedCarbohydrate;
+    private double completedProtein;
+    private double completedFat;
+}
@@ -5,8 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import javax.persistence.Entity;
-import javax.persistence.Id;
+import javax.persistence.*;
 import java.time.LocalDate;
 
 @Entity
@@ -14,17 +13,27 @@ import java.time.LocalDate;
 @AllArgsConstructor
 @NoArgsConstructor
 @Data
+@Table(indexes = {
+        // 사용자별 기간 조회와 목록 페이지 (userId 만 쓰는 조회도 앞부분으로 처리합니다)
+        @Index(name = "idx_diet_user_date", columnList = "userId, dietDate"),
+        // 날짜로만 찾는 조회 (공개 피드, 보조 상태 변경 작업)
+        @Index(name = "idx_diet_date", columnList = "dietDate")
+})
 public class Diet {
 
+    // id_sequence 테이블에서 ID 블록을 받아 메모리에서 나눠주는 pooled 방식 (IdSequenceInitializer 참고)
     @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "diet_id_generator")
+    @TableGenerator(name = "diet_id_generator", table = "id_sequence",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "diet", allocationSize = 50)
     private Long id;
     private Long userId;
     private LocalDate dietDate;
 
 
-    public static Diet createDiet(Long id, Long userId, LocalDate dietDate){
+    public static Diet createDiet(Long userId, LocalDate dietDate){
         return Diet.builder()
-                .id(id)
                 .userId(userId)
                 .dietDate(dietDate)
                 .build();
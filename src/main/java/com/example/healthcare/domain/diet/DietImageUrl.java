@@ -1,26 +1,37 @@
 package com.example.healthcare.domain.diet;
 
+import com.example.healthcare.util.UploadedImage;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
 
 @Entity
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
+@Table(indexes = @Index(name = "idx_diet_image_url_diet_id", columnList = "dietId"))
 public class DietImageUrl {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     private Long dietId;
     private String imgUrl;
+    // 목록/상세 화면용 축소본 (크기 단계 도입 전 사진은 null)
+    private String mediumUrl;
+    private String thumbnailUrl;
+    // 사진 내용의 SHA-256 (중복 제거 도입 전 사진은 null)
+    @Column(length = 64)
+    private String contentHash;
 
 
     public static DietImageUrl createDietImageUrl(Long dietId, String imgUrl){
@@ -29,4 +40,14 @@ public class DietImageUrl {
                 .imgUrl(imgUrl)
                 .build();
     }
+
+    public static DietImageUrl createDietImageUrl(Long dietId, UploadedImage image){
+        return DietImageUrl.builder()
+                .dietId(dietId)
+                .imgUrl(image.getOriginal().getUrl())
+                .mediumUrl(image.getMedium().getUrl())
+                .thumbnailUrl(image.getThumbnail().getUrl())
+                .contentHash(image.getContentHash())
+                .build();
+    }
 }
@@ -14,10 +14,15 @@ import javax.persistence.*;
 @AllArgsConstructor
 @Builder
 @Entity
+@Table(indexes = @Index(name = "idx_diet_info_diet_status", columnList = "dietId, dietStatusRole"))
 public class DietInfo {
 
+    // 식단 항목을 배치로 INSERT 할 수 있도록 pooled 테이블 생성기를 씁니다. (IdSequenceInitializer 참고)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "diet_info_id_generator")
+    @TableGenerator(name = "diet_info_id_generator", table = "id_sequence",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "diet_info", allocationSize = 50)
     private Long id;
 
     private Long dietId;
@@ -50,4 +55,16 @@ public class DietInfo {
 
     }
 
+    public static DietInfo updateDietInfo(DietInfo dietInfo, DietRequest request){
+        dietInfo.setFoodName(request.getFoodName());
+        dietInfo.setCarbohydrate(request.getCarbohydrate());
+        dietInfo.setProtein(request.getProtein());
+        dietInfo.setUnsaturatedFat(request.getUnsaturatedFat());
+        dietInfo.setTransFat(request.getTransFat());
+        dietInfo.setSaturatedFat(request.getSaturatedFat());
+        dietInfo.setKcal(request.getKcal());
+        dietInfo.setDietTime(request.getDietTime());
+        return dietInfo;
+    }
+
 }
@@ -0,0 +1,9 @@
+package com.example.healthcare.domain.enumType.job;
+
+public enum JobRunStatus {
+    RUNNING,
+    SUCCEEDED,
+    FAILED,
+    // 실행 중에 노드가 죽어 끝나지 못한 실행 (다음 실행이 리스를 얻을 때 표시합니다)
+    ABANDONED,
+}
@@ -1,6 +1,7 @@
 package com.example.healthcare.domain.exercise;
 
 import com.example.healthcare.controller.request.exercise.ExerciseRequest;
+import com.example.healthcare.controller.request.exercise.ExerciseSetRequest;
 import com.example.healthcare.domain.enumType.exercise.ExerciseRole;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -15,13 +16,24 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Table(indexes = {
+        // 사용자별 기간 조회 (일/주/월 조회, 공개 피드의 회원 조인)와 (exerciseDate, id) 순 키셋 페이지
+        @Index(name = "idx_exercise_user_date", columnList = "userId, exerciseDate, id"),
+        // 보조 상태 변경 작업의 상태 + 기간 조회
+        @Index(name = "idx_exercise_status_date", columnList = "status, exerciseDate")
+})
 public class Exercise {
 
+    // IDENTITY 는 INSERT 마다 키를 받아야 해서 배치가 꺼지므로 Diet 와 같은 pooled 테이블 생성기를 씁니다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "exercise_id_generator")
+    @TableGenerator(name = "exercise_id_generator", table = "id_sequence",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "exercise", allocationSize = 50)
     private Long id;
     private Long userId;
     private String sports;
+    // 첫 세트의 값 (세트를 읽지 않는 이전 클라이언트 호환용, 세트별 값은 ExerciseSet)
     private int weight;
     private int cnt;
     private int breakTime;
@@ -31,22 +43,24 @@ public class Exercise {
     private ExerciseRole status;
 
     public static Exercise createExercise(Long userId, ExerciseRequest request, LocalDateTime exerciseDateTime){
+        ExerciseSetRequest firstSet = request.resolveSets().get(0);
         return Exercise.builder()
                 .userId(userId)
                 .sports(request.getSports())
-                .weight(request.getWeight())
-                .cnt(request.getCnt())
-                .breakTime(request.getBreakTime())
+                .weight(firstSet.getWeight())
+                .cnt(firstSet.getCnt())
+                .breakTime(firstSet.getBreakTime())
                 .exerciseDate(exerciseDateTime)
                 .status(ExerciseRole.SCHEDULED_TO_BE_COMPLETED)
                 .build();
     }
 
     public static Exercise updateExercise(Exercise exercise, ExerciseRequest request, LocalDateTime exerciseDateTime){
+        ExerciseSetRequest firstSet = request.resolveSets().get(0);
         exercise.setSports(request.getSports());
-        exercise.setCnt(request.getCnt());
-        exercise.setBreakTime(request.getBreakTime());
-        exercise.setWeight(request.getWeight());
+        exercise.setCnt(firstSet.getCnt());
+        exercise.setBreakTime(firstSet.getBreakTime());
+        exercise.setWeight(firstSet.getWeight());
         exercise.setExerciseDate(exerciseDateTime);
         return exercise;
     }
@@ -0,0 +1,55 @@
+package com.example.healthcare.domain.exercise;
+
+import com.example.healthcare.controller.request.exercise.ExerciseSetRequest;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * 운동 세션(Exercise)에 속한 한 세트입니다. 세트마다 무게와 횟수가 다를 수 있습니다.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(indexes = @Index(name = "idx_exercise_set_exercise_id", columnList = "exerciseId"))
+public class ExerciseSet {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "exercise_set_id_generator")
+    @TableGenerator(name = "exercise_set_id_generator", table = "id_sequence",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "exercise_set", allocationSize = 50)
+    private Long id;
+    private Long exerciseId;
+    // 세션 안에서의 세트 순서 (1부터)
+    private int setOrder;
+    private int weight;
+    private int cnt;
+    private int breakTime;
+
+    public static ExerciseSet createExerciseSet(Long exerciseId, int setOrder, ExerciseSetRequest request) {
+        return ExerciseSet.builder()
+                .exerciseId(exerciseId)
+                .setOrder(setOrder)
+                .weight(request.getWeight())
+                .cnt(request.getCnt())
+                .breakTime(request.getBreakTime())
+                .build();
+    }
+
+    // 세트 도입 전처럼 세트마다 따로 저장된 운동 행을 세트로 옮길 때 사용합니다.
+    public static ExerciseSet createExerciseSet(Long exerciseId, int setOrder, Exercise exercise) {
+        return ExerciseSet.builder()
+                .exerciseId(exerciseId)
+                .setOrder(setOrder)
+                .weight(exercise.getWeight())
+                .cnt(exercise.getCnt())
+                .breakTime(exercise.getBreakTime())
+                .build();
+    }
+}
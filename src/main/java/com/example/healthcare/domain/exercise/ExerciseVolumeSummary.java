@@ -0,0 +1,39 @@
+package com.example.healthcare.domain.exercise;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * 사용자별, 종목별 주간 운동량 합계 (읽기 모델).
+ * COMPLETE 처리된 운동 세션의 세트만 모으며, volume 은 세트별 무게 x 횟수의 합,
+ * maxWeight 는 그 주에 완료한 세트 중 가장 무거운 무게입니다. weekStart 는 주의 월요일입니다.
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_exercise_volume_summary_user_sports_week", columnNames = {"userId", "sports", "weekStart"}))
+public class ExerciseVolumeSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+    @Column(nullable = false)
+    private String sports;
+    @Column(nullable = false)
+    private LocalDate weekStart;
+
+    private long volume;
+    private int maxWeight;
+    private int completedSets;
+}
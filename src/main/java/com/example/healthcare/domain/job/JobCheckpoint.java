@@ -0,0 +1,40 @@
+package com.example.healthcare.domain.job;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 날짜 단위로 처리하는 배치 작업의 진행 위치입니다.
+ * watermark 이전의 날짜는 처리가 끝났으므로, 다음 실행은 watermark 부터 이어서 처리합니다.
+ * fencingToken 은 이 행을 마지막으로 갱신한 리스의 토큰으로, 더 오래된 토큰의 갱신을 거부하는 데 씁니다.
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobCheckpoint {
+
+    @Id
+    private String jobName;
+
+    // 아직 처리하지 않은 첫 날짜 (날짜 단위가 아닌 작업이나 처음 실행 전에는 null)
+    private LocalDate watermark;
+    private Long fencingToken;
+    private LocalDateTime updatedAt;
+
+    public static JobCheckpoint createJobCheckpoint(String jobName, LocalDate watermark) {
+        return JobCheckpoint.builder()
+                .jobName(jobName)
+                .watermark(watermark)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
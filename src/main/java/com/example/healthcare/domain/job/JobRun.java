@@ -0,0 +1,51 @@
+package com.example.healthcare.domain.job;
+
+import com.example.healthcare.domain.enumType.job.JobRunStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 배치 작업 한 번의 실행 기록입니다. 어느 노드가 어떤 펜싱 토큰으로 실행했는지와 소요 시간을 남깁니다.
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(indexes = @Index(name = "idx_job_run_job_started", columnList = "jobName, startedAt"))
+public class JobRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String jobName;
+    private Long fencingToken;
+    private String node;
+
+    @Enumerated(EnumType.STRING)
+    private JobRunStatus status;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long durationMillis;
+    private int chunks;
+    private long processedRows;
+
+    @Column(length = 1000)
+    private String error;
+
+    public static JobRun createJobRun(String jobName, Long fencingToken, String node, LocalDateTime startedAt) {
+        return JobRun.builder()
+                .jobName(jobName)
+                .fencingToken(fencingToken)
+                .node(node)
+                .status(JobRunStatus.RUNNING)
+                .startedAt(startedAt)
+                .build();
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Collection;
 import java.util.List;
 
@@ -23,6 +24,11 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_member_user_id", columnNames = "userId"),
+        @UniqueConstraint(name = "uk_member_email", columnNames = "email"),
+        @UniqueConstraint(name = "uk_member_nickname", columnNames = "nickname")
+}, indexes = @Index(name = "idx_member_disclosure_status", columnList = "disclosureStatus"))
 public class Member implements UserDetails {
 
     @Id
@@ -49,6 +55,12 @@ public class Member implements UserDetails {
     private Double height;
     private Double weight;
     private Double muscleMass;
+
+    // IANA 시간대 ID (예: Asia/Seoul). null 이면 서버 시간대를 사용합니다.
+    private String timeZone;
+
+    // 비밀번호를 바꾸면 올려서, 이전 버전으로 발급된 토큰을 거부합니다.
+    private long authVersion;
     //이메일 유효성
     public static boolean isValidEmail(String email) {
         // 이메일 형식을 정규표현식으로 확인
@@ -62,6 +74,11 @@ public class Member implements UserDetails {
         return password.matches("^(?=.*[!@#$%^&*(),.?\":{}|<>])(?=.*[0-9])(?=.*[a-zA-Z]).{8,}$");
     }
 
+    // 시간대 유효성 (null 은 서버 시간대를 뜻하므로 허용)
+    public static boolean isValidTimeZone(String timeZone) {
+        return timeZone == null || ZoneId.getAvailableZoneIds().contains(timeZone);
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return List.of(new SimpleGrantedAuthority(memberType.name()));
@@ -112,6 +129,7 @@ public class Member implements UserDetails {
                 .height(0.0)
                 .weight(0.0)
                 .muscleMass(0.0)
+                .timeZone(request.getTimeZone())
                 .build();
     }
 
@@ -124,6 +142,7 @@ public class Member implements UserDetails {
         member.setHeight(request.getHeight());
         member.setWeight(request.getWeight());
         member.setMuscleMass(request.getMuscleMass());
+        member.setTimeZone(request.getTimeZone());
         return member;
     }
 
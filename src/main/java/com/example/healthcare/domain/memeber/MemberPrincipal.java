@@ -0,0 +1,31 @@
+package com.example.healthcare.domain.memeber;
+
+import com.example.healthcare.domain.enumType.member.MemberTypeRole;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 인증된 요청의 회원 정보입니다. 토큰 클레임으로 만들므로 요청마다 회원을 조회하지 않습니다.
+ * 상태, 공개 여부처럼 바뀔 수 있는 값이 필요하면 회원을 조회하거나 MemberAuthStateCache 를 사용합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class MemberPrincipal {
+
+    private final Long id;
+    private final String userId;
+    private final MemberTypeRole memberType;
+
+    public static MemberPrincipal createMemberPrincipal(Long id, String userId, MemberTypeRole memberType) {
+        return new MemberPrincipal(id, userId, memberType);
+    }
+
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority(memberType.name()));
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.healthcare.domain.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * S3 객체 삭제 요청을 보관하는 outbox 행입니다.
+ * 요청 처리 중에는 이 행만 저장하고, 실제 삭제는 S3DeleteWorker 가 묶어서 처리합니다.
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(indexes = @Index(name = "idx_s3_delete_task_next_attempt_at", columnList = "nextAttemptAt"))
+public class S3DeleteTask {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String objectKey;
+    // 내용 해시로 저장한 사진이면 해당 해시 (삭제 직전에 다시 참조되었는지 확인합니다)
+    @Column(length = 64)
+    private String contentHash;
+    private int attempts;
+    private LocalDateTime nextAttemptAt;
+    private LocalDateTime createdAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    public static S3DeleteTask createS3DeleteTask(String objectKey) {
+        LocalDateTime currentTime = LocalDateTime.now();
+        return S3DeleteTask.builder()
+                .objectKey(objectKey)
+                .attempts(0)
+                .nextAttemptAt(currentTime)
+                .createdAt(currentTime)
+                .build();
+    }
+
+    public static S3DeleteTask createS3DeleteTask(String objectKey, String contentHash, LocalDateTime nextAttemptAt) {
+        S3DeleteTask task = createS3DeleteTask(objectKey);
+        task.setContentHash(contentHash);
+        task.setNextAttemptAt(nextAttemptAt);
+        return task;
+    }
+}
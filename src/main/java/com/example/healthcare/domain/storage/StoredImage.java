@@ -0,0 +1,40 @@
+package com.example.healthcare.domain.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 내용 해시(SHA-256)로 저장한 사진 객체의 참조 수 색인입니다.
+ * 같은 사진을 다시 올리면 S3 업로드 없이 refCount 만 늘리고,
+ * refCount 가 0 이 된 뒤 유예 기간이 지나야 S3DeleteWorker 가 객체와 이 행을 삭제합니다.
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_stored_image_content_hash", columnNames = "contentHash"))
+public class StoredImage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String contentHash;
+    // 크기 단계 접미사를 붙이기 전의 객체 키 (예: diet-images/{hash})
+    private String objectKey;
+    private String imgUrl;
+    private String mediumUrl;
+    private String thumbnailUrl;
+
+    private int refCount;
+    // refCount 가 0 이 된 시각 (참조 중이면 null)
+    private LocalDateTime orphanedAt;
+    private LocalDateTime createdAt;
+}
@@ -36,6 +36,10 @@ public class CustomExceptions {
         public DietNotFoundException(String message) {super(message);}
     }
 
+    public static class JobLeaseLostException extends RuntimeException {
+        public JobLeaseLostException(String message) {super(message);}
+    }
+
     public static class DataAccessException extends RuntimeException {
         public DataAccessException(String message){super(message);} {
         }
@@ -0,0 +1,27 @@
+package com.example.healthcare.repository.diet;
+
+import com.example.healthcare.domain.diet.DailyNutritionSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface DailyNutritionSummaryRepository extends JpaRepository<DailyNutritionSummary, Long> {
+
+    List<DailyNutritionSummary> findAllByUserIdAndSummaryDateBetweenOrderBySummaryDateAsc(
+            Long userId, LocalDate startDate, LocalDate endDate);
+
+    @Query("select distinct s.userId from DailyNutritionSummary s where s.userId > :afterUserId order by s.userId")
+    List<Long> findUserIdsAfter(@Param("afterUserId") Long afterUserId, Pageable pageable);
+
+    @Modifying
+    @Query("delete from DailyNutritionSummary s where s.userId in :userIds")
+    int deleteAllByUserIdIn(@Param("userIds") Collection<Long> userIds);
+}
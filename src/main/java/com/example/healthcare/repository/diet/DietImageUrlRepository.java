@@ -3,9 +3,11 @@ package com.example.healthcare.repository.diet;
 import com.example.healthcare.domain.diet.DietImageUrl;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface DietImageUrlRepository extends JpaRepository<DietImageUrl, Long> {
     List<DietImageUrl> findAllByDietId(Long id);
+    List<DietImageUrl> findAllByDietIdIn(Collection<Long> dietIds);
     void deleteAllByDietId(Long dietId);
 }
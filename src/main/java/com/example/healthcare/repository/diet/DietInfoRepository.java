@@ -3,15 +3,32 @@ package com.example.healthcare.repository.diet;
 import com.example.healthcare.domain.diet.DietInfo;
 import com.example.healthcare.domain.enumType.diet.DietStatusRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface DietInfoRepository extends JpaRepository<DietInfo ,Long> {
 
     List<DietInfo> findAllByDietId(Long dietId);
+    List<DietInfo> findAllByDietIdIn(Collection<Long> dietIds);
     void deleteAllByDietId(Long dietId);
 
-    List<DietInfo> findAllByDietIdAndDietStatusRole(Long dietId, DietStatusRole dietStatusRole);
+    // 한 날짜의 모든 식단 항목 중 from 상태인 것을 한 번에 to 상태로 바꿉니다.
+    @Modifying
+    @Query("update DietInfo i set i.dietStatusRole = :to where i.dietStatusRole = :from " +
+            "and i.dietId in (select d.id from Diet d where d.dietDate = :dietDate)")
+    int updateStatusByDietDate(@Param("dietDate") LocalDate dietDate, @Param("from") DietStatusRole from,
+                               @Param("to") DietStatusRole to);
+
+    // 만료 대기열에서 꺼낸 식단들의 항목 중 from 상태인 것을 한 번에 to 상태로 바꿉니다.
+    @Modifying
+    @Query("update DietInfo i set i.dietStatusRole = :to where i.dietId in :dietIds and i.dietStatusRole = :from")
+    int updateStatusByDietIdIn(@Param("dietIds") Collection<Long> dietIds, @Param("from") DietStatusRole from,
+                               @Param("to") DietStatusRole to);
 }
@@ -1,22 +1,111 @@
 package com.example.healthcare.repository.diet;
 
 import com.example.healthcare.domain.diet.Diet;
+import com.example.healthcare.domain.enumType.diet.DietStatusRole;
+import com.example.healthcare.domain.enumType.member.MemberDisclosureStatusRole;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 @Repository
 public interface DietRepository extends JpaRepository<Diet, Long> {
-    Optional<Diet>  findFirstByOrderByIdDesc();
-
     List<Diet> findByUserIdAndDietDateBetween(Long userId, LocalDate startDate, LocalDate endDate);
     List<Diet> findByUserId(Long userId);
 
     List<Diet> findByUserIdAndId(Long userId, Long dietId);
 
-    List<Diet> findByDietDateBefore(LocalDate date);
+    // 보조 상태 변경 작업: [from, to) 에서 식단이 있는 가장 이른 날짜 (식단이 없는 날은 건너뜁니다)
+    @Query("select min(d.dietDate) from Diet d where d.dietDate >= :from and d.dietDate < :to")
+    LocalDate findFirstDietDateBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("select min(d.dietDate) from Diet d where d.dietDate < :to")
+    LocalDate findFirstDietDateBefore(@Param("to") LocalDate to);
+
+    // 보조 상태 변경 작업: 그 날짜에 주어진 상태의 식단 항목이 있는 사용자 (캐시 삭제 대상)
+    @Query("select distinct d.userId from Diet d, DietInfo i " +
+            "where i.dietId = d.id and d.dietDate = :dietDate and i.dietStatusRole = :status")
+    List<Long> findUserIdsWithStatusOn(@Param("dietDate") LocalDate dietDate,
+                                       @Param("status") DietStatusRole status);
+
+    // 식단 기록 키셋 페이지네이션: 첫 페이지
+    List<Diet> findByUserIdOrderByDietDateAscIdAsc(Long userId, Pageable pageable);
+
+    // 식단 기록 키셋 페이지네이션: (dietDate, id) 커서 이후 페이지
+    @Query("select d from Diet d where d.userId = :userId " +
+            "and (d.dietDate > :dietDate or (d.dietDate = :dietDate and d.id > :id)) " +
+            "order by d.dietDate, d.id")
+    List<Diet> findPageAfter(@Param("userId") Long userId, @Param("dietDate") LocalDate dietDate,
+                             @Param("id") Long id, Pageable pageable);
+
+    @Query("select d as diet, m.nickname as nickname from Diet d, Member m " +
+            "where d.userId = m.id and m.disclosureStatus = :disclosureStatus and d.dietDate = :dietDate " +
+            "order by m.id, d.id")
+    List<PublicDietRow> findPublicDietsByDate(@Param("disclosureStatus") MemberDisclosureStatusRole disclosureStatus,
+                                              @Param("dietDate") LocalDate dietDate);
+
+    interface PublicDietRow {
+        Diet getDiet();
+        String getNickname();
+    }
+
+    // 주어진 상태의 식단 정보가 하나라도 있는 회원의 식단
+    @Query("select distinct d from Diet d, DietInfo i " +
+            "where i.dietId = d.id and d.userId = :userId and i.dietStatusRole = :status")
+    List<Diet> findAllByUserIdWithStatus(@Param("userId") Long userId, @Param("status") DietStatusRole status);
+
+    @Query("select distinct d.userId from Diet d where d.userId > :afterUserId order by d.userId")
+    List<Long> findUserIdsAfter(@Param("afterUserId") Long afterUserId, Pageable pageable);
+
+    /**
+     * 주어진 사용자들의 식단 정보를 (사용자, 날짜) 별로 합산합니다. 일별 영양 합계 재구성에 사용합니다.
+     */
+    @Query("select d.userId as userId, d.dietDate as summaryDate, " +
+            "sum(coalesce(i.kcal, 0)) as plannedKcal, " +
+            "sum(coalesce(i.carbohydrate, 0)) as plannedCarbohydrate, " +
+            "sum(coalesce(i.protein, 0)) as plannedProtein, " +
+            "sum(coalesce(i.unsaturatedFat, 0) + coalesce(i.transFat, 0) + coalesce(i.saturatedFat, 0)) as plannedFat, " +
+            "sum(case when i.dietStatusRole = :complete then coalesce(i.kcal, 0) else 0 end) as completedKcal, " +
+            "sum(case when i.dietStatusRole = :complete then coalesce(i.carbohydrate, 0) else 0 end) as completedCarbohydrate, " +
+            "sum(case when i.dietStatusRole = :complete then coalesce(i.protein, 0) else 0 end) as completedProtein, " +
+            "sum(case when i.dietStatusRole = :complete " +
+            "then (coalesce(i.unsaturatedFat, 0) + coalesce(i.transFat, 0) + coalesce(i.saturatedFat, 0)) else 0 end) as completedFat " +
+            "from Diet d, DietInfo i where i.dietId = d.id and d.userId in :userIds " +
+            "group by d.userId, d.dietDate")
+    List<DailyNutritionRow> sumDailyNutritionByUserIds(@Param("userIds") Collection<Long> userIds,
+                                                       @Param("complete") DietStatusRole complete);
+
+    // 달력 요약: 한 달 동안의 일자별, 상태별 식단 항목 수
+    @Query("select day(d.dietDate) as day, i.dietStatusRole as status, count(i) as count " +
+            "from Diet d, DietInfo i where i.dietId = d.id and d.userId = :userId " +
+            "and d.dietDate >= :startDate and d.dietDate < :endDate " +
+            "group by day(d.dietDate), i.dietStatusRole")
+    List<DayStatusCount> countByDayAndStatus(@Param("userId") Long userId,
+                                             @Param("startDate") LocalDate startDate,
+                                             @Param("endDate") LocalDate endDate);
+
+    interface DayStatusCount {
+        Integer getDay();
+        DietStatusRole getStatus();
+        Long getCount();
+    }
+
+    interface DailyNutritionRow {
+        Long getUserId();
+        LocalDate getSummaryDate();
+        Double getPlannedKcal();
+        Double getPlannedCarbohydrate();
+        Double getPlannedProtein();
+        Double getPlannedFat();
+        Double getCompletedKcal();
+        Double getCompletedCarbohydrate();
+        Double getCompletedProtein();
+        Double getCompletedFat();
+    }
 
 }
@@ -2,18 +2,138 @@ package com.example.healthcare.repository.exercise;
 
 import com.example.healthcare.domain.exercise.Exercise;
 import com.example.healthcare.domain.enumType.exercise.ExerciseRole;
+import com.example.healthcare.domain.enumType.member.MemberDisclosureStatusRole;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ExerciseRepository extends JpaRepository<Exercise, Long> {
     List<Exercise> findByUserIdAndExerciseDateBetween(Long userId, LocalDateTime startDate, LocalDateTime endDate);
 
-    List<Exercise> findByExerciseDateBeforeAndStatus(LocalDateTime currentTime, ExerciseRole exerciseRole);
+    // 보조 상태 변경 작업: 기한이 지난 운동을 엔티티 대신 ID 와 캐시 키에 필요한 값만 한 묶음씩 읽습니다.
+    @Query("select e.id as id, e.userId as userId, e.exerciseDate as exerciseDate from Exercise e " +
+            "where e.status = :status and e.exerciseDate < :currentTime " +
+            "order by e.exerciseDate, e.id")
+    List<ExpiredExerciseRow> findExpiredBatch(@Param("currentTime") LocalDateTime currentTime,
+                                              @Param("status") ExerciseRole status, Pageable pageable);
+
+    // 만료 대기열에서 꺼낸 운동 중 아직 예정 상태인 것만 캐시 키에 필요한 값과 함께 읽습니다.
+    @Query("select e.id as id, e.userId as userId, e.exerciseDate as exerciseDate from Exercise e " +
+            "where e.id in :ids and e.status = :status")
+    List<ExpiredExerciseRow> findByIdInAndStatus(@Param("ids") Collection<Long> ids,
+                                                 @Param("status") ExerciseRole status);
+
+    // 읽은 뒤 사용자가 먼저 완료한 운동은 바꾸지 않도록 이전 상태도 조건에 둡니다.
+    @Modifying
+    @Query("update Exercise e set e.status = :to where e.id in :ids and e.status = :from")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("from") ExerciseRole from,
+                           @Param("to") ExerciseRole to);
+
+    // 완료 전환: 이미 완료된 세션이면 0을 반환하므로 동시에 완료해도 한 요청만 운동량을 더합니다.
+    @Modifying
+    @Query("update Exercise e set e.status = :status where e.id = :id and e.status <> :status")
+    int updateStatusIfNot(@Param("id") Long id, @Param("status") ExerciseRole status);
 
     List<Exercise> findAllByUserId(Long userId);
 
+    List<Exercise> findAllByUserIdAndStatus(Long userId, ExerciseRole status);
+
+    // 운동 기록 키셋 페이지네이션: 종목과 상태는 null 이면 거르지 않습니다.
+    @Query("select e from Exercise e where e.userId = :userId " +
+            "and (:sports is null or e.sports = :sports) and (:status is null or e.status = :status) " +
+            "order by e.exerciseDate, e.id")
+    List<Exercise> findFirstPage(@Param("userId") Long userId, @Param("sports") String sports,
+                                 @Param("status") ExerciseRole status, Pageable pageable);
+
+    // (exerciseDate, id) 커서 이후 페이지
+    @Query("select e from Exercise e where e.userId = :userId " +
+            "and (:sports is null or e.sports = :sports) and (:status is null or e.status = :status) " +
+            "and (e.exerciseDate > :exerciseDate or (e.exerciseDate = :exerciseDate and e.id > :id)) " +
+            "order by e.exerciseDate, e.id")
+    List<Exercise> findPageAfter(@Param("userId") Long userId, @Param("sports") String sports,
+                                 @Param("status") ExerciseRole status,
+                                 @Param("exerciseDate") LocalDateTime exerciseDate, @Param("id") Long id,
+                                 Pageable pageable);
+
+    @Query("select e as exercise, m.nickname as nickname from Exercise e, Member m " +
+            "where e.userId = m.id and m.disclosureStatus = :disclosureStatus " +
+            "and e.exerciseDate >= :startDate and e.exerciseDate < :endDate " +
+            "order by m.id, e.exerciseDate, e.id")
+    List<PublicExerciseRow> findPublicExercisesBetween(@Param("disclosureStatus") MemberDisclosureStatusRole disclosureStatus,
+                                                       @Param("startDate") LocalDateTime startDate,
+                                                       @Param("endDate") LocalDateTime endDate);
+
+    @Query("select distinct e.userId from Exercise e where e.userId > :afterUserId order by e.userId")
+    List<Long> findUserIdsAfter(@Param("afterUserId") Long afterUserId, Pageable pageable);
+
+    // 세트 행이 없는 운동이 남은 사용자 (옮긴 사용자는 다시 나오지 않으므로 커서 없이 앞에서부터 읽습니다)
+    @Query("select distinct e.userId from Exercise e where not exists " +
+            "(select s.id from ExerciseSet s where s.exerciseId = e.id) order by e.userId")
+    List<Long> findUserIdsWithoutSets(Pageable pageable);
+
+    // 세트 도입 전에 세트마다 한 행씩 저장된 운동 (세트 행이 없는 운동)
+    @Query("select e from Exercise e where e.userId in :userIds and not exists " +
+            "(select s.id from ExerciseSet s where s.exerciseId = e.id) " +
+            "order by e.userId, e.exerciseDate, e.id")
+    List<Exercise> findAllWithoutSetsByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    // 완료한 운동의 세트별 무게와 횟수 (세트 행이 없는 운동은 세션의 값을 한 세트로 봅니다)
+    @Query("select e.userId as userId, e.sports as sports, e.exerciseDate as exerciseDate, " +
+            "coalesce(s.weight, e.weight) as weight, coalesce(s.cnt, e.cnt) as cnt " +
+            "from Exercise e left join ExerciseSet s on s.exerciseId = e.id " +
+            "where e.userId in :userIds and e.status = :status and e.sports is not null")
+    List<VolumeRow> findVolumeRowsByUserIdIn(@Param("userIds") Collection<Long> userIds,
+                                             @Param("status") ExerciseRole status);
+
+    @Query("select e.userId as userId, e.sports as sports, e.exerciseDate as exerciseDate, " +
+            "coalesce(s.weight, e.weight) as weight, coalesce(s.cnt, e.cnt) as cnt " +
+            "from Exercise e left join ExerciseSet s on s.exerciseId = e.id " +
+            "where e.userId = :userId and e.sports = :sports and e.status = :status " +
+            "and e.exerciseDate >= :startDate and e.exerciseDate < :endDate")
+    List<VolumeRow> findVolumeRows(@Param("userId") Long userId, @Param("sports") String sports,
+                                   @Param("status") ExerciseRole status,
+                                   @Param("startDate") LocalDateTime startDate,
+                                   @Param("endDate") LocalDateTime endDate);
+
+    // 달력 요약: 한 달 동안의 일자별, 상태별 운동 세션 수
+    @Query("select day(e.exerciseDate) as day, e.status as status, count(e) as count from Exercise e " +
+            "where e.userId = :userId and e.exerciseDate >= :startDate and e.exerciseDate < :endDate " +
+            "group by day(e.exerciseDate), e.status")
+    List<DayStatusCount> countByDayAndStatus(@Param("userId") Long userId,
+                                             @Param("startDate") LocalDateTime startDate,
+                                             @Param("endDate") LocalDateTime endDate);
+
+    interface PublicExerciseRow {
+        Exercise getExercise();
+        String getNickname();
+    }
+
+    interface DayStatusCount {
+        Integer getDay();
+        ExerciseRole getStatus();
+        Long getCount();
+    }
+
+    interface ExpiredExerciseRow {
+        Long getId();
+        Long getUserId();
+        LocalDateTime getExerciseDate();
+    }
+
+    interface VolumeRow {
+        Long getUserId();
+        String getSports();
+        LocalDateTime getExerciseDate();
+        Integer getWeight();
+        Integer getCnt();
+    }
+
 }
@@ -0,0 +1,21 @@
+package com.example.healthcare.repository.exercise;
+
+import com.example.healthcare.domain.exercise.ExerciseSet;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ExerciseSetRepository extends JpaRepository<ExerciseSet, Long> {
+
+    List<ExerciseSet> findAllByExerciseIdIn(Collection<Long> exerciseIds);
+
+    @Modifying
+    @Query("delete from ExerciseSet s where s.exerciseId = :exerciseId")
+    int deleteAllByExerciseId(@Param("exerciseId") Long exerciseId);
+}
@@ -0,0 +1,35 @@
+package com.example.healthcare.repository.exercise;
+
+import com.example.healthcare.domain.exercise.ExerciseVolumeSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ExerciseVolumeSummaryRepository extends JpaRepository<ExerciseVolumeSummary, Long> {
+
+    List<ExerciseVolumeSummary> findAllByUserIdAndSportsAndWeekStartBetweenOrderByWeekStartAsc(
+            Long userId, String sports, LocalDate startWeek, LocalDate endWeek);
+
+    List<ExerciseVolumeSummary> findAllByUserId(Long userId);
+
+    @Modifying
+    @Query("delete from ExerciseVolumeSummary s " +
+            "where s.userId = :userId and s.sports = :sports and s.weekStart = :weekStart")
+    int deleteWeek(@Param("userId") Long userId, @Param("sports") String sports,
+                   @Param("weekStart") LocalDate weekStart);
+
+    @Query("select distinct s.userId from ExerciseVolumeSummary s where s.userId > :afterUserId order by s.userId")
+    List<Long> findUserIdsAfter(@Param("afterUserId") Long afterUserId, Pageable pageable);
+
+    @Modifying
+    @Query("delete from ExerciseVolumeSummary s where s.userId in :userIds")
+    int deleteAllByUserIdIn(@Param("userIds") Collection<Long> userIds);
+}
@@ -0,0 +1,29 @@
+package com.example.healthcare.repository.job;
+
+import com.example.healthcare.domain.job.JobCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Repository
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, String> {
+
+    // 묶음마다 먼저 실행하여 행 잠금을 잡습니다. 더 새로운 토큰이 이미 기록했다면 0 을 돌려줍니다.
+    @Modifying
+    @Query("update JobCheckpoint c set c.fencingToken = :token, c.updatedAt = :updatedAt " +
+            "where c.jobName = :jobName and (c.fencingToken is null or c.fencingToken <= :token)")
+    int fence(@Param("jobName") String jobName, @Param("token") Long token,
+              @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 이미 지나간 날짜의 데이터가 새로 생기면 다음 실행이 그 날짜부터 다시 보도록 되돌립니다.
+    @Modifying
+    @Query("update JobCheckpoint c set c.watermark = :date, c.updatedAt = :updatedAt " +
+            "where c.jobName = :jobName and c.watermark > :date")
+    int rewind(@Param("jobName") String jobName, @Param("date") LocalDate date,
+               @Param("updatedAt") LocalDateTime updatedAt);
+}
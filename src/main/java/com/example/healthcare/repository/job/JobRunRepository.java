@@ -0,0 +1,28 @@
+package com.example.healthcare.repository.job;
+
+import com.example.healthcare.domain.enumType.job.JobRunStatus;
+import com.example.healthcare.domain.job.JobRun;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface JobRunRepository extends JpaRepository<JobRun, Long> {
+
+    // 최근 실행 기록
+    List<JobRun> findByJobNameOrderByStartedAtDesc(String jobName, Pageable pageable);
+
+    // 리스를 얻은 노드만 호출하므로, 그 시점에 RUNNING 으로 남은 이전 실행은 끝나지 못한 실행입니다.
+    @Modifying
+    @Query("update JobRun r set r.status = :abandoned, r.finishedAt = :finishedAt " +
+            "where r.jobName = :jobName and r.status = :running and r.startedAt < :startedAt")
+    int markAbandoned(@Param("jobName") String jobName, @Param("startedAt") LocalDateTime startedAt,
+                      @Param("running") JobRunStatus running, @Param("abandoned") JobRunStatus abandoned,
+                      @Param("finishedAt") LocalDateTime finishedAt);
+}
@@ -3,7 +3,10 @@ package com.example.healthcare.repository.member;
 import com.example.healthcare.domain.memeber.Member;
 import com.example.healthcare.domain.enumType.member.MemberDisclosureStatusRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,4 +19,13 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     List<Member> findAllByDisclosureStatus(MemberDisclosureStatusRole memberDisclosureStatusRole);
 
+    // 상태 만료 기한 계산에 필요한 회원별 시간대만 읽습니다.
+    @Query("select m.id as id, m.timeZone as timeZone from Member m where m.id in :ids")
+    List<MemberTimeZone> findTimeZonesByIdIn(@Param("ids") Collection<Long> ids);
+
+    interface MemberTimeZone {
+        Long getId();
+        String getTimeZone();
+    }
+
 }
@@ -0,0 +1,22 @@
+package com.example.healthcare.repository.storage;
+
+import com.example.healthcare.domain.storage.S3DeleteTask;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface S3DeleteTaskRepository extends JpaRepository<S3DeleteTask, Long> {
+
+    // 여러 노드의 워커가 같은 행을 집지 않도록 잠긴 행은 건너뜁니다 (-2 = SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    List<S3DeleteTask> findByNextAttemptAtLessThanEqualOrderByIdAsc(LocalDateTime now, Pageable pageable);
+}
@@ -0,0 +1,31 @@
+package com.example.healthcare.repository.storage;
+
+import com.example.healthcare.domain.storage.StoredImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StoredImageRepository extends JpaRepository<StoredImage, Long> {
+
+    Optional<StoredImage> findByContentHash(String contentHash);
+
+    // 삭제 여부를 판단하는 동안 같은 해시의 참조 증가가 끼어들지 않도록 잠급니다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<StoredImage> findAllByContentHashIn(Collection<String> contentHashes);
+
+    @Modifying
+    @Query("delete from StoredImage s where s.contentHash in :contentHashes " +
+            "and s.refCount <= 0 and s.orphanedAt <= :orphanedBefore")
+    int deleteExpired(@Param("contentHashes") Collection<String> contentHashes,
+                      @Param("orphanedBefore") LocalDateTime orphanedBefore);
+}
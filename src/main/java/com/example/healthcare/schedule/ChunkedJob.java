@@ -0,0 +1,27 @@
+package com.example.healthcare.schedule;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JobRunner 가 한 묶음씩 나눠 실행하는 배치 작업입니다.
+ * 묶음은 각각 짧은 트랜잭션으로 커밋되므로, 진행 상황을 묶음 안에서 저장해 두면
+ * 실행이 중간에 끊겨도 다음 실행이 처음부터가 아니라 그 위치부터 이어서 처리합니다.
+ */
+public interface ChunkedJob {
+
+    String getName();
+
+    /**
+     * 한 묶음을 처리합니다. JobRunner 가 연 트랜잭션 안에서, 펜싱 토큰을 확인한 뒤에 호출됩니다.
+     */
+    Chunk executeChunk(JobContext context);
+
+    @Getter
+    @RequiredArgsConstructor
+    class Chunk {
+        private final int processedRows;
+        // 더 처리할 묶음이 없으면 true
+        private final boolean last;
+    }
+}
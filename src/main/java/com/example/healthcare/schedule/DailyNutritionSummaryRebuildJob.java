@@ -0,0 +1,97 @@
+package com.example.healthcare.schedule;
+
+import com.example.healthcare.domain.diet.DailyNutritionSummary;
+import com.example.healthcare.domain.enumType.diet.DietStatusRole;
+import com.example.healthcare.repository.diet.DailyNutritionSummaryRepository;
+import com.example.healthcare.repository.diet.DietRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * 기존 식단 정보로 일별 영양 합계(DailyNutritionSummary)를 다시 만듭니다.
+ * 합계 테이블을 처음 도입할 때의 백필이나, 증분 갱신이 어긋났을 때의 복구에 사용합니다.
+ * 사용자 ID 순으로 CHUNK_SIZE 명씩 나눠 청크마다 짧은 트랜잭션에서 지우고 다시 채웁니다.
+ * 식단이 모두 지워진 사용자의 합계 행도 지워지도록, 식단이 있는 사용자와 합계 행이 있는 사용자를 함께 순회합니다.
+ * 청크 안의 사용자가 동시에 식단을 수정하면 그 변경이 누락될 수 있으므로 한가한 시간에 실행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DailyNutritionSummaryRebuildJob {
+
+    public static final int CHUNK_SIZE = 200;
+
+    private final DietRepository dietRepository;
+    private final DailyNutritionSummaryRepository dailyNutritionSummaryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 기본값 "-" 는 비활성화입니다. 필요할 때 diet.nutrition-summary.rebuild-cron 으로 켭니다.
+    @Scheduled(cron = "${diet.nutrition-summary.rebuild-cron:-}")
+    public void scheduledRebuild() {
+        rebuildAll();
+    }
+
+    /**
+     * 모든 사용자의 일별 영양 합계를 다시 만듭니다.
+     *
+     * @return 다시 만든 합계 행 수
+     */
+    public int rebuildAll() {
+        long afterUserId = 0L;
+        int users = 0;
+        int rows = 0;
+        while (true) {
+            List<Long> userIds = nextUserIds(afterUserId);
+            if (userIds.isEmpty()) {
+                break;
+            }
+            Integer rebuilt = transactionTemplate.execute(status -> rebuild(userIds));
+            rows += rebuilt == null ? 0 : rebuilt;
+            users += userIds.size();
+            afterUserId = userIds.get(userIds.size() - 1);
+        }
+        log.info("일별 영양 합계 재구성 완료 - 사용자 {}명, {}행", users, rows);
+        return rows;
+    }
+
+    // 두 목록에서 각각 CHUNK_SIZE 명을 읽어 합친 뒤 앞에서부터 CHUNK_SIZE 명을 씁니다.
+    // 잘라낸 마지막 ID 까지는 두 목록 모두 빠짐없이 읽었으므로 건너뛰는 사용자가 없습니다.
+    private List<Long> nextUserIds(long afterUserId) {
+        PageRequest page = PageRequest.of(0, CHUNK_SIZE);
+        TreeSet<Long> userIds = new TreeSet<>(dietRepository.findUserIdsAfter(afterUserId, page));
+        userIds.addAll(dailyNutritionSummaryRepository.findUserIdsAfter(afterUserId, page));
+        return userIds.stream()
+                .limit(CHUNK_SIZE)
+                .collect(Collectors.toList());
+    }
+
+    private int rebuild(List<Long> userIds) {
+        dailyNutritionSummaryRepository.deleteAllByUserIdIn(userIds);
+        List<DailyNutritionSummary> summaries = dietRepository
+                .sumDailyNutritionByUserIds(userIds, DietStatusRole.COMPLETE)
+                .stream()
+                .map(row -> DailyNutritionSummary.builder()
+                        .userId(row.getUserId())
+                        .summaryDate(row.getSummaryDate())
+                        .plannedKcal(row.getPlannedKcal())
+                        .plannedCarbohydrate(row.getPlannedCarbohydrate())
+                        .plannedProtein(row.getPlannedProtein())
+                        .plannedFat(row.getPlannedFat())
+                        .completedKcal(row.getCompletedKcal())
+                        .completedCarbohydrate(row.getCompletedCarbohydrate())
+                        .completedProtein(row.getCompletedProtein())
+                        .completedFat(row.getCompletedFat())
+                        .build())
+                .collect(Collectors.toList());
+        dailyNutritionSummaryRepository.saveAll(summaries);
+        return summaries.size();
+    }
+}
@@ -1,13 +1,5 @@
 package com.example.healthcare.schedule;
 
-import com.example.healthcare.domain.diet.Diet;
-import com.example.healthcare.domain.diet.DietInfo;
-import com.example.healthcare.domain.enumType.diet.DietStatusRole;
-import com.example.healthcare.domain.exercise.Exercise;
-import com.example.healthcare.domain.enumType.exercise.ExerciseRole;
-import com.example.healthcare.repository.diet.DietInfoRepository;
-import com.example.healthcare.repository.diet.DietRepository;
-import com.example.healthcare.repository.exercise.ExerciseRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -15,39 +7,39 @@ import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.time.ZoneOffset;
 
+/**
+ * 만료 대기열이 놓친 대상을 처리하는 보조 상태 변경 작업을 예약합니다.
+ * 평소에는 ExpiryQueueWorker 가 회원 시간대의 기한마다 만료시키므로, 이 작업은 Redis 에 넣지 못했거나
+ * 잃어버린 대상만 처리합니다. 모든 노드에서 실행되지만 JobRunner 의 리스를 얻은 한 노드만 실제로 처리합니다.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class DailyStatusChecker {
 
-    final ExerciseRepository exerciseRepository;
-    final DietInfoRepository dietInfoRepository;
-    final DietRepository dietRepository;
-
-    @Scheduled(cron = "0 0 0 * * ?") // 매일 자정에 실행
-    public void executeDailyExerciseStatusChecker() {
-        List<Exercise> exercises = exerciseRepository.findByExerciseDateBeforeAndStatus(
-                LocalDateTime.now(), ExerciseRole.SCHEDULED_TO_BE_COMPLETED
-        );
-        log.info(exercises.toString());
-        for(Exercise exercise : exercises) {
-            exercise.setStatus(ExerciseRole.INCOMPLETE);
-            log.info(exercise.toString());
-            exerciseRepository.save(exercise);
-        }
+    // 날짜가 가장 늦게 바뀌는 시간대. 이 시간대에서도 지난 날짜라면 모든 회원에게 기한이 지났습니다.
+    static final ZoneOffset LATEST_OFFSET = ZoneOffset.ofHours(-12);
+
+    final JobRunner jobRunner;
+    final ExerciseStatusExpiryJob exerciseStatusExpiryJob;
+    final DietStatusExpiryJob dietStatusExpiryJob;
+
+    @Scheduled(cron = "${expiry.backstop-cron:0 0 * * * ?}") // 기본 매시 정각에 실행
+    public void expireMissedExercises() {
+        jobRunner.run(exerciseStatusExpiryJob, backstopCutoff());
+    }
+
+    @Scheduled(cron = "${expiry.backstop-cron:0 0 * * * ?}") // 기본 매시 정각에 실행
+    public void expireMissedDiets() {
+        jobRunner.run(dietStatusExpiryJob, backstopCutoff());
     }
 
-    @Scheduled(cron = "0 0 0 * * ?") // 매일 자정에 실행
-    public void executeDailyDietStatusChecker() {
-        List<Diet> diets = dietRepository.findByDietDateBefore(LocalDate.now());
-        for(Diet diet : diets){
-            List<DietInfo> dietInfos = dietInfoRepository.findAllByDietIdAndDietStatusRole(diet.getId(), DietStatusRole.SCHEDULED_TO_BE_EAT);
-            for(DietInfo dietInfo : dietInfos){
-                dietInfo.setDietStatusRole(DietStatusRole.INCOMPLETE);
-                dietInfoRepository.save(dietInfo);
-            }
-        }
+    /**
+     * 어느 시간대의 회원에게도 기한이 지난 날짜의 경계입니다.
+     */
+    static LocalDateTime backstopCutoff() {
+        return LocalDate.now(LATEST_OFFSET).atStartOfDay();
     }
 }
@@ -0,0 +1,91 @@
+package com.example.healthcare.schedule;
+
+import com.example.healthcare.domain.enumType.diet.DietStatusRole;
+import com.example.healthcare.domain.job.JobCheckpoint;
+import com.example.healthcare.repository.diet.DietInfoRepository;
+import com.example.healthcare.repository.diet.DietRepository;
+import com.example.healthcare.repository.job.JobCheckpointRepository;
+import com.example.healthcare.service.CalendarCacheEvictor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 날짜가 지난 예정 식단 항목을 미완료로 바꾸는 JobRunner 작업입니다.
+ * 지난 실행이 끝낸 날짜(JobCheckpoint 의 watermark)부터 어제까지 식단이 있는 날짜만 골라, 날짜 하나를 한 묶음으로
+ * Diet 와 조인한 일괄 UPDATE 한 번과 진행 위치 갱신을 같은 트랜잭션으로 처리합니다.
+ * 따라서 비용은 전체 기록이 아니라 그 사이에 쌓인 날짜에 비례하고, 며칠을 건너뛰거나 중간에 끊겨도 다음 실행이 이어서 처리합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DietStatusExpiryJob implements ChunkedJob {
+
+    public static final String JOB_NAME = "dietStatusExpiry";
+
+    private final DietRepository dietRepository;
+    private final DietInfoRepository dietInfoRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final CalendarCacheEvictor calendarCacheEvictor;
+
+    @Override
+    public String getName() {
+        return JOB_NAME;
+    }
+
+    /**
+     * 진행 위치 이후 식단이 있는 가장 이른 날짜 하나를 처리하고 진행 위치를 그다음 날로 옮깁니다.
+     * JobRunner 가 펜싱 토큰을 기록하며 진행 위치 행을 잠갔으므로, 같은 날짜의 되감기는 이 묶음이 커밋된 뒤에 반영됩니다.
+     */
+    @Override
+    public Chunk executeChunk(JobContext context) {
+        LocalDate today = context.getStartedAt().toLocalDate();
+        JobCheckpoint checkpoint = jobCheckpointRepository.findById(JOB_NAME).orElseThrow();
+        LocalDate watermark = checkpoint.getWatermark();
+        if (watermark == null) {
+            // 처음 실행하면 가장 이른 식단 날짜부터 시작합니다.
+            LocalDate first = dietRepository.findFirstDietDateBefore(today);
+            watermark = first == null ? today : first;
+        }
+        LocalDate date = dietRepository.findFirstDietDateBetween(watermark, today);
+        if (date == null) {
+            // 남은 날짜에는 식단이 없으므로 진행 위치만 오늘로 옮깁니다.
+            moveWatermark(checkpoint, watermark.isBefore(today) ? today : watermark);
+            return new Chunk(0, true);
+        }
+
+        int updated = 0;
+        List<Long> userIds = dietRepository.findUserIdsWithStatusOn(date, DietStatusRole.SCHEDULED_TO_BE_EAT);
+        if (!userIds.isEmpty()) {
+            updated = dietInfoRepository.updateStatusByDietDate(
+                    date, DietStatusRole.SCHEDULED_TO_BE_EAT, DietStatusRole.INCOMPLETE);
+            Map<Long, Set<LocalDate>> changedDates = userIds.stream()
+                    .collect(Collectors.toMap(Function.identity(), userId -> Set.of(date)));
+            // 트랜잭션 안이므로 이 날짜가 커밋된 뒤에 지워집니다.
+            calendarCacheEvictor.evict(changedDates);
+        }
+        moveWatermark(checkpoint, date.plusDays(1));
+        return new Chunk(updated, false);
+    }
+
+    /**
+     * 이미 지나간 날짜에 예정 항목이 생기면 다음 실행이 그 날짜부터 다시 보도록 진행 위치를 되돌립니다.
+     * 호출한 트랜잭션에서 실행되므로 항목 저장이 롤백되면 함께 롤백됩니다.
+     */
+    public void rewind(LocalDate date) {
+        if (date.isBefore(LocalDate.now())) {
+            jobCheckpointRepository.rewind(JOB_NAME, date, LocalDateTime.now());
+        }
+    }
+
+    private void moveWatermark(JobCheckpoint checkpoint, LocalDate watermark) {
+        checkpoint.setWatermark(watermark);
+        checkpoint.setUpdatedAt(LocalDateTime.now());
+    }
+}
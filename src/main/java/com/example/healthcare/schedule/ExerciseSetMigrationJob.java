@@ -0,0 +1,93 @@
+package com.example.healthcare.schedule;
+
+import com.example.healthcare.domain.exercise.Exercise;
+import com.example.healthcare.domain.exercise.ExerciseSet;
+import com.example.healthcare.repository.exercise.ExerciseRepository;
+import com.example.healthcare.repository.exercise.ExerciseSetRepository;
+import com.example.healthcare.service.ExerciseCacheEvictor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 세트 도입 전에 세트마다 따로 저장된 운동 행을 운동 세션 하나와 세트(ExerciseSet)들로 합칩니다.
+ * 같은 사용자, 종목, 일시, 상태의 행을 한 세션으로 보고, 가장 먼저 저장된 행을 세션으로 남깁니다.
+ * 세트 행이 없는 운동만 대상으로 하므로 여러 번 실행해도 안전합니다.
+ * 배포 중 여러 노드가 함께 시작해도 같은 세션을 겹쳐 옮기지 않도록 JobRunner 의 리스를 얻은 한 노드만 실행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExerciseSetMigrationJob implements ChunkedJob {
+
+    public static final String JOB_NAME = "exerciseSetMigration";
+    public static final int CHUNK_SIZE = 200;
+
+    private final ExerciseRepository exerciseRepository;
+    private final ExerciseSetRepository exerciseSetRepository;
+    private final ExerciseCacheEvictor exerciseCacheEvictor;
+    private final JobRunner jobRunner;
+
+    @Value("${exercise.set-migration.enabled:false}")
+    private boolean enabled;
+
+    // 배포 시 exercise.set-migration.enabled=true 로 한 번 실행합니다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        if (enabled) {
+            jobRunner.run(this);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return JOB_NAME;
+    }
+
+    /**
+     * 세트 없는 운동이 남은 사용자를 최대 CHUNK_SIZE 명 골라 세션과 세트로 옮깁니다.
+     * 옮긴 사용자는 세트 없는 운동이 남지 않으므로, 다음 묶음과 다음 실행은 남은 사용자부터 처리합니다.
+     */
+    @Override
+    public Chunk executeChunk(JobContext context) {
+        List<Long> userIds = exerciseRepository.findUserIdsWithoutSets(PageRequest.of(0, CHUNK_SIZE));
+        if (userIds.isEmpty()) {
+            return new Chunk(0, true);
+        }
+        return new Chunk(migrate(userIds), userIds.size() < CHUNK_SIZE);
+    }
+
+    private int migrate(List<Long> userIds) {
+        Map<List<Object>, List<Exercise>> sessions = new LinkedHashMap<>();
+        for (Exercise exercise : exerciseRepository.findAllWithoutSetsByUserIdIn(userIds)) {
+            List<Object> sessionKey = Arrays.asList(exercise.getUserId(), exercise.getSports(),
+                    exercise.getExerciseDate(), exercise.getStatus());
+            sessions.computeIfAbsent(sessionKey, key -> new ArrayList<>()).add(exercise);
+        }
+
+        List<ExerciseSet> exerciseSets = new ArrayList<>();
+        List<Exercise> folded = new ArrayList<>();
+        Map<Long, Set<LocalDate>> changedDates = new HashMap<>();
+        for (List<Exercise> rows : sessions.values()) {
+            Exercise session = rows.get(0);
+            for (int i = 0; i < rows.size(); i++) {
+                exerciseSets.add(ExerciseSet.createExerciseSet(session.getId(), i + 1, rows.get(i)));
+            }
+            folded.addAll(rows.subList(1, rows.size()));
+            if (session.getExerciseDate() != null) {
+                changedDates.computeIfAbsent(session.getUserId(), userId -> new HashSet<>())
+                        .add(session.getExerciseDate().toLocalDate());
+            }
+        }
+        exerciseSetRepository.saveAll(exerciseSets);
+        exerciseRepository.deleteAllInBatch(folded);
+        // 캐시된 응답에는 세트가 없으므로 바뀐 날짜의 캐시를 지웁니다. (커밋 후)
+        exerciseCacheEvictor.evict(changedDates);
+        return folded.size();
+    }
+}
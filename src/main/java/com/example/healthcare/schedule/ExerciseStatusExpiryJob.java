@@ -0,0 +1,64 @@
+package com.example.healthcare.schedule;
+
+import com.example.healthcare.domain.enumType.exercise.ExerciseRole;
+import com.example.healthcare.repository.exercise.ExerciseRepository;
+import com.example.healthcare.service.ExerciseCacheEvictor;
+import com.example.healthcare.util.QueryChunks;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 기한이 지난 예정 운동을 미완료로 바꾸는 JobRunner 작업입니다.
+ * 엔티티를 읽어 한 건씩 저장하는 대신 한 묶음(최대 5000건)의 ID 만 읽어 일괄 UPDATE 하고,
+ * 묶음마다 짧은 트랜잭션으로 커밋하여 잠금과 undo 로그가 길게 쌓이지 않게 합니다.
+ * 바꾼 행은 상태가 달라져 다시 읽히지 않으므로, 실행이 끊겨도 다음 실행은 남은 행부터 처리합니다.
+ * 바뀐 사용자의 운동 캐시는 묶음이 커밋된 뒤 한꺼번에 지웁니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExerciseStatusExpiryJob implements ChunkedJob {
+
+    public static final String JOB_NAME = "exerciseStatusExpiry";
+    static final int CHUNK_SIZE = 5000;
+
+    private final ExerciseRepository exerciseRepository;
+    private final ExerciseCacheEvictor exerciseCacheEvictor;
+
+    @Override
+    public String getName() {
+        return JOB_NAME;
+    }
+
+    /**
+     * 실행 시작 시각 이전의 예정 운동을 최대 CHUNK_SIZE 건 미완료로 바꿉니다.
+     */
+    @Override
+    public Chunk executeChunk(JobContext context) {
+        List<ExerciseRepository.ExpiredExerciseRow> rows = exerciseRepository.findExpiredBatch(
+                context.getStartedAt(), ExerciseRole.SCHEDULED_TO_BE_COMPLETED, PageRequest.of(0, CHUNK_SIZE));
+        if (rows.isEmpty()) {
+            return new Chunk(0, true);
+        }
+        List<Long> ids = rows.stream()
+                .map(ExerciseRepository.ExpiredExerciseRow::getId)
+                .collect(Collectors.toList());
+        int updated = 0;
+        for (List<Long> chunk : QueryChunks.partition(ids, QueryChunks.IN_CLAUSE_CHUNK_SIZE)) {
+            updated += exerciseRepository.updateStatusByIdIn(
+                    chunk, ExerciseRole.SCHEDULED_TO_BE_COMPLETED, ExerciseRole.INCOMPLETE);
+        }
+        Map<Long, Set<LocalDate>> changedDates = rows.stream()
+                .collect(Collectors.groupingBy(ExerciseRepository.ExpiredExerciseRow::getUserId,
+                        Collectors.mapping(row -> row.getExerciseDate().toLocalDate(), Collectors.toSet())));
+        // 트랜잭션 안이므로 이 묶음이 커밋된 뒤에 지워집니다.
+        exerciseCacheEvictor.evict(changedDates);
+        // 읽은 뒤 사용자가 먼저 완료해 바뀐 행이 적더라도, 묶음이 가득 찼다면 기한이 지난 행이 더 남아 있을 수 있습니다.
+        // 바꾼 행은 상태 조건 때문에 다시 읽히지 않으므로 다음 묶음을 계속 읽어도 안전합니다.
+        return new Chunk(updated, rows.size() < CHUNK_SIZE);
+    }
+}
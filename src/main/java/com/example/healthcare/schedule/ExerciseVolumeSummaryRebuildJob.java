@@ -0,0 +1,82 @@
+package com.example.healthcare.schedule;
+
+import com.example.healthcare.domain.enumType.exercise.ExerciseRole;
+import com.example.healthcare.domain.exercise.ExerciseVolumeSummary;
+import com.example.healthcare.repository.exercise.ExerciseRepository;
+import com.example.healthcare.repository.exercise.ExerciseVolumeSummaryRepository;
+import com.example.healthcare.service.ExerciseVolumeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * 완료한 운동 기록으로 주간 운동량 합계(ExerciseVolumeSummary)를 다시 만듭니다.
+ * 합계 테이블을 처음 도입할 때의 백필이나, 증분 갱신이 어긋났을 때의 복구에 사용합니다.
+ * 사용자 ID 순으로 CHUNK_SIZE 명씩 나눠 청크마다 짧은 트랜잭션에서 지우고 다시 채웁니다.
+ * 운동 기록이 모두 지워진 사용자의 합계 행도 지워지도록, 합계 행이 있는 사용자도 함께 순회합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExerciseVolumeSummaryRebuildJob {
+
+    public static final int CHUNK_SIZE = 200;
+
+    private final ExerciseRepository exerciseRepository;
+    private final ExerciseVolumeSummaryRepository exerciseVolumeSummaryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 기본값 "-" 는 비활성화입니다. 필요할 때 exercise.volume-summary.rebuild-cron 으로 켭니다.
+    @Scheduled(cron = "${exercise.volume-summary.rebuild-cron:-}")
+    public void scheduledRebuild() {
+        rebuildAll();
+    }
+
+    /**
+     * 모든 사용자의 주간 운동량 합계를 다시 만듭니다.
+     *
+     * @return 다시 만든 합계 행 수
+     */
+    public int rebuildAll() {
+        long afterUserId = 0L;
+        int users = 0;
+        int rows = 0;
+        while (true) {
+            List<Long> userIds = nextUserIds(afterUserId);
+            if (userIds.isEmpty()) {
+                break;
+            }
+            Integer rebuilt = transactionTemplate.execute(status -> rebuild(userIds));
+            rows += rebuilt == null ? 0 : rebuilt;
+            users += userIds.size();
+            afterUserId = userIds.get(userIds.size() - 1);
+        }
+        log.info("주간 운동량 합계 재구성 완료 - 사용자 {}명, {}행", users, rows);
+        return rows;
+    }
+
+    // 두 목록에서 각각 CHUNK_SIZE 명을 읽어 합친 뒤 앞에서부터 CHUNK_SIZE 명을 씁니다.
+    private List<Long> nextUserIds(long afterUserId) {
+        PageRequest page = PageRequest.of(0, CHUNK_SIZE);
+        TreeSet<Long> userIds = new TreeSet<>(exerciseRepository.findUserIdsAfter(afterUserId, page));
+        userIds.addAll(exerciseVolumeSummaryRepository.findUserIdsAfter(afterUserId, page));
+        return userIds.stream()
+                .limit(CHUNK_SIZE)
+                .collect(Collectors.toList());
+    }
+
+    private int rebuild(List<Long> userIds) {
+        exerciseVolumeSummaryRepository.deleteAllByUserIdIn(userIds);
+        List<ExerciseVolumeSummary> summaries = ExerciseVolumeService.summarize(
+                exerciseRepository.findVolumeRowsByUserIdIn(userIds, ExerciseRole.COMPLETE));
+        exerciseVolumeSummaryRepository.saveAll(summaries);
+        return summaries.size();
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.healthcare.schedule;
+
+import com.example.healthcare.domain.diet.Diet;
+import com.example.healthcare.domain.enumType.diet.DietStatusRole;
+import com.example.healthcare.domain.enumType.exercise.ExerciseRole;
+import com.example.healthcare.domain.exercise.Exercise;
+import com.example.healthcare.repository.diet.DietRepository;
+import com.example.healthcare.repository.exercise.ExerciseRepository;
+import com.example.healthcare.repository.member.MemberRepository;
+import com.example.healthcare.util.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * 운동과 식단의 상태 만료 기한을 Redis sorted set 에 (대상 → 기한 epoch 밀리초) 로 넣어 두는 지연 큐입니다.
+ * 기한은 회원 시간대에서 그 날짜가 끝나는 시각이며, ExpiryQueueWorker 가 기한이 지난 대상을 조금씩 꺼내 만료시킵니다.
+ * 대상마다 멤버가 하나이므로 날짜를 옮기면 기한만 바뀝니다.
+ * Redis 에 넣지 못했거나 잃어버린 대상은 DailyStatusChecker 의 보조 작업이 처리합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExpiryQueue {
+
+    static final String QUEUE_KEY = "expiry:queue";
+    static final String EXERCISE_PREFIX = "exercise:";
+    static final String DIET_PREFIX = "diet:";
+
+    // 기한이 지난 멤버를 꺼내면서 지워, 여러 노드의 워커가 같은 대상을 두 번 처리하지 않게 합니다.
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POLL_SCRIPT = new DefaultRedisScript<>(
+            "local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) " +
+                    "if #due > 0 then redis.call('ZREM', KEYS[1], unpack(due)) end " +
+                    "return due", List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final MemberRepository memberRepository;
+    private final ExerciseRepository exerciseRepository;
+    private final DietRepository dietRepository;
+
+    /**
+     * 예정 상태인 운동의 만료 기한을 넣습니다. 트랜잭션 안에서 호출되면 커밋 뒤에 넣습니다.
+     */
+    public void scheduleExercises(Long userId, Collection<Exercise> exercises) {
+        ZoneId zone = zonesOf(List.of(userId)).get(userId);
+        Map<String, Instant> deadlines = new HashMap<>();
+        for (Exercise exercise : exercises) {
+            if (exercise.getStatus() == ExerciseRole.SCHEDULED_TO_BE_COMPLETED) {
+                deadlines.put(exerciseMember(exercise.getId()),
+                        deadline(exercise.getExerciseDate().toLocalDate(), zone));
+            }
+        }
+        enqueue(deadlines);
+    }
+
+    /**
+     * 식단의 만료 기한을 넣습니다. 트랜잭션 안에서 호출되면 커밋 뒤에 넣습니다.
+     */
+    public void scheduleDiet(Long userId, Long dietId, LocalDate dietDate) {
+        ZoneId zone = zonesOf(List.of(userId)).get(userId);
+        enqueue(Map.of(dietMember(dietId), deadline(dietDate, zone)));
+    }
+
+    /**
+     * 회원의 시간대가 바뀌었을 때 아직 예정 상태인 운동과 식단의 기한을 새 시간대로 다시 넣습니다.
+     * 기한이 늦어지는 쪽은 워커가 꺼낼 때 다시 넣어 주지만, 앞당겨지는 쪽은 이렇게 바꾸지 않으면
+     * 이전 시간대의 기한까지 만료가 늦어집니다. 트랜잭션 안에서 호출되면 커밋 뒤에 넣습니다.
+     */
+    public void rescheduleUser(Long userId) {
+        ZoneId zone = zonesOf(List.of(userId)).get(userId);
+        Map<String, Instant> deadlines = new HashMap<>();
+        for (Exercise exercise : exerciseRepository.findAllByUserIdAndStatus(
+                userId, ExerciseRole.SCHEDULED_TO_BE_COMPLETED)) {
+            deadlines.put(exerciseMember(exercise.getId()), deadline(exercise.getExerciseDate().toLocalDate(), zone));
+        }
+        for (Diet diet : dietRepository.findAllByUserIdWithStatus(userId, DietStatusRole.SCHEDULED_TO_BE_EAT)) {
+            deadlines.put(dietMember(diet.getId()), deadline(diet.getDietDate(), zone));
+        }
+        enqueue(deadlines);
+    }
+
+    /**
+     * 멤버별 기한을 넣거나 바꿉니다. 트랜잭션 안에서 호출되면 커밋 뒤에 넣습니다.
+     * 실패해도 예외를 던지지 않습니다. 빠진 대상은 보조 작업이 만료시킵니다.
+     */
+    public void enqueue(Map<String, Instant> deadlines) {
+        if (deadlines.isEmpty()) {
+            return;
+        }
+        AfterCommit.run(() -> enqueueNow(deadlines));
+    }
+
+    /**
+     * 기한이 now 이전인 멤버를 기한 순으로 최대 limit 개 꺼냅니다. 꺼낸 멤버는 큐에서 지워집니다.
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> pollDue(Instant now, int limit) {
+        List<String> due = redisTemplate.execute(POLL_SCRIPT, List.of(QUEUE_KEY),
+                String.valueOf(now.toEpochMilli()), String.valueOf(limit));
+        return due == null ? Collections.emptyList() : due;
+    }
+
+    /**
+     * 회원별 시간대를 한 번의 조회로 가져옵니다. 시간대가 없거나 잘못된 회원은 서버 시간대를 씁니다.
+     */
+    public Map<Long, ZoneId> zonesOf(Collection<Long> userIds) {
+        Map<Long, ZoneId> zones = new HashMap<>();
+        for (Long userId : userIds) {
+            zones.put(userId, ZoneId.systemDefault());
+        }
+        if (userIds.isEmpty()) {
+            return zones;
+        }
+        for (MemberRepository.MemberTimeZone row : memberRepository.findTimeZonesByIdIn(userIds)) {
+            if (row.getTimeZone() == null) {
+                continue;
+            }
+            try {
+                zones.put(row.getId(), ZoneId.of(row.getTimeZone()));
+            } catch (DateTimeException e) {
+                log.warn("회원 {} 의 시간대 '{}' 를 해석할 수 없어 서버 시간대를 사용합니다.", row.getId(), row.getTimeZone());
+            }
+        }
+        return zones;
+    }
+
+    /**
+     * 주어진 시간대에서 date 가 끝나는 시각 (다음 날 0시) 입니다.
+     */
+    public static Instant deadline(LocalDate date, ZoneId zone) {
+        return date.plusDays(1).atStartOfDay(zone).toInstant();
+    }
+
+    public static String exerciseMember(Long exerciseId) {
+        return EXERCISE_PREFIX + exerciseId;
+    }
+
+    public static String dietMember(Long dietId) {
+        return DIET_PREFIX + dietId;
+    }
+
+    private void enqueueNow(Map<String, Instant> deadlines) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        deadlines.forEach((member, deadline) ->
+                tuples.add(new DefaultTypedTuple<>(member, (double) deadline.toEpochMilli())));
+        try {
+            redisTemplate.opsForZSet().add(QUEUE_KEY, tuples);
+        } catch (RuntimeException e) {
+            log.warn("만료 대기열에 {}건을 넣지 못했습니다. 보조 작업이 처리합니다: {}", tuples.size(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.healthcare.schedule;
+
+import com.example.healthcare.domain.diet.Diet;
+import com.example.healthcare.domain.enumType.diet.DietStatusRole;
+import com.example.healthcare.domain.enumType.exercise.ExerciseRole;
+import com.example.healthcare.repository.diet.DietInfoRepository;
+import com.example.healthcare.repository.diet.DietRepository;
+import com.example.healthcare.repository.exercise.ExerciseRepository;
+import com.example.healthcare.service.CalendarCacheEvictor;
+import com.example.healthcare.service.ExerciseCacheEvictor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 만료 대기열(ExpiryQueue)에서 기한이 지난 운동과 식단을 조금씩 꺼내 미완료로 바꾸는 워커입니다.
+ * 모든 노드에서 실행되지만 꺼내는 순간 대기열에서 지워지므로 같은 대상을 두 번 처리하지 않습니다.
+ * 한 주기에 처리하는 배치 수를 제한하여, 같은 시각에 기한이 몰려도 짧은 트랜잭션 여러 개로 나뉘어 처리됩니다.
+ * 꺼낸 뒤 날짜나 시간대가 바뀌어 아직 기한이 남은 대상은 새 기한으로 다시 넣습니다.
+ */
+@Component
+@Slf4j
+public class ExpiryQueueWorker {
+
+    static final int BATCH_SIZE = 200;
+    static final Duration RETRY_DELAY = Duration.ofMinutes(1);
+    // 한 번의 실행에서 처리할 최대 배치 수 (나머지는 다음 주기에 처리)
+    private static final int MAX_BATCHES_PER_RUN = 10;
+
+    private final ExpiryQueue expiryQueue;
+    private final ExerciseRepository exerciseRepository;
+    private final DietRepository dietRepository;
+    private final DietInfoRepository dietInfoRepository;
+    private final ExerciseCacheEvictor exerciseCacheEvictor;
+    private final CalendarCacheEvictor calendarCacheEvictor;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter expiredExercises;
+    private final Counter expiredDietInfos;
+
+    public ExpiryQueueWorker(ExpiryQueue expiryQueue, ExerciseRepository exerciseRepository,
+                             DietRepository dietRepository, DietInfoRepository dietInfoRepository,
+                             ExerciseCacheEvictor exerciseCacheEvictor, CalendarCacheEvictor calendarCacheEvictor,
+                             TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this.expiryQueue = expiryQueue;
+        this.exerciseRepository = exerciseRepository;
+        this.dietRepository = dietRepository;
+        this.dietInfoRepository = dietInfoRepository;
+        this.exerciseCacheEvictor = exerciseCacheEvictor;
+        this.calendarCacheEvictor = calendarCacheEvictor;
+        this.transactionTemplate = transactionTemplate;
+        this.expiredExercises = Counter.builder("expiry.queue.expired")
+                .description("만료 대기열로 미완료 처리한 행 수")
+                .tag("type", "exercise")
+                .register(meterRegistry);
+        this.expiredDietInfos = Counter.builder("expiry.queue.expired")
+                .description("만료 대기열로 미완료 처리한 행 수")
+                .tag("type", "diet")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${expiry.queue.poll-interval:5000}")
+    public void drain() {
+        drain(Instant.now());
+    }
+
+    /**
+     * @return 대기열에서 꺼낸 대상 수
+     */
+    int drain(Instant now) {
+        int polled = 0;
+        for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+            List<String> due;
+            try {
+                due = expiryQueue.pollDue(now, BATCH_SIZE);
+            } catch (RuntimeException e) {
+                log.warn("만료 대기열을 읽지 못했습니다: {}", e.getMessage());
+                break;
+            }
+            if (due.isEmpty()) {
+                break;
+            }
+            expireBatch(due, now);
+            polled += due.size();
+            // 배치가 가득 차지 않았다면 지금 기한이 지난 대상은 모두 꺼냈습니다.
+            if (due.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+        return polled;
+    }
+
+    /**
+     * 꺼낸 대상을 한 트랜잭션에서 만료시킵니다. 실패하면 RETRY_DELAY 뒤에 다시 꺼내도록 되돌려 넣습니다.
+     */
+    private void expireBatch(List<String> members, Instant now) {
+        List<Long> exerciseIds = new ArrayList<>();
+        List<Long> dietIds = new ArrayList<>();
+        for (String member : members) {
+            if (member.startsWith(ExpiryQueue.EXERCISE_PREFIX)) {
+                exerciseIds.add(Long.valueOf(member.substring(ExpiryQueue.EXERCISE_PREFIX.length())));
+            } else if (member.startsWith(ExpiryQueue.DIET_PREFIX)) {
+                dietIds.add(Long.valueOf(member.substring(ExpiryQueue.DIET_PREFIX.length())));
+            }
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                expireExercises(exerciseIds, now);
+                expireDiets(dietIds, now);
+            });
+        } catch (RuntimeException e) {
+            log.error("만료 대기열 {}건 처리 실패, {} 뒤에 다시 시도합니다.", members.size(), RETRY_DELAY, e);
+            Instant retryAt = now.plus(RETRY_DELAY);
+            expiryQueue.enqueue(members.stream().collect(Collectors.toMap(member -> member, member -> retryAt)));
+        }
+    }
+
+    private void expireExercises(List<Long> exerciseIds, Instant now) {
+        if (exerciseIds.isEmpty()) {
+            return;
+        }
+        // 이미 완료했거나 지운 운동은 읽히지 않으므로 그대로 버려집니다.
+        List<ExerciseRepository.ExpiredExerciseRow> rows =
+                exerciseRepository.findByIdInAndStatus(exerciseIds, ExerciseRole.SCHEDULED_TO_BE_COMPLETED);
+        Map<Long, ZoneId> zones = expiryQueue.zonesOf(rows.stream()
+                .map(ExerciseRepository.ExpiredExerciseRow::getUserId)
+                .collect(Collectors.toSet()));
+
+        List<Long> dueIds = new ArrayList<>();
+        Map<Long, Set<LocalDate>> changedDates = new HashMap<>();
+        Map<String, Instant> later = new HashMap<>();
+        for (ExerciseRepository.ExpiredExerciseRow row : rows) {
+            LocalDate date = row.getExerciseDate().toLocalDate();
+            Instant deadline = ExpiryQueue.deadline(date, zones.get(row.getUserId()));
+            if (deadline.isAfter(now)) {
+                later.put(ExpiryQueue.exerciseMember(row.getId()), deadline);
+            } else {
+                dueIds.add(row.getId());
+                changedDates.computeIfAbsent(row.getUserId(), userId -> new HashSet<>()).add(date);
+            }
+        }
+        if (!dueIds.isEmpty()) {
+            expiredExercises.increment(exerciseRepository.updateStatusByIdIn(
+                    dueIds, ExerciseRole.SCHEDULED_TO_BE_COMPLETED, ExerciseRole.INCOMPLETE));
+            exerciseCacheEvictor.evict(changedDates);
+        }
+        expiryQueue.enqueue(later);
+    }
+
+    private void expireDiets(List<Long> dietIds, Instant now) {
+        if (dietIds.isEmpty()) {
+            return;
+        }
+        List<Diet> diets = dietRepository.findAllById(dietIds);
+        Map<Long, ZoneId> zones = expiryQueue.zonesOf(diets.stream()
+                .map(Diet::getUserId)
+                .collect(Collectors.toSet()));
+
+        List<Long> dueIds = new ArrayList<>();
+        Map<Long, Set<LocalDate>> changedDates = new HashMap<>();
+        Map<String, Instant> later = new HashMap<>();
+        for (Diet diet : diets) {
+            Instant deadline = ExpiryQueue.deadline(diet.getDietDate(), zones.get(diet.getUserId()));
+            if (deadline.isAfter(now)) {
+                later.put(ExpiryQueue.dietMember(diet.getId()), deadline);
+            } else {
+                dueIds.add(diet.getId());
+                changedDates.computeIfAbsent(diet.getUserId(), userId -> new HashSet<>()).add(diet.getDietDate());
+            }
+        }
+        if (!dueIds.isEmpty()) {
+            int updated = dietInfoRepository.updateStatusByDietIdIn(
+                    dueIds, DietStatusRole.SCHEDULED_TO_BE_EAT, DietStatusRole.INCOMPLETE);
+            expiredDietInfos.increment(updated);
+            if (updated > 0) {
+                calendarCacheEvictor.evict(changedDates);
+            }
+        }
+        expiryQueue.enqueue(later);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.healthcare.schedule;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 한 번의 작업 실행 정보입니다. 묶음마다 같은 기준 시각을 쓰도록 실행 시작 시각을 함께 넘깁니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class JobContext {
+    private final String jobName;
+    private final long fencingToken;
+    private final LocalDateTime startedAt;
+}
@@ -0,0 +1,87 @@
+package com.example.healthcare.schedule;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 여러 노드 중 한 노드만 배치 작업을 실행하도록 Redis 에 거는 리스입니다.
+ * 리스를 얻을 때마다 작업별로 단조 증가하는 펜싱 토큰을 함께 발급합니다. 리스가 만료된 뒤에도
+ * 이전 노드가 계속 쓰는 경우는 JobCheckpoint 의 토큰 비교로 DB 가 거부합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobLease {
+
+    static final String LEASE_KEY_PREFIX = "job:lease:";
+    static final String FENCE_KEY_PREFIX = "job:fence:";
+
+    // 리스를 얻었을 때만 토큰을 올립니다.
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then " +
+                    "return redis.call('INCR', KEYS[2]) end " +
+                    "return nil", Long.class);
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+                    "return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end " +
+                    "return 0", Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+                    "return redis.call('DEL', KEYS[1]) end " +
+                    "return 0", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 리스를 얻습니다.
+     *
+     * @return 다른 노드가 리스를 가지고 있으면 빈 값
+     */
+    public Optional<Lease> acquire(String jobName, Duration ttl) {
+        String owner = UUID.randomUUID().toString();
+        Long token = redisTemplate.execute(ACQUIRE_SCRIPT,
+                List.of(LEASE_KEY_PREFIX + jobName, FENCE_KEY_PREFIX + jobName),
+                owner, String.valueOf(ttl.toMillis()));
+        return token == null ? Optional.empty() : Optional.of(new Lease(jobName, owner, token));
+    }
+
+    /**
+     * 아직 리스를 가지고 있다면 만료 시간을 ttl 로 늘립니다.
+     *
+     * @return 리스가 이미 만료되어 다른 노드로 넘어갔다면 false
+     */
+    public boolean renew(Lease lease, Duration ttl) {
+        Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(LEASE_KEY_PREFIX + lease.getJobName()),
+                lease.getOwner(), String.valueOf(ttl.toMillis()));
+        return renewed != null && renewed > 0;
+    }
+
+    public void release(Lease lease) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LEASE_KEY_PREFIX + lease.getJobName()), lease.getOwner());
+        } catch (RuntimeException e) {
+            // 풀지 못해도 TTL 이 지나면 만료됩니다.
+            log.warn("작업 리스 해제 실패 ({}): {}", lease.getJobName(), e.getMessage());
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Lease {
+        private final String jobName;
+        private final String owner;
+        private final long token;
+    }
+}
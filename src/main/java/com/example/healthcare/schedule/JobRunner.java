@@ -0,0 +1,161 @@
+package com.example.healthcare.schedule;
+
+import com.example.healthcare.domain.enumType.job.JobRunStatus;
+import com.example.healthcare.domain.job.JobCheckpoint;
+import com.example.healthcare.domain.job.JobRun;
+import com.example.healthcare.exception.CustomExceptions;
+import com.example.healthcare.repository.job.JobCheckpointRepository;
+import com.example.healthcare.repository.job.JobRunRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약된 배치 작업을 클러스터에서 한 번만, 묶음 단위로 실행합니다.
+ * <ol>
+ *     <li>Redis 리스를 얻은 노드만 실행하고, 묶음마다 리스를 연장합니다.</li>
+ *     <li>묶음 트랜잭션은 JobCheckpoint 에 펜싱 토큰을 먼저 기록하여, 리스를 잃은 노드의 늦은 쓰기를 막습니다.</li>
+ *     <li>실행마다 JobRun 에 상태, 묶음 수, 처리 행 수, 소요 시간을 남깁니다.</li>
+ * </ol>
+ */
+@Component
+@Slf4j
+public class JobRunner {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final JobLease jobLease;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final JobRunRepository jobRunRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Duration leaseTtl;
+    private final String node = resolveNode();
+
+    public JobRunner(JobLease jobLease, JobCheckpointRepository jobCheckpointRepository,
+                     JobRunRepository jobRunRepository, TransactionTemplate transactionTemplate,
+                     MeterRegistry meterRegistry, @Value("${job.lease.ttl:PT5M}") Duration leaseTtl) {
+        this.jobLease = jobLease;
+        this.jobCheckpointRepository = jobCheckpointRepository;
+        this.jobRunRepository = jobRunRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.leaseTtl = leaseTtl;
+    }
+
+    public JobRun run(ChunkedJob job) {
+        return run(job, LocalDateTime.now());
+    }
+
+    /**
+     * 리스를 얻어 작업을 끝까지 실행합니다. 실패해도 예외를 던지지 않고 실행 기록에 남깁니다.
+     * 실행 기록을 여닫는 DB 쓰기가 실패해도 로그만 남깁니다. 닫지 못해 RUNNING 으로 남은 기록은
+     * 다음 실행이 시작할 때 ABANDONED 로 바꿉니다.
+     *
+     * @param startedAt 작업이 기준으로 삼을 시각
+     * @return 실행 기록 (다른 노드가 실행 중이라 건너뛰었거나 실행을 시작하지 못했다면 null)
+     */
+    public JobRun run(ChunkedJob job, LocalDateTime startedAt) {
+        Optional<JobLease.Lease> acquired = jobLease.acquire(job.getName(), leaseTtl);
+        if (acquired.isEmpty()) {
+            log.info("다른 노드가 작업 '{}' 을 실행 중이므로 건너뜁니다.", job.getName());
+            return null;
+        }
+        JobLease.Lease lease = acquired.get();
+        try {
+            return execute(job, lease, startedAt);
+        } finally {
+            jobLease.release(lease);
+        }
+    }
+
+    private JobRun execute(ChunkedJob job, JobLease.Lease lease, LocalDateTime startedAt) {
+        String jobName = job.getName();
+        long startedNanos = System.nanoTime();
+        JobRun run;
+        try {
+            run = transactionTemplate.execute(status -> {
+                jobRunRepository.markAbandoned(jobName, LocalDateTime.now(),
+                        JobRunStatus.RUNNING, JobRunStatus.ABANDONED, LocalDateTime.now());
+                if (!jobCheckpointRepository.existsById(jobName)) {
+                    jobCheckpointRepository.save(JobCheckpoint.createJobCheckpoint(jobName, null));
+                }
+                return jobRunRepository.save(JobRun.createJobRun(jobName, lease.getToken(), node, LocalDateTime.now()));
+            });
+        } catch (RuntimeException e) {
+            log.error("작업 '{}' 을 시작하지 못했습니다 (토큰 {})", jobName, lease.getToken(), e);
+            return null;
+        }
+
+        JobContext context = new JobContext(jobName, lease.getToken(), startedAt);
+        try {
+            while (true) {
+                if (run.getChunks() > 0 && !jobLease.renew(lease, leaseTtl)) {
+                    throw new CustomExceptions.JobLeaseLostException("작업 리스가 만료되었습니다: " + jobName);
+                }
+                ChunkedJob.Chunk chunk = transactionTemplate.execute(status -> {
+                    if (jobCheckpointRepository.fence(jobName, lease.getToken(), LocalDateTime.now()) == 0) {
+                        throw new CustomExceptions.JobLeaseLostException(
+                                "더 새로운 리스가 작업을 이어받았습니다: " + jobName);
+                    }
+                    return job.executeChunk(context);
+                });
+                run.setChunks(run.getChunks() + 1);
+                run.setProcessedRows(run.getProcessedRows() + chunk.getProcessedRows());
+                if (chunk.isLast()) {
+                    break;
+                }
+            }
+            run.setStatus(JobRunStatus.SUCCEEDED);
+        } catch (RuntimeException e) {
+            log.error("작업 '{}' 실패 (토큰 {}, {}개 묶음 처리 후)", jobName, lease.getToken(), run.getChunks(), e);
+            run.setStatus(JobRunStatus.FAILED);
+            String error = String.valueOf(e);
+            run.setError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+        }
+
+        long elapsed = System.nanoTime() - startedNanos;
+        run.setFinishedAt(LocalDateTime.now());
+        run.setDurationMillis(TimeUnit.NANOSECONDS.toMillis(elapsed));
+        JobRun finished = run;
+        try {
+            finished = jobRunRepository.save(run);
+        } catch (RuntimeException e) {
+            log.error("작업 '{}' 의 실행 기록을 저장하지 못했습니다 (상태 {})", jobName, run.getStatus(), e);
+        }
+        Timer.builder("job.run")
+                .description("배치 작업 실행 시간")
+                .tag("job", jobName)
+                .tag("status", run.getStatus().name())
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("job.run.rows")
+                .description("한 번의 실행에서 처리한 행 수")
+                .tag("job", jobName)
+                .register(meterRegistry)
+                .record(run.getProcessedRows());
+        log.info("작업 '{}' {}: {}건, {}개 묶음, {}ms", jobName, run.getStatus(), run.getProcessedRows(),
+                run.getChunks(), run.getDurationMillis());
+        return finished;
+    }
+
+    private static String resolveNode() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return UUID.randomUUID().toString();
+        }
+    }
+}
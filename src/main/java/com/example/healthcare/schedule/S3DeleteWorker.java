@@ -0,0 +1,224 @@
+package com.example.healthcare.schedule;
+
+import com.example.healthcare.domain.storage.S3DeleteTask;
+import com.example.healthcare.domain.storage.StoredImage;
+import com.example.healthcare.repository.storage.S3DeleteTaskRepository;
+import com.example.healthcare.repository.storage.StoredImageRepository;
+import com.example.healthcare.util.ImageTier;
+import com.example.healthcare.util.S3Deleter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * S3 삭제 outbox 를 주기적으로 비우는 워커입니다.
+ * 최대 1000개씩 multi-object delete 로 지우고, 실패한 키는 지수 백오프로 다시 시도합니다.
+ * 내용 해시로 저장한 사진은 삭제 직전에 참조 수를 다시 확인하여, 그 사이 다시 참조된 사진은 지우지 않습니다.
+ * 참조 행이 새로 올린 객체로 바뀌었다면 이전 객체는 그대로 지웁니다.
+ */
+@Component
+@Slf4j
+public class S3DeleteWorker {
+
+    static final Duration BASE_BACKOFF = Duration.ofSeconds(30);
+    static final Duration MAX_BACKOFF = Duration.ofHours(1);
+    // 한 번의 실행에서 처리할 최대 배치 수 (나머지는 다음 주기에 처리)
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final S3DeleteTaskRepository s3DeleteTaskRepository;
+    private final StoredImageRepository storedImageRepository;
+    private final S3Deleter s3Deleter;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration orphanGracePeriod;
+    private final Duration claimLease;
+
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final Counter deletedCounter;
+    private final Counter failedCounter;
+
+    public S3DeleteWorker(S3DeleteTaskRepository s3DeleteTaskRepository, StoredImageRepository storedImageRepository,
+                          S3Deleter s3Deleter, TransactionTemplate transactionTemplate, MeterRegistry meterRegistry,
+                          @Value("${cloud.aws.s3.delete.orphan-grace-period:PT24H}") Duration orphanGracePeriod,
+                          @Value("${cloud.aws.s3.delete.claim-lease:PT5M}") Duration claimLease) {
+        this.s3DeleteTaskRepository = s3DeleteTaskRepository;
+        this.storedImageRepository = storedImageRepository;
+        this.s3Deleter = s3Deleter;
+        this.transactionTemplate = transactionTemplate;
+        this.orphanGracePeriod = orphanGracePeriod;
+        this.claimLease = claimLease;
+        Gauge.builder("s3.delete.queue.depth", queueDepth, AtomicLong::get)
+                .description("S3 삭제 대기 중인 객체 수")
+                .register(meterRegistry);
+        this.deletedCounter = Counter.builder("s3.delete.objects")
+                .tag("result", "deleted")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("s3.delete.objects")
+                .tag("result", "failed")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${cloud.aws.s3.delete.poll-interval:10000}")
+    public void drain() {
+        for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+            // 배치가 가득 차지 않았다면 더 이상 처리할 작업이 없습니다.
+            if (drainBatch() < S3Deleter.MAX_KEYS_PER_REQUEST) {
+                break;
+            }
+        }
+        queueDepth.set(s3DeleteTaskRepository.count());
+    }
+
+    /**
+     * 재시도 시각이 지난 삭제 작업을 최대 1000개 가져와 한 번의 요청으로 삭제합니다.
+     * 작업을 집는 트랜잭션과 결과를 기록하는 트랜잭션을 짧게 나누고, S3 요청 중에는 트랜잭션을 열지 않아
+     * 같은 사진을 참조하는 식단 저장이 S3 지연만큼 기다리거나 커넥션을 오래 점유하지 않습니다.
+     *
+     * @return 처리한 작업 수
+     */
+    int drainBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime orphanedBefore = now.minus(orphanGracePeriod);
+        Claim claim = transactionTemplate.execute(status -> claim(now, orphanedBefore));
+        if (claim == null || claim.getClaimed() == 0) {
+            return 0;
+        }
+
+        // 새로 올리는 사진은 새 객체 키를 쓰고, 참조가 끊긴 사진은 유예 기간의 절반까지만 재사용되므로
+        // 작업을 집은 뒤 잠금 없이 지워도 다시 참조된 객체를 지우지 않습니다.
+        List<String> objectKeys = claim.getDeletable().stream()
+                .map(S3DeleteTask::getObjectKey)
+                .distinct()
+                .collect(Collectors.toList());
+        Map<String, String> failures = s3Deleter.deleteObjects(objectKeys);
+
+        transactionTemplate.executeWithoutResult(status -> record(claim.getDeletable(), failures, orphanedBefore));
+
+        int failed = (int) claim.getDeletable().stream()
+                .filter(task -> failures.containsKey(task.getObjectKey()))
+                .count();
+        deletedCounter.increment(claim.getDeletable().size() - failed);
+        failedCounter.increment(failed);
+        if (failed > 0) {
+            log.warn("S3 객체 삭제 실패 {}건, 다음 주기에 재시도합니다.", failed);
+        }
+        return claim.getClaimed();
+    }
+
+    /**
+     * 삭제 작업을 집습니다. 다시 참조된 사진의 작업은 바로 지우고, 나머지는 재시도 시각을 임대 기간만큼 미뤄
+     * 다른 노드가 S3 요청 중에 같은 작업을 집지 않도록 합니다. 노드가 중간에 멈추면 임대가 끝난 뒤 다시 처리됩니다.
+     */
+    private Claim claim(LocalDateTime now, LocalDateTime orphanedBefore) {
+        List<S3DeleteTask> tasks = s3DeleteTaskRepository.findByNextAttemptAtLessThanEqualOrderByIdAsc(
+                now, PageRequest.of(0, S3Deleter.MAX_KEYS_PER_REQUEST));
+        if (tasks.isEmpty()) {
+            return new Claim(0, Collections.emptyList());
+        }
+        Set<String> liveObjectKeys = findLiveObjectKeys(tasks, orphanedBefore);
+
+        // 다시 참조된 사진의 작업은 S3 요청 없이 버립니다.
+        List<S3DeleteTask> skipped = new ArrayList<>();
+        List<S3DeleteTask> deletable = new ArrayList<>();
+        for (S3DeleteTask task : tasks) {
+            if (task.getContentHash() != null && liveObjectKeys.contains(task.getObjectKey())) {
+                skipped.add(task);
+            } else {
+                task.setNextAttemptAt(now.plus(claimLease));
+                deletable.add(task);
+            }
+        }
+        s3DeleteTaskRepository.deleteAllInBatch(skipped);
+        return new Claim(tasks.size(), deletable);
+    }
+
+    /**
+     * S3 요청 결과를 기록합니다. 성공한 작업은 지우고 실패한 작업은 백오프 뒤로 미룹니다.
+     * 모든 크기 단계가 지워진 사진만 참조 행을 정리합니다.
+     */
+    private void record(List<S3DeleteTask> deletable, Map<String, String> failures, LocalDateTime orphanedBefore) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> doneIds = new ArrayList<>();
+        Map<Long, String> errors = new HashMap<>();
+        Set<String> failedHashes = new HashSet<>();
+        for (S3DeleteTask task : deletable) {
+            String error = failures.get(task.getObjectKey());
+            if (error == null) {
+                doneIds.add(task.getId());
+            } else {
+                errors.put(task.getId(), error);
+                if (task.getContentHash() != null) {
+                    failedHashes.add(task.getContentHash());
+                }
+            }
+        }
+        if (!doneIds.isEmpty()) {
+            s3DeleteTaskRepository.deleteAllByIdInBatch(doneIds);
+        }
+        // 임대 중 다른 노드가 처리해 이미 지워진 작업은 다시 만들지 않도록 다시 읽어서 갱신합니다.
+        if (!errors.isEmpty()) {
+            for (S3DeleteTask task : s3DeleteTaskRepository.findAllById(errors.keySet())) {
+                String error = errors.get(task.getId());
+                task.setAttempts(task.getAttempts() + 1);
+                task.setNextAttemptAt(now.plus(backoff(task.getAttempts())));
+                task.setLastError(error.length() > 1000 ? error.substring(0, 1000) : error);
+            }
+        }
+
+        Set<String> purgedHashes = deletable.stream()
+                .map(S3DeleteTask::getContentHash)
+                .filter(Objects::nonNull)
+                .filter(contentHash -> !failedHashes.contains(contentHash))
+                .collect(Collectors.toSet());
+        if (!purgedHashes.isEmpty()) {
+            storedImageRepository.deleteExpired(purgedHashes, orphanedBefore);
+        }
+    }
+
+    /**
+     * 작업 대상 사진 중 아직 참조 중이거나, 유예 기간 안에 다시 참조가 끊겨 새 삭제 작업이 예약된 사진의
+     * 현재 객체 키(모든 크기 단계)를 찾습니다. 판단하는 동안 참조 수가 바뀌지 않도록 행을 잠급니다.
+     */
+    private Set<String> findLiveObjectKeys(List<S3DeleteTask> tasks, LocalDateTime orphanedBefore) {
+        Set<String> contentHashes = tasks.stream()
+                .map(S3DeleteTask::getContentHash)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(TreeSet::new));
+        if (contentHashes.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return storedImageRepository.findAllByContentHashIn(contentHashes).stream()
+                .filter(image -> image.getRefCount() > 0
+                        || (image.getOrphanedAt() != null && image.getOrphanedAt().isAfter(orphanedBefore)))
+                .map(StoredImage::getObjectKey)
+                .flatMap(objectKey -> Arrays.stream(ImageTier.values()).map(tier -> tier.objectKey(objectKey)))
+                .collect(Collectors.toSet());
+    }
+
+    static Duration backoff(int attempts) {
+        long multiplier = 1L << Math.min(attempts - 1, 16);
+        Duration delay = BASE_BACKOFF.multipliedBy(multiplier);
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    // 집은 작업 수(건너뛴 작업 포함)와 S3 에서 지울 작업
+    @Getter
+    @RequiredArgsConstructor
+    private static class Claim {
+        private final int claimed;
+        private final List<S3DeleteTask> deletable;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.healthcare.service;
+
+import com.example.healthcare.config.BatchEvictingCache;
+import com.example.healthcare.util.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 식단 데이터가 바뀐 날짜가 속한 달의 달력 요약 캐시 항목을 지웁니다.
+ * 운동 데이터 변경은 ExerciseCacheEvictor 가 함께 지웁니다.
+ * 트랜잭션 안에서 호출되면 커밋 뒤에 지웁니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CalendarCacheEvictor {
+
+    private final CacheManager cacheManager;
+
+    public void evict(Long userId, LocalDate... dates) {
+        Set<LocalDate> changed = new HashSet<>();
+        for (LocalDate date : dates) {
+            if (date != null) {
+                changed.add(date);
+            }
+        }
+        evict(Map.of(userId, changed));
+    }
+
+    /**
+     * @param datesByUserId 사용자별로 식단 데이터가 바뀐 날짜
+     */
+    public void evict(Map<Long, ? extends Collection<LocalDate>> datesByUserId) {
+        AfterCommit.run(() -> evictNow(datesByUserId));
+    }
+
+    private void evictNow(Map<Long, ? extends Collection<LocalDate>> datesByUserId) {
+        Cache cache = cacheManager.getCache(CalendarCacheKeys.MONTH);
+        if (cache == null) {
+            return;
+        }
+        Set<String> monthKeys = new HashSet<>();
+        datesByUserId.forEach((userId, dates) -> {
+            for (LocalDate date : dates) {
+                monthKeys.add(CalendarCacheKeys.month(userId, date));
+            }
+        });
+        BatchEvictingCache.evictAll(cache, monthKeys);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.healthcare.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * 달력 요약 캐시의 이름과 키를 정의합니다. 키는 (사용자, 월)입니다.
+ */
+public final class CalendarCacheKeys {
+
+    public static final String MONTH = "calendarMonth";
+
+    private CalendarCacheKeys() {
+    }
+
+    /**
+     * @param selectMonth yyyy-MM
+     */
+    public static String month(Long userId, String selectMonth) {
+        return month(userId, YearMonth.parse(selectMonth));
+    }
+
+    public static String month(Long userId, LocalDate date) {
+        return month(userId, YearMonth.from(date));
+    }
+
+    private static String month(Long userId, YearMonth yearMonth) {
+        return userId + ":" + yearMonth;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.healthcare.service;
+
+import com.example.healthcare.controller.response.calendar.CalendarMonthResponse;
+import com.example.healthcare.domain.enumType.diet.DietStatusRole;
+import com.example.healthcare.domain.enumType.exercise.ExerciseRole;
+import com.example.healthcare.repository.diet.DietRepository;
+import com.example.healthcare.repository.exercise.ExerciseRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 달력 화면에서 날짜별 색을 칠하는 데 필요한 상태 개수만 조회합니다.
+ * 운동과 식단 전체 행 대신 그룹 집계 쿼리 두 번으로 계산하고, (사용자, 월) 단위로 캐시합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CalendarSummaryService {
+
+    private static final ExerciseRole[] EXERCISE_STATUSES = ExerciseRole.values();
+    private static final DietStatusRole[] DIET_STATUSES = DietStatusRole.values();
+
+    private final ExerciseRepository exerciseRepository;
+    private final DietRepository dietRepository;
+
+    /**
+     * 주어진 월의 일자별 운동 세션 수와 식단 항목 수를 상태별로 조회합니다.
+     *
+     * @param selectDate 조회하고자 하는 월 (yyyy-MM)
+     */
+    @Cacheable(value = CalendarCacheKeys.MONTH,
+            key = "T(com.example.healthcare.service.CalendarCacheKeys).month(#userId, #selectDate)")
+    public CalendarMonthResponse getMonth(Long userId, String selectDate) {
+        if (userId == null) {
+            throw new IllegalArgumentException("사용자 ID가 null입니다.");
+        }
+        YearMonth month = YearMonth.parse(selectDate);
+        int[][] days = new int[month.lengthOfMonth()][EXERCISE_STATUSES.length + DIET_STATUSES.length];
+
+        for (ExerciseRepository.DayStatusCount row : exerciseRepository.countByDayAndStatus(userId,
+                month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay())) {
+            if (row.getStatus() != null) {
+                days[row.getDay() - 1][row.getStatus().ordinal()] += row.getCount().intValue();
+            }
+        }
+        for (DietRepository.DayStatusCount row : dietRepository.countByDayAndStatus(userId,
+                month.atDay(1), month.plusMonths(1).atDay(1))) {
+            if (row.getStatus() != null) {
+                days[row.getDay() - 1][EXERCISE_STATUSES.length + row.getStatus().ordinal()]
+                        += row.getCount().intValue();
+            }
+        }
+
+        // 캐시 직렬화(기본 타입 정보 포함)를 위해 변경 가능한 목록을 씁니다.
+        return CalendarMonthResponse.builder()
+                .month(month.toString())
+                .exerciseStatuses(names(EXERCISE_STATUSES))
+                .dietStatuses(names(DIET_STATUSES))
+                .days(days)
+                .build();
+    }
+
+    private static List<String> names(Enum<?>[] statuses) {
+        return Arrays.stream(statuses)
+                .map(Enum::name)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.healthcare.service;
+
+import com.example.healthcare.controller.response.diet.DailyNutritionResponse;
+import com.example.healthcare.controller.response.diet.NutritionSummaryResponse;
+import com.example.healthcare.domain.diet.DietInfo;
+import com.example.healthcare.repository.diet.DailyNutritionSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 일일 영양 합계(DailyNutritionSummary)를 갱신하고 조회합니다.
+ * 갱신 메서드는 호출한 쪽의 트랜잭션 안에서 실행되어, 식단 정보 변경과 합계 변경이 함께 커밋됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class DailyNutritionSummaryService {
+
+    // (userId, summaryDate) 행에 증감분을 더하고, 행이 없으면 증감분으로 새로 만듭니다.
+    // 읽고-쓰기 대신 한 문장의 upsert 로 처리하므로 같은 날짜에 동시에 들어온 변경도 유실되지 않습니다.
+    private static final String UPSERT_SQL = "INSERT INTO daily_nutrition_summary (user_id, summary_date, " +
+            "planned_kcal, planned_carbohydrate, planned_protein, planned_fat, " +
+            "completed_kcal, completed_carbohydrate, completed_protein, completed_fat) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "planned_kcal = planned_kcal + VALUES(planned_kcal), " +
+            "planned_carbohydrate = planned_carbohydrate + VALUES(planned_carbohydrate), " +
+            "planned_protein = planned_protein + VALUES(planned_protein), " +
+            "planned_fat = planned_fat + VALUES(planned_fat), " +
+            "completed_kcal = completed_kcal + VALUES(completed_kcal), " +
+            "completed_carbohydrate = completed_carbohydrate + VALUES(completed_carbohydrate), " +
+            "completed_protein = completed_protein + VALUES(completed_protein), " +
+            "completed_fat = completed_fat + VALUES(completed_fat)";
+
+    private final DailyNutritionSummaryRepository dailyNutritionSummaryRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 새로 저장한 식단 정보를 해당 날짜 합계에 더합니다.
+     */
+    public void addDietInfos(Long userId, LocalDate date, Collection<DietInfo> dietInfos) {
+        apply(userId, date, NutritionDelta.of(dietInfos));
+    }
+
+    /**
+     * 삭제한 식단 정보를 해당 날짜 합계에서 뺍니다.
+     */
+    public void removeDietInfos(Long userId, LocalDate date, Collection<DietInfo> dietInfos) {
+        apply(userId, date, NutritionDelta.of(dietInfos).negate());
+    }
+
+    /**
+     * 식단 수정 전후의 합계 차이를 반영합니다. 날짜가 바뀌었다면 이전 날짜에서 빼고 새 날짜에 더합니다.
+     *
+     * @param before 수정 전 식단 정보의 합계
+     * @param after  수정 후 식단 정보 목록
+     */
+    void replaceDietInfos(Long userId, LocalDate beforeDate, NutritionDelta before,
+                          LocalDate afterDate, Collection<DietInfo> after) {
+        NutritionDelta afterDelta = NutritionDelta.of(after);
+        if (beforeDate.equals(afterDate)) {
+            apply(userId, afterDate, afterDelta.minus(before));
+            return;
+        }
+        apply(userId, beforeDate, before.negate());
+        apply(userId, afterDate, afterDelta);
+    }
+
+    /**
+     * 주어진 날짜가 속한 주(월~일)의 영양 합계를 조회합니다.
+     *
+     * @param selectDate 조회하고자 하는 날짜(ISO 날짜 형식)
+     */
+    public NutritionSummaryResponse getWeeklySummary(Long userId, String selectDate) {
+        LocalDate date = parse(() -> LocalDate.parse(selectDate, DateTimeFormatter.ISO_DATE));
+        return getSummary(userId, date.with(DayOfWeek.MONDAY), date.with(DayOfWeek.SUNDAY));
+    }
+
+    /**
+     * 주어진 월의 영양 합계를 조회합니다.
+     *
+     * @param selectDate 조회하고자 하는 월 (yyyy-MM)
+     */
+    public NutritionSummaryResponse getMonthlySummary(Long userId, String selectDate) {
+        YearMonth month = parse(() -> YearMonth.parse(selectDate));
+        return getSummary(userId, month.atDay(1), month.atEndOfMonth());
+    }
+
+    /**
+     * 주어진 연도의 영양 합계를 조회합니다.
+     *
+     * @param selectDate 조회하고자 하는 연도 (yyyy)
+     */
+    public NutritionSummaryResponse getYearlySummary(Long userId, String selectDate) {
+        Year year = parse(() -> Year.parse(selectDate));
+        return getSummary(userId, year.atDay(1), year.atMonth(12).atEndOfMonth());
+    }
+
+    // 합계 테이블만 읽으므로 기간 길이와 관계없이 최대 366행만 조회합니다.
+    private NutritionSummaryResponse getSummary(Long userId, LocalDate startDate, LocalDate endDate) {
+        if (userId == null) {
+            throw new IllegalArgumentException("사용자 ID가 null입니다.");
+        }
+        List<DailyNutritionResponse> days = dailyNutritionSummaryRepository
+                .findAllByUserIdAndSummaryDateBetweenOrderBySummaryDateAsc(userId, startDate, endDate)
+                .stream()
+                .map(DailyNutritionResponse::createDailyNutritionResponse)
+                .collect(Collectors.toList());
+        return NutritionSummaryResponse.createNutritionSummaryResponse(startDate, endDate, days);
+    }
+
+    private void apply(Long userId, LocalDate date, NutritionDelta delta) {
+        if (delta.isZero()) {
+            return;
+        }
+        jdbcTemplate.update(UPSERT_SQL, userId, date,
+                delta.getPlannedKcal(), delta.getPlannedCarbohydrate(),
+                delta.getPlannedProtein(), delta.getPlannedFat(),
+                delta.getCompletedKcal(), delta.getCompletedCarbohydrate(),
+                delta.getCompletedProtein(), delta.getCompletedFat());
+    }
+
+    private static <T> T parse(Supplier<T> parser) {
+        try {
+            return parser.get();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("날짜 형식이 잘못되었습니다.");
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.healthcare.service;
+
+import com.example.healthcare.controller.response.diet.DietImgUrlResponse;
+import com.example.healthcare.controller.response.diet.DietInfoResponse;
+import com.example.healthcare.controller.response.diet.DietWithImgResponse;
+import com.example.healthcare.domain.diet.Diet;
+import com.example.healthcare.domain.diet.DietImageUrl;
+import com.example.healthcare.domain.diet.DietInfo;
+import com.example.healthcare.repository.diet.DietImageUrlRepository;
+import com.example.healthcare.repository.diet.DietInfoRepository;
+import com.example.healthcare.util.QueryChunks;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class DietAggregateLoader {
+
+    private final DietInfoRepository dietInfoRepository;
+    private final DietImageUrlRepository dietImageUrlRepository;
+
+    /**
+     * 여러 식단의 식단 정보와 이미지를 IN 절 조회로 한 번에 가져와 응답으로 조립합니다.
+     * 식단 수와 관계없이 IN_CLAUSE_CHUNK_SIZE 단위마다 두 번의 쿼리만 실행됩니다.
+     *
+     * @param diets 조회할 식단 목록
+     * @return 식단 순서대로 정렬된 식단 정보 및 이미지 응답
+     */
+    public DietWithImgResponse load(List<Diet> diets) {
+        DietWithImgResponse response = loadGrouped(diets, diet -> Boolean.TRUE).get(Boolean.TRUE);
+        return response != null ? response : new DietWithImgResponse(new ArrayList<>(), new ArrayList<>());
+    }
+
+    /**
+     * 여러 식단을 묶음 조회한 뒤 classifier 가 돌려주는 키별로 응답을 나눠 담습니다.
+     * 식단이 없는 키는 결과에 포함되지 않으며, 키 순서는 식단 목록에서 처음 등장한 순서를 따릅니다.
+     *
+     * @param diets      조회할 식단 목록
+     * @param classifier 식단을 묶을 키 (예: 작성자 닉네임)
+     * @return 키별 식단 정보 및 이미지 응답
+     */
+    public <K> Map<K, DietWithImgResponse> loadGrouped(List<Diet> diets, Function<Diet, K> classifier) {
+        List<Long> dietIds = diets.stream()
+                .map(Diet::getId)
+                .distinct()
+                .collect(Collectors.toList());
+
+        Map<Long, List<DietInfo>> dietInfosByDietId = groupByDietId(
+                findDietInfos(dietIds), DietInfo::getDietId, DietInfo::getId);
+        Map<Long, List<DietImageUrl>> dietImageUrlsByDietId = groupByDietId(
+                findDietImageUrls(dietIds), DietImageUrl::getDietId, DietImageUrl::getId);
+
+        Map<K, DietWithImgResponse> responses = new LinkedHashMap<>();
+        Set<Long> assembled = new HashSet<>();
+        for (Diet diet : diets) {
+            if (!assembled.add(diet.getId())) {
+                continue;
+            }
+            DietWithImgResponse response = responses.computeIfAbsent(classifier.apply(diet),
+                    key -> new DietWithImgResponse(new ArrayList<>(), new ArrayList<>()));
+            for (DietInfo dietInfo : dietInfosByDietId.getOrDefault(diet.getId(), Collections.emptyList())) {
+                response.getDietResponses().add(DietInfoResponse.createDietResponse(dietInfo));
+            }
+            for (DietImageUrl dietImageUrl : dietImageUrlsByDietId.getOrDefault(diet.getId(), Collections.emptyList())) {
+                response.getDietImgUrlResponses().add(DietImgUrlResponse.createDietImgUrlResponse(dietImageUrl));
+            }
+        }
+        return responses;
+    }
+
+    private List<DietInfo> findDietInfos(List<Long> dietIds) {
+        List<DietInfo> dietInfos = new ArrayList<>();
+        for (List<Long> chunk : QueryChunks.partition(dietIds, QueryChunks.IN_CLAUSE_CHUNK_SIZE)) {
+            dietInfos.addAll(dietInfoRepository.findAllByDietIdIn(chunk));
+        }
+        return dietInfos;
+    }
+
+    private List<DietImageUrl> findDietImageUrls(List<Long> dietIds) {
+        List<DietImageUrl> dietImageUrls = new ArrayList<>();
+        for (List<Long> chunk : QueryChunks.partition(dietIds, QueryChunks.IN_CLAUSE_CHUNK_SIZE)) {
+            dietImageUrls.addAll(dietImageUrlRepository.findAllByDietIdIn(chunk));
+        }
+        return dietImageUrls;
+    }
+
+    private static <T> Map<Long, List<T>> groupByDietId(List<T> rows,
+                                                        Function<T, Long> dietId,
+                                                        Function<T, Long> id) {
+        return rows.stream()
+                .sorted(Comparator.comparing(id))
+                .collect(Collectors.groupingBy(dietId, HashMap::new, Collectors.toList()));
+    }
+}
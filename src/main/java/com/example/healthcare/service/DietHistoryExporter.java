@@ -0,0 +1,164 @@
+package com.example.healthcare.service;
+
+import com.example.healthcare.controller.response.diet.DietHistoryResponse;
+import com.example.healthcare.controller.response.diet.DietImgUrlResponse;
+import com.example.healthcare.controller.response.diet.DietInfoResponse;
+import com.example.healthcare.domain.enumType.diet.DietStatusRole;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+
+/**
+ * 사용자의 전체 식단 기록을 NDJSON(한 줄에 식단 하나)으로 내보냅니다.
+ * 식단 정보와 이미지를 UNION ALL 로 (날짜, 식단 ID) 순서의 한 결과 집합으로 만들고,
+ * JDBC 스트리밍으로 읽으면서 식단이 바뀔 때마다 한 줄씩 씁니다.
+ * 서버는 한 번에 식단 하나만 메모리에 들고 있으므로 기록 양과 관계없이 사용량이 일정합니다.
+ * 내보내는 동안 커넥션 하나를 점유합니다.
+ */
+@Component
+@Slf4j
+public class DietHistoryExporter {
+
+    // kind 0: 식단 정보 행 (식단 정보가 없는 식단도 한 행 포함), kind 1: 이미지 행
+    private static final String EXPORT_SQL =
+            "SELECT d.id AS diet_id, d.diet_date AS diet_date, 0 AS kind, i.id AS row_id, " +
+            "i.food_name, i.carbohydrate, i.protein, i.unsaturated_fat, i.trans_fat, i.saturated_fat, " +
+            "i.kcal, i.diet_time, i.diet_status_role, NULL AS img_url, NULL AS medium_url, NULL AS thumbnail_url " +
+            "FROM diet d LEFT JOIN diet_info i ON i.diet_id = d.id WHERE d.user_id = ? " +
+            "UNION ALL " +
+            "SELECT d.id, d.diet_date, 1, m.id, " +
+            "NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, m.img_url, m.medium_url, m.thumbnail_url " +
+            "FROM diet d JOIN diet_image_url m ON m.diet_id = d.id WHERE d.user_id = ? " +
+            "ORDER BY diet_date, diet_id, kind, row_id";
+
+    // 이 줄 수마다 클라이언트로 내보냅니다.
+    private static final int FLUSH_EVERY = 100;
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param fetchSize MySQL Connector/J 는 Integer.MIN_VALUE 일 때 행을 하나씩 스트리밍합니다.
+     */
+    public DietHistoryExporter(DataSource dataSource, ObjectMapper objectMapper,
+                               @Value("${diet.export.fetch-size:" + Integer.MIN_VALUE + "}") int fetchSize) {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(fetchSize);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @param userId 사용자 ID
+     * @param out    NDJSON 을 쓸 스트림 (닫지 않습니다)
+     * @return 내보낸 식단 수
+     */
+    public int export(Long userId, OutputStream out) throws IOException {
+        NdjsonWriter writer = new NdjsonWriter(out);
+        try {
+            streamingJdbcTemplate.query(EXPORT_SQL, writer, userId, userId);
+            writer.finish();
+        } catch (UncheckedIOException e) {
+            // 클라이언트가 연결을 끊은 경우 등
+            throw e.getCause();
+        }
+        return writer.written;
+    }
+
+    private class NdjsonWriter implements RowCallbackHandler {
+
+        private final OutputStream out;
+        private DietHistoryResponse current;
+        private int written;
+
+        NdjsonWriter(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long dietId = rs.getLong("diet_id");
+            if (current == null || current.getDietId() != dietId) {
+                writeCurrent();
+                current = DietHistoryResponse.builder()
+                        .dietId(dietId)
+                        .dietDate(rs.getDate("diet_date").toLocalDate())
+                        .dietResponses(new ArrayList<>())
+                        .dietImgUrlResponses(new ArrayList<>())
+                        .build();
+            }
+
+            long rowId = rs.getLong("row_id");
+            if (rs.wasNull()) {
+                return;
+            }
+            if (rs.getInt("kind") == 0) {
+                String status = rs.getString("diet_status_role");
+                current.getDietResponses().add(DietInfoResponse.builder()
+                        .id(rowId)
+                        .dietId(dietId)
+                        .foodName(rs.getString("food_name"))
+                        .carbohydrate(getDouble(rs, "carbohydrate"))
+                        .protein(getDouble(rs, "protein"))
+                        .unsaturatedFat(getDouble(rs, "unsaturated_fat"))
+                        .transFat(getDouble(rs, "trans_fat"))
+                        .saturatedFat(getDouble(rs, "saturated_fat"))
+                        .kcal(getDouble(rs, "kcal"))
+                        .dietTime(rs.getString("diet_time"))
+                        .dietStatusRole(status != null ? DietStatusRole.valueOf(status) : null)
+                        .build());
+            } else {
+                current.getDietImgUrlResponses().add(DietImgUrlResponse.builder()
+                        .id(rowId)
+                        .dietId(dietId)
+                        .imgUrl(rs.getString("img_url"))
+                        .mediumUrl(rs.getString("medium_url"))
+                        .thumbnailUrl(rs.getString("thumbnail_url"))
+                        .build());
+            }
+        }
+
+        void finish() {
+            writeCurrent();
+            flush();
+        }
+
+        private void writeCurrent() {
+            if (current == null) {
+                return;
+            }
+            try {
+                out.write(objectMapper.writeValueAsBytes(current));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (++written % FLUSH_EVERY == 0) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            try {
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private Double getDouble(ResultSet rs, String column) throws SQLException {
+            double value = rs.getDouble(column);
+            return rs.wasNull() ? null : value;
+        }
+    }
+}
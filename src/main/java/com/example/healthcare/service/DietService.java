@@ -1,51 +1,66 @@
 package com.example.healthcare.service;
 
 import com.example.healthcare.controller.request.diet.DietRequest;
-import com.example.healthcare.controller.response.diet.DietImgUrlResponse;
-import com.example.healthcare.controller.response.diet.DietInfoResponse;
+import com.example.healthcare.controller.response.diet.DietHistoryPageResponse;
+import com.example.healthcare.controller.response.diet.DietHistoryResponse;
 import com.example.healthcare.controller.response.diet.DietWithImgResponse;
 import com.example.healthcare.domain.diet.Diet;
 import com.example.healthcare.domain.diet.DietImageUrl;
 import com.example.healthcare.domain.diet.DietInfo;
 import com.example.healthcare.domain.enumType.diet.DietStatusRole;
 import com.example.healthcare.domain.enumType.member.MemberDisclosureStatusRole;
-import com.example.healthcare.domain.memeber.Member;
 import com.example.healthcare.exception.CustomExceptions;
 import com.example.healthcare.repository.diet.DietImageUrlRepository;
 import com.example.healthcare.repository.diet.DietInfoRepository;
 import com.example.healthcare.repository.diet.DietRepository;
-import com.example.healthcare.repository.member.MemberRepository;
-import com.example.healthcare.util.FileRandomNaming;
-import com.example.healthcare.util.S3Deleter;
+import com.example.healthcare.schedule.DietStatusExpiryJob;
+import com.example.healthcare.schedule.ExpiryQueue;
+import com.example.healthcare.util.KeysetCursor;
+import com.example.healthcare.util.S3DeleteQueue;
 import com.example.healthcare.util.S3Uploader;
+import com.example.healthcare.util.StoredImageIndex;
+import com.example.healthcare.util.UploadedImage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.transaction.Transactional;
-import java.io.IOException;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class DietService {
 
+    public static final int MAX_HISTORY_PAGE_SIZE = 100;
+
     private final DietRepository dietRepository;
     private final DietInfoRepository dietInfoRepository;
     private final DietImageUrlRepository dietImageUrlRepository;
-    private final MemberRepository memberRepository;
+    private final DietAggregateLoader dietAggregateLoader;
+    private final DailyNutritionSummaryService dailyNutritionSummaryService;
     private final S3Uploader s3Uploader;
-    private final S3Deleter s3Deleter;
+    private final S3DeleteQueue s3DeleteQueue;
+    private final StoredImageIndex storedImageIndex;
+    private final CalendarCacheEvictor calendarCacheEvictor;
+    private final TransactionTemplate transactionTemplate;
+    private final DietStatusExpiryJob dietStatusExpiryJob;
+    private final ExpiryQueue expiryQueue;
 
     /**
      * 사용자의 식단을 등록합니다.
+     * 사진은 트랜잭션을 열기 전에 병렬로 업로드하고, DB 에는 짧은 트랜잭션 하나로 저장합니다.
+     * 저장이 실패하면 이미 올라간 사진을 삭제합니다.
      *
      * @param userId       사용자 ID
      * @param dietRequests 식단 요청 목록
@@ -54,35 +69,37 @@ public class DietService {
      * @throws CustomExceptions.FileUploadException 파일 업로드 실패 시 예외 발생
      * @throws DateTimeParseException DateTimeParser.dateParser의 잘못된 데이터 형식이 들어올 시 예외 발생
      */
-    @Transactional
     public void registerDiet(Long userId, String dietDate, List<DietRequest> dietRequests, List<MultipartFile> files) {
         if (userId == null) {
             throw new IllegalArgumentException("사용자 ID가 null입니다.");
         }
-
-        Long latestDietId = 0L;
-        Optional<Diet> latestDietOptional = dietRepository.findFirstByOrderByIdDesc();
-        if (latestDietOptional.isPresent()) {
-            latestDietId = latestDietOptional.get().getId() + 1;
-        }
         LocalDate date = LocalDate.parse(dietDate, DateTimeFormatter.ISO_DATE);
-        dietRepository.save(Diet.createDiet(latestDietId, userId, date));
-        if (files!=null) { // 사진 파일을 보냈을 때만 처리
-            for (MultipartFile file : files) {
-                try {
-                    String fileUrl = s3Uploader.uploadAndGenerateUrl(
-                            file, "diet-images/" + FileRandomNaming.fileRandomNaming(file));
-                    dietImageUrlRepository.save(DietImageUrl.createDietImageUrl(latestDietId, fileUrl));
-                } catch (IOException e) {
-                    log.error("파일 업로드 실패: " + e.getMessage());
-                    throw new CustomExceptions.FileUploadException("파일 업로드 실패", e);
+
+        long startedAt = System.nanoTime();
+        List<UploadedImage> uploadedImages = uploadDietImages(files);
+        long uploadedAt = System.nanoTime();
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // 식단 ID는 id_sequence 테이블 기반 pooled 생성기가 할당합니다.
+                Long latestDietId = dietRepository.save(Diet.createDiet(userId, date)).getId();
+                saveDietImageUrls(latestDietId, uploadedImages);
+                List<DietInfo> dietInfos = new ArrayList<>();
+                for (DietRequest dietRequest : dietRequests) {
+                    dietInfos.add(DietInfo.createDietInfo(latestDietId, dietRequest));
                 }
-            }
-        }
-        for(DietRequest dietRequest : dietRequests){
-            dietInfoRepository.save(
-                    DietInfo.createDietInfo(latestDietId, dietRequest));
+                // 항목 수와 관계없이 hibernate.jdbc.batch_size 단위의 배치 INSERT 로 저장됩니다.
+                dietInfoRepository.saveAll(dietInfos);
+                dailyNutritionSummaryService.addDietInfos(userId, date, dietInfos);
+                dietStatusExpiryJob.rewind(date);
+                expiryQueue.scheduleDiet(userId, latestDietId, date);
+                calendarCacheEvictor.evict(userId, date);
+            });
+        } catch (RuntimeException e) {
+            discardUploadedImages(uploadedImages);
+            throw e;
         }
+        logElapsed("식단 등록", startedAt, uploadedAt, System.nanoTime());
     }
 
     /**
@@ -167,6 +184,7 @@ public class DietService {
         }
     }
 
+    @Transactional
     public void dietSuccess(Long userId, Long dietId , Long dietInfoId) {
         Diet diet =  dietRepository.findById(dietId).orElseThrow(
                 () -> new CustomExceptions.DietNotFoundException("식단 정보가 존재하지 않습니다."));
@@ -174,9 +192,17 @@ public class DietService {
         DietInfo dietInfo = dietInfoRepository.findById(dietInfoId).orElseThrow(
                 () -> new CustomExceptions.DietNotFoundException("식단 정보가 존재하지 않습니다."));
 
-        if(dietInfo.getDietId() == dietId && diet.getUserId() == userId) {
+        if(dietInfo.getDietId().equals(dietId) && diet.getUserId().equals(userId)) {
+            // 이미 완료된 항목은 합계에 다시 더하지 않습니다.
+            if (dietInfo.getDietStatusRole() == DietStatusRole.COMPLETE) {
+                return;
+            }
+            NutritionDelta before = NutritionDelta.of(dietInfo);
             dietInfo.setDietStatusRole(DietStatusRole.COMPLETE);
             dietInfoRepository.save(dietInfo);
+            dailyNutritionSummaryService.replaceDietInfos(userId, diet.getDietDate(), before,
+                    diet.getDietDate(), List.of(dietInfo));
+            calendarCacheEvictor.evict(userId, diet.getDietDate());
         } else {
             throw new CustomExceptions.AccessDeniedException("이 식단의 권한이 없습니다.");
         }
@@ -188,6 +214,46 @@ public class DietService {
         return getDietData(diets);
     }
 
+    /**
+     * 사용자의 전체 식단 기록을 (날짜, ID) 순으로 한 페이지씩 조회합니다.
+     * OFFSET 대신 마지막 행의 (날짜, ID) 를 커서로 사용하므로 뒤쪽 페이지도 앞쪽과 같은 비용으로 조회됩니다.
+     *
+     * @param userId 사용자 ID
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @param size   페이지 크기 (1 ~ MAX_HISTORY_PAGE_SIZE)
+     * @return 식단 목록과 다음 페이지 커서
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우 예외 발생
+     */
+    public DietHistoryPageResponse getDietHistoryPage(Long userId, String cursor, int size) {
+        if (userId == null) {
+            throw new IllegalArgumentException("사용자 ID가 null입니다.");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_HISTORY_PAGE_SIZE));
+        // 다음 페이지가 있는지 알기 위해 한 건을 더 조회합니다.
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<Diet> diets;
+        if (cursor == null || cursor.isEmpty()) {
+            diets = dietRepository.findByUserIdOrderByDietDateAscIdAsc(userId, limit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            diets = dietRepository.findPageAfter(userId, after.getDate(), after.getId(), limit);
+        }
+
+        String nextCursor = null;
+        if (diets.size() > pageSize) {
+            diets = diets.subList(0, pageSize);
+            Diet last = diets.get(pageSize - 1);
+            nextCursor = KeysetCursor.of(last.getDietDate(), last.getId()).encode();
+        }
+
+        Map<Long, DietWithImgResponse> byDietId = dietAggregateLoader.loadGrouped(diets, Diet::getId);
+        List<DietHistoryResponse> page = new ArrayList<>();
+        for (Diet diet : diets) {
+            page.add(DietHistoryResponse.createDietHistoryResponse(diet, byDietId.get(diet.getId())));
+        }
+        return new DietHistoryPageResponse(page, nextCursor);
+    }
+
     public DietWithImgResponse getDetailDiets(Long userId, Long dietId) {
         List<Diet> diets = dietRepository.findByUserIdAndId(userId, dietId);
         return getDietData(diets);
@@ -198,84 +264,183 @@ public class DietService {
             throw new CustomExceptions.DietNotFoundException("조회된 데이터가 없습니다.");
         }
 
-        List<DietImageUrl> dietImageUrls = diets.stream()
-                .map(diet -> dietImageUrlRepository.findAllByDietId(diet.getId()))
-                .flatMap(List::stream)
-                .collect(Collectors.toList());
-
-        List<DietInfo> dietInfos = diets.stream()
-                .map(diet -> dietInfoRepository.findAllByDietId(diet.getId()))
-                .flatMap(List::stream)
-                .collect(Collectors.toList());
-
-        List<DietInfoResponse> dietInfoResponses = dietInfos.stream()
-                .map(DietInfoResponse::createDietResponse)
-                .collect(Collectors.toList());
-
-        List<DietImgUrlResponse> dietImgUrlResponses = dietImageUrls.stream()
-                .map(DietImgUrlResponse::createDietImgUrlResponse)
-                .collect(Collectors.toList());
-
-        return new DietWithImgResponse(dietInfoResponses, dietImgUrlResponses);
+        // 식단별로 조회하지 않고 IN 절 묶음 조회로 식단 정보와 이미지를 한 번에 가져옵니다.
+        return dietAggregateLoader.load(diets);
     }
 
 
 
-    @Transactional
+    /**
+     * 식단을 수정합니다.
+     * 요청의 ID 로 기존 식단 정보와 짝을 지어 바뀐 항목만 수정하고, 새 항목은 추가,
+     * 요청에 없는 항목은 삭제합니다. keepImageIds 에 포함된 사진은 그대로 두고 나머지만 지웁니다.
+     * 새 사진은 트랜잭션 전에 병렬로 업로드하고, 지운 사진은 S3 삭제 대기열에 넣어 비동기로 삭제합니다.
+     *
+     * @param userId       사용자 ID
+     * @param dietId       수정할 식단 ID
+     * @param dietDate     식단 날짜(ISO 날짜 형식)
+     * @param dietRequests 식단 요청 목록 (기존 항목은 id 포함)
+     * @param keepImageIds 유지할 기존 사진 ID 목록 (null 이면 기존 사진을 모두 교체)
+     * @param files        새로 올릴 이미지 파일 목록
+     * @throws CustomExceptions.DietNotFoundException 식단 또는 수정할 식단 정보가 없을 경우 예외 발생
+     * @throws CustomExceptions.AccessDeniedException 식단의 소유자가 아닐 경우 예외 발생
+     * @throws CustomExceptions.FileUploadException 파일 업로드 실패 시 예외 발생
+     */
     public void updateDiet(
             Long userId, Long dietId,
             String dietDate, List<DietRequest> dietRequests,
-            List<MultipartFile> files) {
-        Diet diet =  dietRepository.findById(dietId).orElseThrow(
-                () -> new CustomExceptions.DietNotFoundException("식단 정보가 존재하지 않습니다."));
+            List<Long> keepImageIds, List<MultipartFile> files) {
+        LocalDate date = LocalDate.parse(dietDate, DateTimeFormatter.ISO_DATE);
 
-        if(diet.getUserId() == userId){
-            dietInfoRepository.deleteAllByDietId(diet.getId());
-            for(DietRequest dietRequest : dietRequests){
-                dietInfoRepository.save(DietInfo.createDietInfo(diet.getId(), dietRequest));
-            }
+        long startedAt = System.nanoTime();
+        List<UploadedImage> uploadedImages = uploadDietImages(files);
+        long uploadedAt = System.nanoTime();
 
-            // S3에서 기존 이미지 삭제
-            List<DietImageUrl> oldImageUrls = dietImageUrlRepository.findAllByDietId(diet.getId());
-            dietImageUrlRepository.deleteAllByDietId(diet.getId());
-            for (DietImageUrl imageUrl : oldImageUrls) {
-                String objectKey = getImageObjectKey(imageUrl.getImgUrl());
-                s3Deleter.deleteObject(objectKey);
-            }
-            if (files!=null) { // 사진 파일을 보냈을 때만 처리
-                for (MultipartFile file : files) {
-                    try {
-                        String fileUrl = s3Uploader.uploadAndGenerateUrl(
-                                file, "diet-images/" + FileRandomNaming.fileRandomNaming(file));
-                        dietImageUrlRepository.save(DietImageUrl.createDietImageUrl(diet.getId(), fileUrl));
-                    } catch (IOException e) {
-                        log.error("파일 업로드 실패: " + e.getMessage());
-                        throw new CustomExceptions.FileUploadException("파일 업로드 실패", e);
-                    }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Diet diet = dietRepository.findById(dietId).orElseThrow(
+                        () -> new CustomExceptions.DietNotFoundException("식단 정보가 존재하지 않습니다."));
+                if (!diet.getUserId().equals(userId)) {
+                    throw new CustomExceptions.AccessDeniedException("이 식단의 권한이 없습니다.");
                 }
+
+                LocalDate beforeDate = diet.getDietDate();
+                List<DietInfo> existing = dietInfoRepository.findAllByDietId(diet.getId());
+                // 값을 바꾸기 전에 기존 합계를 계산해 두고, 변경 후 합계와의 차이만 반영합니다.
+                NutritionDelta before = NutritionDelta.of(existing);
+                List<DietInfo> current = applyDietInfoChanges(diet.getId(), existing, dietRequests);
+                dailyNutritionSummaryService.replaceDietInfos(userId, beforeDate, before, date, current);
+                List<DietImageUrl> removed = applyDietImageChanges(diet.getId(), keepImageIds);
+                // S3에서 더 이상 쓰지 않는 이미지는 같은 트랜잭션에서 삭제 대기열에 넣습니다.
+                enqueueImageDeletion(removed);
+                saveDietImageUrls(diet.getId(), uploadedImages);
+                // 값이 바뀐 경우에만 변경 감지로 UPDATE 가 실행됩니다.
+                diet.setDietDate(date);
+                dietStatusExpiryJob.rewind(date);
+                expiryQueue.scheduleDiet(userId, diet.getId(), date);
+                calendarCacheEvictor.evict(userId, beforeDate, date);
+            });
+        } catch (RuntimeException e) {
+            discardUploadedImages(uploadedImages);
+            throw e;
+        }
+        long committedAt = System.nanoTime();
+        logElapsed("식단 수정", startedAt, uploadedAt, committedAt);
+    }
+
+    /**
+     * 요청과 기존 식단 정보를 비교하여 실제로 바뀐 행에만 INSERT / UPDATE / DELETE 를 실행합니다.
+     * 기존 항목은 영속 상태에서 값만 바꾸므로 내용이 같으면 UPDATE 가 발생하지 않습니다.
+     *
+     * @return 변경 후 남아 있는 식단 정보 목록
+     */
+    private List<DietInfo> applyDietInfoChanges(Long dietId, List<DietInfo> existing, List<DietRequest> dietRequests) {
+        Map<Long, DietInfo> existingById = new HashMap<>();
+        for (DietInfo dietInfo : existing) {
+            existingById.put(dietInfo.getId(), dietInfo);
+        }
+
+        List<DietInfo> current = new ArrayList<>();
+        List<DietInfo> inserted = new ArrayList<>();
+        for (DietRequest dietRequest : dietRequests) {
+            if (dietRequest.getId() == null) {
+                inserted.add(DietInfo.createDietInfo(dietId, dietRequest));
+                continue;
             }
-            diet.setDietDate(LocalDate.parse(dietDate, DateTimeFormatter.ISO_DATE));
-        } else {
-            throw new CustomExceptions.AccessDeniedException("이 식단의 권한이 없습니다.");
+            DietInfo dietInfo = existingById.remove(dietRequest.getId());
+            if (dietInfo == null) {
+                throw new CustomExceptions.DietNotFoundException("수정할 식단 정보가 존재하지 않습니다.");
+            }
+            current.add(DietInfo.updateDietInfo(dietInfo, dietRequest));
+        }
+
+        if (!existingById.isEmpty()) {
+            dietInfoRepository.deleteAllInBatch(existingById.values());
+        }
+        current.addAll(dietInfoRepository.saveAll(inserted));
+        return current;
+    }
+
+    /**
+     * 유지하지 않는 기존 사진 행을 삭제하고, 삭제된 행을 반환합니다.
+     */
+    private List<DietImageUrl> applyDietImageChanges(Long dietId, List<Long> keepImageIds) {
+        Set<Long> keep = keepImageIds == null ? Collections.emptySet() : new HashSet<>(keepImageIds);
+        List<DietImageUrl> removed = new ArrayList<>();
+        for (DietImageUrl dietImageUrl : dietImageUrlRepository.findAllByDietId(dietId)) {
+            if (!keep.contains(dietImageUrl.getId())) {
+                removed.add(dietImageUrl);
+            }
+        }
+        if (!removed.isEmpty()) {
+            dietImageUrlRepository.deleteAllInBatch(removed);
+        }
+        return removed;
+    }
+
+    /**
+     * 사진을 트랜잭션 밖에서 크기 단계별로 변환해 병렬로 업로드합니다.
+     * 사진을 보내지 않았다면 빈 목록을 반환합니다.
+     */
+    private List<UploadedImage> uploadDietImages(List<MultipartFile> files) {
+        if (files == null || files.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return s3Uploader.uploadImages(files, "diet-images/");
+    }
+
+    private void saveDietImageUrls(Long dietId, List<UploadedImage> uploadedImages) {
+        for (UploadedImage uploadedImage : uploadedImages) {
+            // 같은 사진을 다른 요청이 먼저 올렸다면 색인에 기록된 객체를 참조합니다.
+            UploadedImage stored = storedImageIndex.acquire(uploadedImage);
+            dietImageUrlRepository.save(DietImageUrl.createDietImageUrl(dietId, stored));
         }
     }
 
+    // DB 저장에 실패한 경우 먼저 올려둔 사진을 정리합니다.
+    // 다른 식단이 같은 사진을 참조할 수 있으므로 실제 삭제 여부는 참조 수로 판단합니다.
+    private void discardUploadedImages(List<UploadedImage> uploadedImages) {
+        storedImageIndex.discard(uploadedImages);
+    }
+
+    // 내용 해시로 저장한 사진은 참조를 해제하고, 그 이전 사진은 원본과 축소본을 바로 삭제 대기열에 넣습니다.
+    private void enqueueImageDeletion(List<DietImageUrl> imageUrls) {
+        Map<Boolean, List<DietImageUrl>> byHash = imageUrls.stream()
+                .collect(Collectors.partitioningBy(imageUrl -> imageUrl.getContentHash() != null));
+        storedImageIndex.release(byHash.get(true).stream()
+                .map(DietImageUrl::getContentHash)
+                .collect(Collectors.toList()));
+        s3DeleteQueue.enqueue(byHash.get(false).stream()
+                .flatMap(imageUrl -> Stream.of(imageUrl.getImgUrl(), imageUrl.getMediumUrl(), imageUrl.getThumbnailUrl()))
+                .filter(Objects::nonNull)
+                .map(this::getImageObjectKey)
+                .collect(Collectors.toList()));
+    }
+
+    // 업로드 구간과 커넥션을 점유하는 트랜잭션 구간의 소요 시간을 나눠 기록합니다.
+    private void logElapsed(String action, long startedAt, long uploadedAt, long committedAt) {
+        long finishedAt = System.nanoTime();
+        log.info("{} 완료 - 업로드 {}ms, 트랜잭션 {}ms, 전체 {}ms", action,
+                TimeUnit.NANOSECONDS.toMillis(uploadedAt - startedAt),
+                TimeUnit.NANOSECONDS.toMillis(committedAt - uploadedAt),
+                TimeUnit.NANOSECONDS.toMillis(finishedAt - startedAt));
+    }
+
     @Transactional
     public void deleteDiet(Long userId, Long dietId) {
         try {
             Diet diet =  dietRepository.findById(dietId).orElseThrow(
                     () -> new CustomExceptions.DietNotFoundException("식단 정보가 존재하지 않습니다."));
 
-            if(diet.getUserId() == userId){
-                List<DietImageUrl> imageUrls = dietImageUrlRepository.findAllByDietId(diet.getId());
-                for (DietImageUrl imageUrl : imageUrls) {
-                    String objectKey = getImageObjectKey(imageUrl.getImgUrl());
-                    log.info(objectKey);
-                    s3Deleter.deleteObject(objectKey);
-                }
+            if(diet.getUserId().equals(userId)){
+                // S3 객체는 삭제 대기열에 넣고 백그라운드 워커가 묶어서 삭제합니다.
+                enqueueImageDeletion(dietImageUrlRepository.findAllByDietId(diet.getId()));
+                dailyNutritionSummaryService.removeDietInfos(userId, diet.getDietDate(),
+                        dietInfoRepository.findAllByDietId(diet.getId()));
                 dietInfoRepository.deleteAllByDietId(diet.getId());
                 dietImageUrlRepository.deleteAllByDietId(diet.getId());
                 dietRepository.deleteById(dietId);
+                calendarCacheEvictor.evict(userId, diet.getDietDate());
             }
         } catch (Exception e) {
             log.error("식단 삭제 중 오류 발생: " + e.getMessage());
@@ -295,44 +460,31 @@ public class DietService {
         return objectKey.toString();
     }
 
+    /**
+     * 공개 상태인 회원들의 오늘 식단을 닉네임별로 조회합니다.
+     * 공개 회원의 오늘 식단을 한 번의 조인 쿼리로 가져온 뒤 식단 정보와 이미지를 묶음 조회합니다.
+     * 오늘 식단이 없는 회원은 결과에 포함되지 않습니다.
+     *
+     * @return 닉네임을 키로 하는 회원별 식단 응답 목록
+     */
     public List<Map<String, DietWithImgResponse>> getAllUserDiets() {
-        List<Member> members = memberRepository.findAllByDisclosureStatus(MemberDisclosureStatusRole.PUBLIC);
-        List<Map<String, DietWithImgResponse>> getAllList = new ArrayList<>();
-        LocalDate currentDate = LocalDate.now();
-
-        Map<String, DietWithImgResponse> map = new HashMap<>();
-        for (Member member : members) {
-            List<Diet> diets = dietRepository.findByUserIdAndDietDateBetween(member.getId(), currentDate, currentDate);
-
-            for (Diet diet : diets) {
-                List<DietInfoResponse> dietInfoResponses = new ArrayList<>();
-                List<DietInfo> dietInfos = dietInfoRepository.findAllByDietId(diet.getId());
-
-                for (DietInfo dietInfo : dietInfos) {
-                    dietInfoResponses.add(DietInfoResponse.createDietResponse(dietInfo));
-                }
-
-                List<DietImgUrlResponse> dietImgUrlResponses = new ArrayList<>();
-                List<DietImageUrl> dietImageUrls = dietImageUrlRepository.findAllByDietId(diet.getId());
-
-                for (DietImageUrl dietImageUrl : dietImageUrls) {
-                    dietImgUrlResponses.add(DietImgUrlResponse.createDietImgUrlResponse(dietImageUrl));
-                }
-
-                String nickname = member.getNickname();
-
-                // 해당 멤버에 대한 맵이 이미 있으면 가져와서 업데이트, 없으면 새로 생성
-                DietWithImgResponse dietResponse = map.getOrDefault(nickname, new DietWithImgResponse(
-                        dietInfoResponses, dietImgUrlResponses
-                ));
-                dietResponse.getDietResponses().addAll(dietInfoResponses);
-                dietResponse.getDietImgUrlResponses().addAll(dietImgUrlResponses);
-
-                map.put(nickname, dietResponse);
-            }
-            getAllList.add(map);
-            map = new HashMap<>();
+        List<DietRepository.PublicDietRow> rows = dietRepository.findPublicDietsByDate(
+                MemberDisclosureStatusRole.PUBLIC, LocalDate.now());
+
+        Map<Long, String> nicknameByDietId = new HashMap<>();
+        List<Diet> diets = new ArrayList<>();
+        for (DietRepository.PublicDietRow row : rows) {
+            nicknameByDietId.put(row.getDiet().getId(), row.getNickname());
+            diets.add(row.getDiet());
         }
+
+        List<Map<String, DietWithImgResponse>> getAllList = new ArrayList<>();
+        dietAggregateLoader.loadGrouped(diets, diet -> nicknameByDietId.get(diet.getId()))
+                .forEach((nickname, dietResponse) -> {
+                    Map<String, DietWithImgResponse> map = new HashMap<>();
+                    map.put(nickname, dietResponse);
+                    getAllList.add(map);
+                });
         return getAllList;
     }
 
@@ -0,0 +1,56 @@
+package com.example.healthcare.service;
+
+import com.example.healthcare.controller.response.exercise.ExerciseResponse;
+import com.example.healthcare.controller.response.exercise.ExerciseSetResponse;
+import com.example.healthcare.domain.exercise.Exercise;
+import com.example.healthcare.domain.exercise.ExerciseSet;
+import com.example.healthcare.repository.exercise.ExerciseSetRepository;
+import com.example.healthcare.util.QueryChunks;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class ExerciseAggregateLoader {
+
+    private final ExerciseSetRepository exerciseSetRepository;
+
+    /**
+     * 여러 운동 세션의 세트를 IN 절 조회로 한 번에 가져와 응답으로 조립합니다.
+     * 세션 수와 관계없이 IN_CLAUSE_CHUNK_SIZE 단위마다 한 번의 쿼리만 실행됩니다.
+     *
+     * @param exercises 조회할 운동 세션 목록
+     * @return 운동 세션 순서대로의 응답 (세트는 세트 순서대로)
+     */
+    public List<ExerciseResponse> load(List<Exercise> exercises) {
+        List<Long> exerciseIds = exercises.stream()
+                .map(Exercise::getId)
+                .distinct()
+                .collect(Collectors.toList());
+
+        Map<Long, List<ExerciseSet>> setsByExerciseId = findExerciseSets(exerciseIds).stream()
+                .sorted(Comparator.comparing(ExerciseSet::getSetOrder).thenComparing(ExerciseSet::getId))
+                .collect(Collectors.groupingBy(ExerciseSet::getExerciseId, HashMap::new, Collectors.toList()));
+
+        List<ExerciseResponse> responses = new ArrayList<>();
+        for (Exercise exercise : exercises) {
+            List<ExerciseSetResponse> sets = new ArrayList<>();
+            for (ExerciseSet exerciseSet : setsByExerciseId.getOrDefault(exercise.getId(), Collections.emptyList())) {
+                sets.add(ExerciseSetResponse.createFromExerciseSet(exerciseSet));
+            }
+            responses.add(ExerciseResponse.createFromExercise(exercise, sets));
+        }
+        return responses;
+    }
+
+    private List<ExerciseSet> findExerciseSets(List<Long> exerciseIds) {
+        List<ExerciseSet> exerciseSets = new ArrayList<>();
+        for (List<Long> chunk : QueryChunks.partition(exerciseIds, QueryChunks.IN_CLAUSE_CHUNK_SIZE)) {
+            exerciseSets.addAll(exerciseSetRepository.findAllByExerciseIdIn(chunk));
+        }
+        return exerciseSets;
+    }
+}
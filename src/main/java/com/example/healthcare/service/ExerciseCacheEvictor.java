@@ -0,0 +1,68 @@
+package com.example.healthcare.service;
+
+import com.example.healthcare.config.BatchEvictingCache;
+import com.example.healthcare.util.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 운동 데이터가 바뀐 날짜가 속한 일/주/월 캐시 항목과 그 달의 달력 요약 캐시 항목을 지웁니다.
+ * 트랜잭션 안에서 호출되면 커밋 뒤에 지워, 커밋 전의 값이 다시 캐시되는 일을 막습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExerciseCacheEvictor {
+
+    private final CacheManager cacheManager;
+
+    public void evict(Long userId, LocalDateTime... exerciseDates) {
+        Set<LocalDate> dates = new HashSet<>();
+        for (LocalDateTime exerciseDate : exerciseDates) {
+            if (exerciseDate != null) {
+                dates.add(exerciseDate.toLocalDate());
+            }
+        }
+        evict(Map.of(userId, dates));
+    }
+
+    /**
+     * @param datesByUserId 사용자별로 운동 데이터가 바뀐 날짜
+     */
+    public void evict(Map<Long, ? extends Collection<LocalDate>> datesByUserId) {
+        AfterCommit.run(() -> evictNow(datesByUserId));
+    }
+
+    private void evictNow(Map<Long, ? extends Collection<LocalDate>> datesByUserId) {
+        Set<String> dayKeys = new HashSet<>();
+        Set<String> weekKeys = new HashSet<>();
+        Set<String> monthKeys = new HashSet<>();
+        Set<String> calendarKeys = new HashSet<>();
+        datesByUserId.forEach((userId, dates) -> {
+            for (LocalDate date : dates) {
+                dayKeys.add(ExerciseCacheKeys.day(userId, date));
+                weekKeys.add(ExerciseCacheKeys.week(userId, date));
+                monthKeys.add(ExerciseCacheKeys.month(userId, date));
+                calendarKeys.add(CalendarCacheKeys.month(userId, date));
+            }
+        });
+        evict(ExerciseCacheKeys.DAY, dayKeys);
+        evict(ExerciseCacheKeys.WEEK, weekKeys);
+        evict(ExerciseCacheKeys.MONTH, monthKeys);
+        evict(CalendarCacheKeys.MONTH, calendarKeys);
+    }
+
+    private void evict(String cacheName, Set<String> keys) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            BatchEvictingCache.evictAll(cache, keys);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.healthcare.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 운동 조회 캐시의 이름과 키를 정의합니다.
+ * 키는 (사용자, 일/주/월 구간)으로 정규화하여 같은 주의 다른 날짜로 조회해도 같은 항목을 쓰고,
+ * 변경된 날짜만으로 지워야 할 키를 정확히 계산할 수 있습니다.
+ */
+public final class ExerciseCacheKeys {
+
+    public static final String DAY = "exerciseDay";
+    public static final String WEEK = "exerciseWeek";
+    public static final String MONTH = "exerciseMonth";
+
+    private ExerciseCacheKeys() {
+    }
+
+    /**
+     * @param selectDate yyyy-MM-dd
+     */
+    public static String day(Long userId, String selectDate) {
+        return day(userId, LocalDate.parse(selectDate, DateTimeFormatter.ISO_DATE));
+    }
+
+    /**
+     * @param selectDate 주에 포함된 아무 날짜 (yyyy-MM-dd)
+     */
+    public static String week(Long userId, String selectDate) {
+        return week(userId, LocalDate.parse(selectDate, DateTimeFormatter.ISO_DATE));
+    }
+
+    /**
+     * @param selectMonth yyyy-MM
+     */
+    public static String month(Long userId, String selectMonth) {
+        return month(userId, YearMonth.parse(selectMonth));
+    }
+
+    public static String day(Long userId, LocalDate date) {
+        return userId + ":" + date;
+    }
+
+    // 월요일 날짜로 주를 나타냅니다.
+    public static String week(Long userId, LocalDate date) {
+        return userId + ":" + date.with(DayOfWeek.MONDAY);
+    }
+
+    public static String month(Long userId, LocalDate date) {
+        return month(userId, YearMonth.from(date));
+    }
+
+    private static String month(Long userId, YearMonth yearMonth) {
+        return userId + ":" + yearMonth;
+    }
+}
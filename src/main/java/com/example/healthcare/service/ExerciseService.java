@@ -1,57 +1,83 @@
 package com.example.healthcare.service;
 
 import com.example.healthcare.controller.request.exercise.ExerciseRequest;
+import com.example.healthcare.controller.request.exercise.ExerciseSetRequest;
+import com.example.healthcare.controller.response.exercise.ExercisePageResponse;
 import com.example.healthcare.controller.response.exercise.ExerciseResponse;
 import com.example.healthcare.domain.exercise.Exercise;
-import com.example.healthcare.domain.memeber.Member;
+import com.example.healthcare.domain.exercise.ExerciseSet;
 import com.example.healthcare.domain.enumType.exercise.ExerciseRole;
 import com.example.healthcare.domain.enumType.member.MemberDisclosureStatusRole;
 import com.example.healthcare.exception.CustomExceptions;
 import com.example.healthcare.repository.exercise.ExerciseRepository;
-import com.example.healthcare.repository.member.MemberRepository;
+import com.example.healthcare.repository.exercise.ExerciseSetRepository;
+import com.example.healthcare.schedule.ExpiryQueue;
 import com.example.healthcare.util.DateTimeParser;
+import com.example.healthcare.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import javax.transaction.Transactional;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ExerciseService {
 
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final ExerciseRepository exerciseRepository;
+    private final ExerciseSetRepository exerciseSetRepository;
+    private final ExerciseAggregateLoader exerciseAggregateLoader;
     private final MemberService memberService;
-    private final MemberRepository memberRepository;
+    private final ExerciseCacheEvictor exerciseCacheEvictor;
+    private final ExerciseVolumeService exerciseVolumeService;
+    private final ExpiryQueue expiryQueue;
     private RedisTemplate<String, List<ExerciseResponse>> redisTemplate;
 
     /**
      * 나의 운동 계획을 등록합니다.
+     * 요청 하나가 운동 세션 하나이며, 세션과 세트를 한 트랜잭션에서 saveAll 로 저장하여 JDBC 배치 INSERT 로 보냅니다.
      *
      * @param userId 사용자 memberID
      * @param requests 운동 계획 등록 요청 객체
      */
+    @Transactional
     public void registerExercise(Long userId, List<ExerciseRequest> requests) {
         if (userId == null) {
             throw new IllegalArgumentException("사용자 ID가 null입니다.");
         }
 
+        List<Exercise> exercises = new ArrayList<>();
         for(ExerciseRequest request : requests){
-            log.info(request.getSports());
-            exerciseRepository.save(Exercise.createExercise(userId, request,
+            exercises.add(Exercise.createExercise(userId, request,
                     DateTimeParser.dateParser(request.getExerciseDate())));
         }
-        // 운동 계획을 데이터베이스에 저장합니다.
+        // 운동 계획을 데이터베이스에 저장합니다. ID 는 테이블 생성기가 저장 시점에 할당합니다.
+        exerciseRepository.saveAll(exercises);
+        List<ExerciseSet> exerciseSets = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            exerciseSets.addAll(createExerciseSets(exercises.get(i).getId(), requests.get(i)));
+        }
+        exerciseSetRepository.saveAll(exerciseSets);
+        // 커밋 뒤 회원 시간대 기준 그날이 끝나는 시각에 미완료로 바뀌도록 예약합니다.
+        expiryQueue.scheduleExercises(userId, exercises);
+        exerciseCacheEvictor.evict(userId, exercises.stream()
+                .map(Exercise::getExerciseDate)
+                .toArray(LocalDateTime[]::new));
     }
 
     /**
@@ -61,7 +87,8 @@ public class ExerciseService {
      * @param selectDate 선택한 날짜
      * @return 운동 데이터의 ExerciseResponse 리스트
      */
-    @Cacheable(value = "exerciseCache", key = "'myExerciseForDate_' + #userId + '_' + #selectDate")
+    @Cacheable(value = ExerciseCacheKeys.DAY,
+            key = "T(com.example.healthcare.service.ExerciseCacheKeys).day(#userId, #selectDate)")
     public List<ExerciseResponse> myExerciseForDate(Long userId, String selectDate) {
         // 선택한 날짜의 시작과 종료 일시를 계산합니다.
         LocalDate date = LocalDate.parse(selectDate, DateTimeFormatter.ISO_DATE);
@@ -79,7 +106,8 @@ public class ExerciseService {
      * @param selectDate 선택한 날짜
      * @return 운동 데이터의 ExerciseResponse 리스트
      */
-    @Cacheable(value = "exerciseCache", key = "'myExerciseForWeek_' + #userId + '_' + #selectDate")
+    @Cacheable(value = ExerciseCacheKeys.WEEK,
+            key = "T(com.example.healthcare.service.ExerciseCacheKeys).week(#userId, #selectDate)")
     public List<ExerciseResponse> myExerciseForWeek(Long userId, String selectDate) {
         // 선택한 날짜의 주의 시작과 종료 일시를 계산합니다.
         LocalDate date = LocalDate.parse(selectDate, DateTimeFormatter.ISO_DATE);
@@ -99,7 +127,8 @@ public class ExerciseService {
      * @param selectDate 선택한 날짜
      * @return 운동 데이터의 ExerciseResponse 리스트
      */
-    @Cacheable(value = "exerciseCache", key = "'myExerciseForMonth_' + #userId + '_' + #selectDate")
+    @Cacheable(value = ExerciseCacheKeys.MONTH,
+            key = "T(com.example.healthcare.service.ExerciseCacheKeys).month(#userId, #selectDate)")
     public List<ExerciseResponse> myExerciseForMonth(Long userId, String selectDate) {
         // 선택한 날짜의 월의 시작과 종료 일시를 계산합니다.
         StringBuilder sb = new StringBuilder(selectDate);
@@ -135,30 +164,65 @@ public class ExerciseService {
         // 운동 데이터가 비어있는지 검증하고 예외 처리
         validateExerciseListNotEmpty(userExerciseForDate);
 
-        // 운동 데이터를 ExerciseResponse 객체로 변환하여 리스트로 반환
-        return convertToExerciseResponses(userExerciseForDate);
+        // 운동 데이터를 세트와 함께 ExerciseResponse 객체로 변환하여 리스트로 반환
+        return exerciseAggregateLoader.load(userExerciseForDate);
     }
 
+    @Transactional
     public void deleteExercise(Long id, Long exerciseId) {
         Exercise exercise = getExerciseById(exerciseId);
         checkExerciseOwnership(exercise, id);
+        exerciseSetRepository.deleteAllByExerciseId(exerciseId);
         exerciseRepository.deleteById(exerciseId);
+        if (exercise.getStatus() == ExerciseRole.COMPLETE) {
+            exerciseVolumeService.recompute(exercise.getUserId(), exercise.getSports(),
+                    exercise.getExerciseDate().toLocalDate());
+        }
+        exerciseCacheEvictor.evict(exercise.getUserId(), exercise.getExerciseDate());
     }
 
 
+    /**
+     * 운동 세션을 수정합니다. 요청의 세트 목록으로 기존 세트를 모두 바꿉니다.
+     */
+    @Transactional
     public void updateExercise(Long id, Long exerciseId, ExerciseRequest request) {
         Exercise exercise = getExerciseById(exerciseId);
         checkExerciseOwnership(exercise, id);
+        // 날짜를 옮기는 경우 이전 날짜와 새 날짜의 구간을 모두 지웁니다.
+        LocalDateTime previousDate = exercise.getExerciseDate();
+        String previousSports = exercise.getSports();
         exerciseRepository.save(Exercise.updateExercise(exercise,request,
                 DateTimeParser.dateParser(request.getExerciseDate())));
+        exerciseSetRepository.deleteAllByExerciseId(exerciseId);
+        exerciseSetRepository.saveAll(createExerciseSets(exerciseId, request));
+        // 완료된 세션이면 수정 전과 후의 주간 운동량을 다시 계산합니다.
+        if (exercise.getStatus() == ExerciseRole.COMPLETE) {
+            exerciseVolumeService.recompute(exercise.getUserId(), previousSports, previousDate.toLocalDate());
+            exerciseVolumeService.recompute(exercise.getUserId(), exercise.getSports(),
+                    exercise.getExerciseDate().toLocalDate());
+        }
+        // 날짜가 바뀌었다면 만료 기한도 새 날짜로 옮깁니다.
+        expiryQueue.scheduleExercises(exercise.getUserId(), List.of(exercise));
+        exerciseCacheEvictor.evict(exercise.getUserId(), previousDate, exercise.getExerciseDate());
     }
 
 
+    /**
+     * 운동 세션을 완료 처리하고, 세션의 세트를 주간 운동량 합계에 더합니다.
+     * 상태 전환을 조건부 UPDATE 로 하므로, 같은 세션을 동시에 여러 번 완료해도 합계는 한 번만 더해집니다.
+     */
+    @Transactional
     public void successExercise(Long id, Long exerciseId) {
         Exercise exercise = getExerciseById(exerciseId);
         checkExerciseOwnership(exercise, id);
-        exercise.setStatus(ExerciseRole.COMPLETE);
-        exerciseRepository.save(exercise);
+        // 먼저 완료한 트랜잭션이 있으면 행 잠금을 기다린 뒤 0건이 되어 여기서 끝납니다.
+        if (exerciseRepository.updateStatusIfNot(exerciseId, ExerciseRole.COMPLETE) == 0) {
+            return;
+        }
+        exerciseVolumeService.addCompleted(exercise,
+                exerciseSetRepository.findAllByExerciseIdIn(List.of(exerciseId)));
+        exerciseCacheEvictor.evict(exercise.getUserId(), exercise.getExerciseDate());
     }
 
     /**
@@ -173,18 +237,13 @@ public class ExerciseService {
         }
     }
 
-    /**
-     * 운동 데이터 리스트를 ExerciseResponse 객체들로 변환하여 반환합니다.
-     *
-     * @param exerciseList 운동 데이터 리스트
-     * @return ExerciseResponse 객체들의 리스트
-     */
-    private List<ExerciseResponse> convertToExerciseResponses(List<Exercise> exerciseList) {
-        List<ExerciseResponse> exerciseResponses = new ArrayList<>();
-        for (Exercise exercise : exerciseList) {
-            exerciseResponses.add(ExerciseResponse.createFromExercise(exercise));
+    private static List<ExerciseSet> createExerciseSets(Long exerciseId, ExerciseRequest request) {
+        List<ExerciseSetRequest> setRequests = request.resolveSets();
+        List<ExerciseSet> exerciseSets = new ArrayList<>();
+        for (int i = 0; i < setRequests.size(); i++) {
+            exerciseSets.add(ExerciseSet.createExerciseSet(exerciseId, i + 1, setRequests.get(i)));
         }
-        return exerciseResponses;
+        return exerciseSets;
     }
 
 
@@ -215,41 +274,72 @@ public class ExerciseService {
     }
 
 
+    /**
+     * 선택한 날짜의 공개 회원 운동 기록을 닉네임별로 묶어 반환합니다.
+     * 공개 회원과 운동 기록을 한 번의 조회로 가져오며, 운동 기록이 없는 회원은 포함하지 않습니다.
+     *
+     * @param selectDate 선택한 날짜 (yyyy-MM-dd)
+     * @return 닉네임별 운동 기록 (회원 ID 순)
+     */
     public Map<String, List<ExerciseResponse>> getAllUserExercises(String selectDate) {
-        List<Member> publicMembers = memberRepository.findAllByDisclosureStatus(MemberDisclosureStatusRole.PUBLIC);
-
-        if(publicMembers.isEmpty()){
-            throw new CustomExceptions.MemberNotFoundException("공개한 유저가 없습니다.");
-        }
-
-        Map<String, List<ExerciseResponse>> userExercisesMap = new HashMap<>();
         LocalDate date = LocalDate.parse(selectDate, DateTimeFormatter.ISO_DATE);
-        LocalDateTime startDate = date.atStartOfDay();
-        LocalDateTime endDate = date.atTime(23, 59, 59);
+        List<ExerciseRepository.PublicExerciseRow> rows = exerciseRepository.findPublicExercisesBetween(
+                MemberDisclosureStatusRole.PUBLIC, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
 
-        for(Member member : publicMembers){
-            log.info(member.getNickname());
-            try {
-                userExercisesMap.put(member.getNickname(), searchExercise(member.getId(), startDate, endDate));
-            } catch (CustomExceptions.ExerciseNotFoundException e) {
-                continue;
-            }
+        List<ExerciseResponse> responses = exerciseAggregateLoader.load(rows.stream()
+                .map(ExerciseRepository.PublicExerciseRow::getExercise)
+                .collect(Collectors.toList()));
 
-            log.info(searchExercise(member.getId(), startDate, endDate).toString());
+        Map<String, List<ExerciseResponse>> userExercisesMap = new LinkedHashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            userExercisesMap.computeIfAbsent(rows.get(i).getNickname(), nickname -> new ArrayList<>())
+                    .add(responses.get(i));
         }
         return userExercisesMap;
     }
 
+    /**
+     * 사용자의 전체 운동 기록을 (운동 일시, ID) 순으로 한 페이지씩 조회합니다.
+     * OFFSET 대신 마지막 행의 (운동 일시, ID) 를 커서로 사용하므로 뒤쪽 페이지도 앞쪽과 같은 비용으로 조회됩니다.
+     *
+     * @param sports 종목 (null 이면 전체)
+     * @param status 상태 (null 이면 전체)
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @param size   페이지 크기 (1 ~ MAX_PAGE_SIZE)
+     * @return 운동 목록과 다음 페이지 커서
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우 예외 발생
+     */
+    public ExercisePageResponse getExercisePage(Long userId, String sports, ExerciseRole status,
+                                                String cursor, int size) {
+        if (userId == null) {
+            throw new IllegalArgumentException("사용자 ID가 null입니다.");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // 다음 페이지가 있는지 알기 위해 한 건을 더 조회합니다.
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<Exercise> exercises;
+        if (cursor == null || cursor.isEmpty()) {
+            exercises = exerciseRepository.findFirstPage(userId, sports, status, limit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            exercises = exerciseRepository.findPageAfter(userId, sports, status,
+                    after.getDateTime(), after.getId(), limit);
+        }
+
+        String nextCursor = null;
+        if (exercises.size() > pageSize) {
+            exercises = exercises.subList(0, pageSize);
+            Exercise last = exercises.get(pageSize - 1);
+            nextCursor = KeysetCursor.of(last.getExerciseDate(), last.getId()).encode();
+        }
+        return new ExercisePageResponse(exerciseAggregateLoader.load(exercises), nextCursor);
+    }
+
     public List<ExerciseResponse> getAllExercises(Long userId) {
         List<Exercise> exercises = exerciseRepository.findAllByUserId(userId);
-        List<ExerciseResponse> exerciseResponses = new ArrayList<>();
-        if(exercises == null){
+        if(exercises.isEmpty()){
             throw new CustomExceptions.ExerciseNotFoundException("아직 등록하신 운동이 없습니다.");
         }
-        for(Exercise exercise : exercises){
-            exerciseResponses.add(ExerciseResponse.createFromExercise(exercise));
-        }
-
-        return exerciseResponses;
+        return exerciseAggregateLoader.load(exercises);
     }
 }
@@ -0,0 +1,208 @@
+package com.example.healthcare.service;
+
+import com.example.healthcare.controller.response.exercise.ExerciseVolumeResponse;
+import com.example.healthcare.controller.response.exercise.PersonalRecordResponse;
+import com.example.healthcare.domain.enumType.exercise.ExerciseRole;
+import com.example.healthcare.domain.exercise.Exercise;
+import com.example.healthcare.domain.exercise.ExerciseSet;
+import com.example.healthcare.domain.exercise.ExerciseVolumeSummary;
+import com.example.healthcare.repository.exercise.ExerciseRepository;
+import com.example.healthcare.repository.exercise.ExerciseVolumeSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별, 종목별 주간 운동량 합계(ExerciseVolumeSummary)를 갱신하고 조회합니다.
+ * 세션을 완료할 때는 증분을 더하고, 완료된 세션을 수정하거나 삭제할 때는 최대 무게를 뺄 수 없으므로
+ * 해당 주만 원본에서 다시 계산합니다. 갱신 메서드는 호출한 쪽의 트랜잭션 안에서 실행됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExerciseVolumeService {
+
+    // 조회 기간의 상한 (빈 주를 0으로 채우므로 응답 크기를 제한합니다)
+    static final int MAX_WEEKS = 260;
+
+    // (userId, sports, weekStart) 행에 증분을 더하고, 행이 없으면 증분으로 새로 만듭니다.
+    private static final String ADD_SQL = "INSERT INTO exercise_volume_summary " +
+            "(user_id, sports, week_start, volume, max_weight, completed_sets) VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "volume = volume + VALUES(volume), " +
+            "max_weight = GREATEST(max_weight, VALUES(max_weight)), " +
+            "completed_sets = completed_sets + VALUES(completed_sets)";
+
+    // 다시 계산한 값으로 행을 덮어씁니다.
+    private static final String REPLACE_SQL = "INSERT INTO exercise_volume_summary " +
+            "(user_id, sports, week_start, volume, max_weight, completed_sets) VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "volume = VALUES(volume), " +
+            "max_weight = VALUES(max_weight), " +
+            "completed_sets = VALUES(completed_sets)";
+
+    private final ExerciseRepository exerciseRepository;
+    private final ExerciseVolumeSummaryRepository exerciseVolumeSummaryRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 방금 완료한 운동 세션의 세트를 해당 주 합계에 더합니다.
+     *
+     * @param sets 세션의 세트 (비어 있으면 세션의 값을 한 세트로 봅니다)
+     */
+    public void addCompleted(Exercise exercise, List<ExerciseSet> sets) {
+        if (exercise.getSports() == null || exercise.getExerciseDate() == null) {
+            return;
+        }
+        long volume = 0;
+        int maxWeight = 0;
+        int completedSets = 0;
+        if (sets.isEmpty()) {
+            volume = (long) exercise.getWeight() * exercise.getCnt();
+            maxWeight = exercise.getWeight();
+            completedSets = 1;
+        }
+        for (ExerciseSet set : sets) {
+            volume += (long) set.getWeight() * set.getCnt();
+            maxWeight = Math.max(maxWeight, set.getWeight());
+            completedSets++;
+        }
+        jdbcTemplate.update(ADD_SQL, exercise.getUserId(), exercise.getSports(),
+                weekStart(exercise.getExerciseDate().toLocalDate()), volume, maxWeight, completedSets);
+    }
+
+    /**
+     * 한 주의 합계를 원본 운동 기록에서 다시 계산합니다. 완료한 세트가 없으면 행을 지웁니다.
+     *
+     * @param date 주에 포함된 아무 날짜
+     */
+    public void recompute(Long userId, String sports, LocalDate date) {
+        if (sports == null || date == null) {
+            return;
+        }
+        LocalDate weekStart = weekStart(date);
+        List<ExerciseVolumeSummary> summaries = summarize(exerciseRepository.findVolumeRows(
+                userId, sports, ExerciseRole.COMPLETE,
+                weekStart.atStartOfDay(), weekStart.plusWeeks(1).atStartOfDay()));
+        if (summaries.isEmpty()) {
+            exerciseVolumeSummaryRepository.deleteWeek(userId, sports, weekStart);
+            return;
+        }
+        ExerciseVolumeSummary summary = summaries.get(0);
+        jdbcTemplate.update(REPLACE_SQL, userId, sports, weekStart,
+                summary.getVolume(), summary.getMaxWeight(), summary.getCompletedSets());
+    }
+
+    /**
+     * 한 종목의 주간 운동량을 주 순서대로 조회합니다. 완료한 세트가 없는 주는 0으로 채웁니다.
+     *
+     * @param from 시작 날짜 (yyyy-MM-dd, 그 주의 월요일부터)
+     * @param to   종료 날짜 (yyyy-MM-dd, 그 주까지)
+     */
+    public List<ExerciseVolumeResponse> getWeeklyVolume(Long userId, String sports, String from, String to) {
+        if (userId == null) {
+            throw new IllegalArgumentException("사용자 ID가 null입니다.");
+        }
+        LocalDate startWeek = weekStart(parse(from));
+        LocalDate endWeek = weekStart(parse(to));
+        if (startWeek.isAfter(endWeek)) {
+            throw new IllegalArgumentException("시작 날짜가 종료 날짜보다 늦습니다.");
+        }
+        if (ChronoUnit.WEEKS.between(startWeek, endWeek) >= MAX_WEEKS) {
+            throw new IllegalArgumentException("최대 " + MAX_WEEKS + "주까지 조회할 수 있습니다.");
+        }
+
+        Map<LocalDate, ExerciseVolumeSummary> summaries = exerciseVolumeSummaryRepository
+                .findAllByUserIdAndSportsAndWeekStartBetweenOrderByWeekStartAsc(userId, sports, startWeek, endWeek)
+                .stream()
+                .collect(Collectors.toMap(ExerciseVolumeSummary::getWeekStart, Function.identity()));
+        List<ExerciseVolumeResponse> weeks = new ArrayList<>();
+        for (LocalDate week = startWeek; !week.isAfter(endWeek); week = week.plusWeeks(1)) {
+            ExerciseVolumeSummary summary = summaries.get(week);
+            weeks.add(summary == null
+                    ? ExerciseVolumeResponse.createEmptyExerciseVolumeResponse(week)
+                    : ExerciseVolumeResponse.createExerciseVolumeResponse(summary));
+        }
+        return weeks;
+    }
+
+    /**
+     * 종목별 최대 무게와 최대 주간 운동량을 조회합니다. 같은 기록이 여러 주에 있으면 가장 이른 주를 돌려줍니다.
+     *
+     * @return 종목 이름 순의 개인 기록
+     */
+    public List<PersonalRecordResponse> getPersonalRecords(Long userId) {
+        if (userId == null) {
+            throw new IllegalArgumentException("사용자 ID가 null입니다.");
+        }
+        Map<String, PersonalRecordResponse> records = new TreeMap<>();
+        exerciseVolumeSummaryRepository.findAllByUserId(userId).stream()
+                .sorted(Comparator.comparing(ExerciseVolumeSummary::getWeekStart))
+                .forEach(summary -> {
+                    PersonalRecordResponse record = records.computeIfAbsent(summary.getSports(),
+                            sports -> PersonalRecordResponse.builder()
+                                    .sports(sports)
+                                    .maxWeightWeek(summary.getWeekStart())
+                                    .bestWeeklyVolumeWeek(summary.getWeekStart())
+                                    .build());
+                    if (summary.getMaxWeight() > record.getMaxWeight()) {
+                        record.setMaxWeight(summary.getMaxWeight());
+                        record.setMaxWeightWeek(summary.getWeekStart());
+                    }
+                    if (summary.getVolume() > record.getBestWeeklyVolume()) {
+                        record.setBestWeeklyVolume(summary.getVolume());
+                        record.setBestWeeklyVolumeWeek(summary.getWeekStart());
+                    }
+                });
+        return new ArrayList<>(records.values());
+    }
+
+    /**
+     * 세트별 운동 기록을 (사용자, 종목, 주) 합계로 모읍니다. 재구성과 주 단위 재계산이 같은 규칙을 씁니다.
+     */
+    public static List<ExerciseVolumeSummary> summarize(Collection<ExerciseRepository.VolumeRow> rows) {
+        Map<List<Object>, ExerciseVolumeSummary> summaries = new LinkedHashMap<>();
+        for (ExerciseRepository.VolumeRow row : rows) {
+            if (row.getSports() == null || row.getExerciseDate() == null) {
+                continue;
+            }
+            LocalDate weekStart = weekStart(row.getExerciseDate().toLocalDate());
+            ExerciseVolumeSummary summary = summaries.computeIfAbsent(
+                    Arrays.asList(row.getUserId(), row.getSports(), weekStart),
+                    key -> ExerciseVolumeSummary.builder()
+                            .userId(row.getUserId())
+                            .sports(row.getSports())
+                            .weekStart(weekStart)
+                            .build());
+            int weight = row.getWeight() == null ? 0 : row.getWeight();
+            int cnt = row.getCnt() == null ? 0 : row.getCnt();
+            summary.setVolume(summary.getVolume() + (long) weight * cnt);
+            summary.setMaxWeight(Math.max(summary.getMaxWeight(), weight));
+            summary.setCompletedSets(summary.getCompletedSets() + 1);
+        }
+        return new ArrayList<>(summaries.values());
+    }
+
+    public static LocalDate weekStart(LocalDate date) {
+        return date.with(DayOfWeek.MONDAY);
+    }
+
+    private static LocalDate parse(String date) {
+        if (date == null) {
+            throw new IllegalArgumentException("날짜가 null입니다.");
+        }
+        try {
+            return LocalDate.parse(date, DateTimeFormatter.ISO_DATE);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("날짜 형식이 잘못되었습니다.");
+        }
+    }
+}
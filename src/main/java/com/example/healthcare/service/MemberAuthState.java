@@ -0,0 +1,44 @@
+package com.example.healthcare.service;
+
+import com.example.healthcare.domain.enumType.member.MemberDisclosureStatusRole;
+import com.example.healthcare.domain.enumType.member.MemberStatusRole;
+import com.example.healthcare.domain.memeber.Member;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 토큰을 받아들일지 판단하는 데 필요한 회원 상태입니다. MemberAuthStateCache 에 짧게 캐시됩니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberAuthState {
+
+    private Long memberId;
+    private String userId;
+    private MemberStatusRole memberStatus;
+    private MemberDisclosureStatusRole disclosureStatus;
+    private long authVersion;
+
+    public static MemberAuthState createMemberAuthState(Member member) {
+        return MemberAuthState.builder()
+                .memberId(member.getId())
+                .userId(member.getUserId())
+                .memberStatus(member.getMemberStatus())
+                .disclosureStatus(member.getDisclosureStatus())
+                .authVersion(member.getAuthVersion())
+                .build();
+    }
+
+    /**
+     * 활성 회원이고, 토큰이 그 회원의 현재 인증 버전으로 발급되었는지 확인합니다.
+     */
+    public boolean accepts(String userId, Long authVersion) {
+        return memberStatus == MemberStatusRole.ACTIVE
+                && this.userId.equals(userId)
+                && authVersion != null && this.authVersion == authVersion;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.healthcare.service;
+
+import com.example.healthcare.config.WriteThroughCache;
+import com.example.healthcare.repository.member.MemberRepository;
+import com.example.healthcare.util.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증 필터가 토큰마다 확인하는 회원 상태를 캐시합니다.
+ * TTL 은 짧게 두고, 탈퇴, 비밀번호 변경, 공개 여부 변경 시에는 refresh 로 최신 상태를 모든 노드에 바로 반영합니다.
+ * 지우기만 하면 변경 전에 옛 상태를 읽은 조회가 다시 채울 수 있으므로, 조회는 비어 있을 때만 채우고
+ * 변경은 커밋 뒤 최신 상태를 덮어씁니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberAuthStateCache {
+
+    public static final String NAME = "memberAuthState";
+
+    private final CacheManager cacheManager;
+    private final MemberRepository memberRepository;
+
+    /**
+     * @return 회원이 없으면 null
+     */
+    public MemberAuthState get(Long memberId) {
+        Cache cache = cacheManager.getCache(NAME);
+        String key = String.valueOf(memberId);
+        if (cache != null) {
+            Cache.ValueWrapper cached = cache.get(key);
+            if (cached != null) {
+                return existingOrNull((MemberAuthState) cached.get());
+            }
+        }
+        MemberAuthState state = memberRepository.findById(memberId)
+                .map(MemberAuthState::createMemberAuthState)
+                .orElse(null);
+        if (state != null && cache != null) {
+            // 조회하는 사이 refresh 가 써 둔 상태가 있으면 그쪽이 더 최신입니다.
+            Cache.ValueWrapper existing = cache.putIfAbsent(key, state);
+            if (existing != null && existing.get() != null) {
+                return existingOrNull((MemberAuthState) existing.get());
+            }
+        }
+        return state;
+    }
+
+    /**
+     * 커밋된 회원 상태를 다시 읽어 캐시에 씁니다. 트랜잭션 안에서 호출되면 커밋 뒤에 씁니다.
+     * 탈퇴한 회원은 회원 ID 만 담은 상태를 남겨, 탈퇴 전에 읽은 조회가 옛 상태를 다시 채우지 못하게 합니다.
+     */
+    public void refresh(Long memberId) {
+        AfterCommit.run(() -> refreshNow(memberId));
+    }
+
+    private void refreshNow(Long memberId) {
+        Cache cache = cacheManager.getCache(NAME);
+        if (cache == null) {
+            return;
+        }
+        MemberAuthState state = memberRepository.findById(memberId)
+                .map(MemberAuthState::createMemberAuthState)
+                .orElseGet(() -> MemberAuthState.builder().memberId(memberId).build());
+        WriteThroughCache.put(cache, String.valueOf(memberId), state);
+    }
+
+    // 탈퇴한 회원의 상태에는 아이디가 없습니다.
+    private static MemberAuthState existingOrNull(MemberAuthState state) {
+        return state == null || state.getUserId() == null ? null : state;
+    }
+}
@@ -10,8 +10,10 @@ import com.example.healthcare.domain.enumType.member.MemberDisclosureStatusRole;
 
 import com.example.healthcare.exception.CustomExceptions;
 import com.example.healthcare.repository.member.MemberRepository;
+import com.example.healthcare.schedule.ExpiryQueue;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 
@@ -19,6 +21,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 @Service
 @Slf4j
@@ -30,6 +33,8 @@ public class MemberService {
     private final PasswordEncoder passwordEncoder;
     private final LocalDateTime currentTime = LocalDateTime.now();
     private final  AuthenticationManager authenticationManager;
+    private final MemberAuthStateCache memberAuthStateCache;
+    private final ExpiryQueue expiryQueue;
 
 
     /**
@@ -49,6 +54,9 @@ public class MemberService {
         if (!Member.isValidPassword(request.getPassword())) {
             throw new IllegalArgumentException("비밀번호는 특수문자를 포함한 8글자 이상이어야 합니다.");
         }
+        if (!Member.isValidTimeZone(request.getTimeZone())) {
+            throw new IllegalArgumentException("올바른 시간대가 아닙니다.");
+        }
 
         // 중복된 아이디, 이메일, 닉네임 검사
         memberRepository.findByUserId(request.getUserId())
@@ -69,8 +77,12 @@ public class MemberService {
         // 새로운 회원 생성
         Member member = Member.createMember(request, passwordEncoder.encode(request.getPassword()));
 
-        // 회원 저장
-        memberRepository.save(member);
+        // 회원 저장 (위의 검사 사이에 같은 값으로 먼저 가입한 경우 유니크 제약이 막습니다)
+        try {
+            memberRepository.save(member);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("이미 사용중인 아이디, 이메일 또는 닉네임 입니다.");
+        }
 
         // JWT 토큰 생성 및 반환
         String jwtToken = jwtService.generateToken(member);
@@ -107,6 +119,8 @@ public class MemberService {
         authenticateMember(authenticationManager, userId, request.getPassword());
         Member member = findMemberForUserId(userId);
         memberRepository.deleteById(member.getId());
+        // 탈퇴한 회원의 토큰이 남은 TTL 동안 통과하지 않도록 바로 반영합니다.
+        memberAuthStateCache.refresh(member.getId());
     }
 
     /**
@@ -123,6 +137,7 @@ public class MemberService {
             member.setDisclosureStatus(MemberDisclosureStatusRole.PUBLIC);
         }
         memberRepository.save(member);
+        memberAuthStateCache.refresh(member.getId());
     }
 
 
@@ -153,6 +168,9 @@ public class MemberService {
         if(!Member.isValidPassword(request.getPassword())){
             throw new IllegalArgumentException("비밀번호는 특수문자를 포함한 8글자 이상이어야 합니다.");
         }
+        if(!Member.isValidTimeZone(request.getTimeZone())){
+            throw new IllegalArgumentException("올바른 시간대가 아닙니다.");
+        }
 
         Member member = memberRepository.findByUserId(userId).orElseThrow();
         if(!member.getEmail().equals(request.getEmail())){
@@ -169,7 +187,17 @@ public class MemberService {
                     });
         }
 
+        // 비밀번호가 바뀌면 인증 버전을 올려 이전에 발급한 토큰을 모두 거부합니다.
+        if (!passwordEncoder.matches(request.getPassword(), member.getPassword())) {
+            member.setAuthVersion(member.getAuthVersion() + 1);
+        }
+        String previousTimeZone = member.getTimeZone();
         memberRepository.save(Member.updateMember(member, request, passwordEncoder.encode(request.getPassword())));
+        memberAuthStateCache.refresh(member.getId());
+        // 예정된 운동과 식단의 만료 기한은 시간대를 따르므로 새 시간대로 다시 넣습니다.
+        if (!Objects.equals(previousTimeZone, member.getTimeZone())) {
+            expiryQueue.rescheduleUser(member.getId());
+        }
     }
 
     /**
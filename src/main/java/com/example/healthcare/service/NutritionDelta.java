@@ -0,0 +1,86 @@
+package com.example.healthcare.service;
+
+import com.example.healthcare.domain.diet.DietInfo;
+import com.example.healthcare.domain.enumType.diet.DietStatusRole;
+import lombok.Getter;
+
+import java.util.Collection;
+
+/**
+ * 일별 영양 합계에 더할 증감분입니다. 계획(전체)과 완료(COMPLETE) 합계를 함께 담습니다.
+ */
+@Getter
+class NutritionDelta {
+
+    static final NutritionDelta ZERO = new NutritionDelta(0, 0, 0, 0, 0, 0, 0, 0);
+
+    private final double plannedKcal;
+    private final double plannedCarbohydrate;
+    private final double plannedProtein;
+    private final double plannedFat;
+    private final double completedKcal;
+    private final double completedCarbohydrate;
+    private final double completedProtein;
+    private final double completedFat;
+
+    private NutritionDelta(double plannedKcal, double plannedCarbohydrate, double plannedProtein, double plannedFat,
+                           double completedKcal, double completedCarbohydrate, double completedProtein, double completedFat) {
+        this.plannedKcal = plannedKcal;
+        this.plannedCarbohydrate = plannedCarbohydrate;
+        this.plannedProtein = plannedProtein;
+        this.plannedFat = plannedFat;
+        this.completedKcal = completedKcal;
+        this.completedCarbohydrate = completedCarbohydrate;
+        this.completedProtein = completedProtein;
+        this.completedFat = completedFat;
+    }
+
+    static NutritionDelta of(DietInfo dietInfo) {
+        double kcal = value(dietInfo.getKcal());
+        double carbohydrate = value(dietInfo.getCarbohydrate());
+        double protein = value(dietInfo.getProtein());
+        double fat = value(dietInfo.getUnsaturatedFat()) + value(dietInfo.getTransFat()) + value(dietInfo.getSaturatedFat());
+        if (dietInfo.getDietStatusRole() == DietStatusRole.COMPLETE) {
+            return new NutritionDelta(kcal, carbohydrate, protein, fat, kcal, carbohydrate, protein, fat);
+        }
+        return new NutritionDelta(kcal, carbohydrate, protein, fat, 0, 0, 0, 0);
+    }
+
+    static NutritionDelta of(Collection<DietInfo> dietInfos) {
+        NutritionDelta total = ZERO;
+        for (DietInfo dietInfo : dietInfos) {
+            total = total.plus(of(dietInfo));
+        }
+        return total;
+    }
+
+    NutritionDelta plus(NutritionDelta other) {
+        return new NutritionDelta(
+                plannedKcal + other.plannedKcal,
+                plannedCarbohydrate + other.plannedCarbohydrate,
+                plannedProtein + other.plannedProtein,
+                plannedFat + other.plannedFat,
+                completedKcal + other.completedKcal,
+                completedCarbohydrate + other.completedCarbohydrate,
+                completedProtein + other.completedProtein,
+                completedFat + other.completedFat);
+    }
+
+    NutritionDelta negate() {
+        return new NutritionDelta(-plannedKcal, -plannedCarbohydrate, -plannedProtein, -plannedFat,
+                -completedKcal, -completedCarbohydrate, -completedProtein, -completedFat);
+    }
+
+    NutritionDelta minus(NutritionDelta other) {
+        return plus(other.negate());
+    }
+
+    boolean isZero() {
+        return plannedKcal == 0 && plannedCarbohydrate == 0 && plannedProtein == 0 && plannedFat == 0
+                && completedKcal == 0 && completedCarbohydrate == 0 && completedProtein == 0 && completedFat == 0;
+    }
+
+    private static double value(Double nutrient) {
+        return nutrient == null ? 0 : nutrient;
+    }
+}
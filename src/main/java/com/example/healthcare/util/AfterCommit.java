@@ -0,0 +1,24 @@
+package com.example.healthcare.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class AfterCommit {
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 뒤에, 트랜잭션 밖이면 바로 실행합니다. 롤백되면 실행하지 않습니다.
+     * 캐시 삭제처럼 커밋 전의 값이 다시 읽히면 안 되는 작업에 씁니다.
+     */
+    public static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.healthcare.util;
+
+import com.example.healthcare.exception.CustomExceptions;
+import lombok.extern.slf4j.Slf4j;
+import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.annotation.PreDestroy;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드한 사진을 크기 단계(ImageTier)별 JPEG 로 다시 만듭니다.
+ * EXIF 방향을 반영해 회전한 뒤 메타데이터 없이 재압축하므로 위치 정보 등 EXIF 는 남지 않습니다.
+ * 디코딩한 사진은 픽셀당 4바이트를 차지하므로, 동시에 처리하는 사진 수를 작업 풀 크기로 제한합니다.
+ */
+@Component
+@Slf4j
+public class ImageProcessor {
+
+    // 디코딩 전에 거르는 최대 픽셀 수 (압축 폭탄 방지)
+    static final long MAX_PIXELS = 50_000_000L;
+
+    private final ExecutorService processingExecutor;
+
+    public ImageProcessor(@Value("${image.processing.pool-size:0}") int poolSize) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        // CPU 와 메모리를 많이 쓰는 작업이므로 큐가 가득 차면 요청 스레드에서 처리하지 않고 거절합니다.
+        this.processingExecutor = new ThreadPoolExecutor(threads, threads,
+                60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(threads * 8),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-processing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 작업 풀에서 사진을 처리합니다.
+     *
+     * @return 크기 단계별 JPEG 바이트. 풀이 가득 찼거나 처리에 실패하면 예외로 완료됩니다.
+     */
+    public CompletableFuture<Map<ImageTier, byte[]>> processAsync(MultipartFile file) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return process(file);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, processingExecutor);
+        } catch (RejectedExecutionException e) {
+            CompletableFuture<Map<ImageTier, byte[]>> rejected = new CompletableFuture<>();
+            rejected.completeExceptionally(
+                    new CustomExceptions.FileUploadException("사진 처리 요청이 많습니다. 잠시 후 다시 시도해 주세요.", e));
+            return rejected;
+        }
+    }
+
+    /**
+     * @throws CustomExceptions.FileUploadException 지원하지 않는 형식이거나 너무 큰 사진인 경우 예외 발생
+     */
+    public Map<ImageTier, byte[]> process(MultipartFile file) throws IOException {
+        byte[] source = file.getBytes();
+        checkDimensions(source, file.getOriginalFilename());
+
+        // EXIF 방향을 반영해 한 번만 디코딩하고, 투명 영역은 흰색으로 채운 RGB 이미지로 바꿉니다.
+        BufferedImage oriented = Thumbnails.of(new ByteArrayInputStream(source))
+                .scale(1.0)
+                .asBufferedImage();
+        BufferedImage rgb = toRgb(oriented);
+
+        Map<ImageTier, byte[]> tiers = new EnumMap<>(ImageTier.class);
+        for (ImageTier tier : ImageTier.values()) {
+            tiers.put(tier, encode(rgb, tier));
+        }
+        return tiers;
+    }
+
+    private static void checkDimensions(byte[] source, String fileName) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(source))) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                throw new CustomExceptions.FileUploadException("지원하지 않는 이미지 형식입니다: " + fileName);
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > MAX_PIXELS) {
+                    throw new CustomExceptions.FileUploadException("이미지 해상도가 너무 큽니다: " + fileName);
+                }
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage toRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+            graphics.drawImage(image, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rgb;
+    }
+
+    private static byte[] encode(BufferedImage image, ImageTier tier) throws IOException {
+        int longEdge = Math.max(image.getWidth(), image.getHeight());
+        // 원본보다 크게 늘리지는 않습니다.
+        double scale = tier.getMaxEdge() > 0 && longEdge > tier.getMaxEdge()
+                ? (double) tier.getMaxEdge() / longEdge
+                : 1.0;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Thumbnails.of(image)
+                .scale(scale)
+                .outputFormat("jpg")
+                .outputQuality(tier.getQuality())
+                .toOutputStream(out);
+        return out.toByteArray();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        processingExecutor.shutdown();
+    }
+}
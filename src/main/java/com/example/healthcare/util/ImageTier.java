@@ -0,0 +1,31 @@
+package com.example.healthcare.util;
+
+import lombok.Getter;
+
+/**
+ * 업로드한 사진을 저장하는 크기 단계입니다.
+ * 목록 화면은 THUMBNAIL, 상세 화면은 MEDIUM 을 쓰고 ORIGINAL 은 원본 해상도를 유지합니다.
+ */
+@Getter
+public enum ImageTier {
+    ORIGINAL("", 0, 0.85f),
+    MEDIUM("_medium", 1080, 0.8f),
+    THUMBNAIL("_thumb", 320, 0.75f);
+
+    // 객체 키에서 UUID 뒤에 붙는 접미사
+    private final String suffix;
+    // 긴 변의 최대 픽셀 수 (0 이면 줄이지 않음)
+    private final int maxEdge;
+    // JPEG 재압축 품질
+    private final float quality;
+
+    ImageTier(String suffix, int maxEdge, float quality) {
+        this.suffix = suffix;
+        this.maxEdge = maxEdge;
+        this.quality = quality;
+    }
+
+    public String objectKey(String baseKey) {
+        return baseKey + suffix + ".jpg";
+    }
+}
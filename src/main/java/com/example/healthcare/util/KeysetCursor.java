@@ -0,0 +1,79 @@
+package com.example.healthcare.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (날짜 또는 일시, ID) 키셋 페이지네이션의 불투명 커서입니다.
+ * 클라이언트는 값을 해석하지 않고 다음 요청에 그대로 돌려보내기만 합니다.
+ */
+public class KeysetCursor {
+
+    // ISO 형식의 날짜 또는 일시 (일시에도 ':' 이 들어가므로 마지막 ':' 로 ID 와 나눕니다)
+    private final String key;
+    private final Long id;
+
+    private KeysetCursor(String key, Long id) {
+        this.key = key;
+        this.id = id;
+    }
+
+    public static KeysetCursor of(LocalDate date, Long id) {
+        return new KeysetCursor(date.toString(), id);
+    }
+
+    public static KeysetCursor of(LocalDateTime dateTime, Long id) {
+        return new KeysetCursor(dateTime.toString(), id);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * @throws IllegalArgumentException 날짜 커서가 아닌 경우
+     */
+    public LocalDate getDate() {
+        try {
+            return LocalDate.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException 일시 커서가 아닌 경우
+     */
+    public LocalDateTime getDateTime() {
+        try {
+            return LocalDateTime.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = key + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor encode() 로 만든 커서
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+     */
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(':');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new KeysetCursor(raw.substring(0, separator), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
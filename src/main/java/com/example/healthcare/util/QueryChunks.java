@@ -0,0 +1,30 @@
+package com.example.healthcare.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public class QueryChunks {
+
+    // MySQL 의 IN 절 파라미터가 지나치게 길어지지 않도록 한 번에 조회할 최대 ID 개수
+    public static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
+    /**
+     * IN 절 조회를 위해 컬렉션을 지정한 크기 단위로 나눕니다.
+     *
+     * @param values 나눌 값 목록
+     * @param size   한 묶음의 최대 크기
+     * @return 최대 size 개씩 나뉜 목록
+     */
+    public static <T> List<List<T>> partition(Collection<T> values, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("chunk size는 1 이상이어야 합니다.");
+        }
+        List<T> source = new ArrayList<>(values);
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < source.size(); from += size) {
+            chunks.add(source.subList(from, Math.min(from + size, source.size())));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.healthcare.util;
+
+import com.example.healthcare.domain.storage.S3DeleteTask;
+import com.example.healthcare.repository.storage.S3DeleteTaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import javax.transaction.Transactional;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * S3 객체 삭제를 outbox 테이블에 적재합니다.
+ * 호출한 쪽의 트랜잭션에 함께 묶이므로 DB 행 삭제가 롤백되면 S3 삭제 요청도 함께 사라집니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class S3DeleteQueue {
+
+    private final S3DeleteTaskRepository s3DeleteTaskRepository;
+
+    @Transactional
+    public void enqueue(Collection<String> objectKeys) {
+        if (objectKeys.isEmpty()) {
+            return;
+        }
+        List<S3DeleteTask> tasks = objectKeys.stream()
+                .distinct()
+                .map(S3DeleteTask::createS3DeleteTask)
+                .collect(Collectors.toList());
+        s3DeleteTaskRepository.saveAll(tasks);
+    }
+
+    /**
+     * 내용 해시로 저장한 객체의 삭제를 delay 뒤로 예약합니다.
+     * 그 사이 같은 해시가 다시 참조되면 워커가 삭제하지 않고 작업만 지웁니다.
+     */
+    @Transactional
+    public void enqueue(Collection<String> objectKeys, String contentHash, Duration delay) {
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(delay);
+        List<S3DeleteTask> tasks = objectKeys.stream()
+                .distinct()
+                .map(objectKey -> S3DeleteTask.createS3DeleteTask(objectKey, contentHash, nextAttemptAt))
+                .collect(Collectors.toList());
+        s3DeleteTaskRepository.saveAll(tasks);
+    }
+}
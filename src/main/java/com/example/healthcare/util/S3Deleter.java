@@ -1,14 +1,22 @@
 package com.example.healthcare.util;
 
-import com.amazonaws.AmazonServiceException;
 import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Component
 public class S3Deleter {
 
+    // S3 multi-object delete 한 번에 보낼 수 있는 최대 키 개수
+    public static final int MAX_KEYS_PER_REQUEST = 1000;
+
     private final AmazonS3 amazonS3;
     private final String bucketName;
 
@@ -17,16 +25,36 @@ public class S3Deleter {
         this.bucketName = bucketName;
     }
 
-    public void deleteObject(String objectKey) {
+    /**
+     * 여러 객체를 하나의 DeleteObjects 요청으로 삭제합니다.
+     *
+     * @param objectKeys 삭제할 객체 키 (최대 1000개)
+     * @return 삭제에 실패한 키와 실패 사유 (모두 성공하면 빈 맵)
+     */
+    public Map<String, String> deleteObjects(List<String> objectKeys) {
+        if (objectKeys.size() > MAX_KEYS_PER_REQUEST) {
+            throw new IllegalArgumentException("한 번에 삭제할 수 있는 객체는 최대 " + MAX_KEYS_PER_REQUEST + "개입니다.");
+        }
+        Map<String, String> failures = new HashMap<>();
+        if (objectKeys.isEmpty()) {
+            return failures;
+        }
         try {
-            // 객체 삭제를 요청합니다.
-            amazonS3.deleteObject(bucketName, objectKey);
-        } catch (AmazonServiceException e) {
-            // Amazon S3 서비스 오류 처리
-            e.printStackTrace();
+            // quiet 모드에서는 실패한 키만 응답으로 돌려받습니다.
+            amazonS3.deleteObjects(new DeleteObjectsRequest(bucketName)
+                    .withKeys(objectKeys.toArray(new String[0]))
+                    .withQuiet(true));
+        } catch (MultiObjectDeleteException e) {
+            // 일부 객체만 삭제에 실패한 경우
+            for (MultiObjectDeleteException.DeleteError error : e.getErrors()) {
+                failures.put(error.getKey(), error.getCode() + ": " + error.getMessage());
+            }
         } catch (SdkClientException e) {
-            // Amazon S3 클라이언트 오류 처리
-            e.printStackTrace();
+            // Amazon S3 서비스 / 클라이언트 오류 처리: 요청 전체가 실패
+            for (String objectKey : objectKeys) {
+                failures.put(objectKey, e.getMessage());
+            }
         }
+        return failures;
     }
 }
@@ -3,36 +3,141 @@ package com.example.healthcare.util;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.example.healthcare.exception.CustomExceptions;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 @Component
+@Slf4j
 public class S3Uploader {
 
     private final AmazonS3 amazonS3;
     private final String bucketName;
+    private final ImageProcessor imageProcessor;
+    private final StoredImageIndex storedImageIndex;
+    private final ExecutorService uploadExecutor;
 
-    public S3Uploader(AmazonS3 amazonS3, @Value("${cloud.aws.s3.bucket}") String bucketName) {
+    public S3Uploader(AmazonS3 amazonS3, @Value("${cloud.aws.s3.bucket}") String bucketName,
+                      ImageProcessor imageProcessor, StoredImageIndex storedImageIndex,
+                      @Value("${cloud.aws.s3.upload-pool-size:8}") int uploadPoolSize) {
         this.amazonS3 = amazonS3;
         this.bucketName = bucketName;
+        this.imageProcessor = imageProcessor;
+        this.storedImageIndex = storedImageIndex;
+        // 사진 업로드를 병렬로 처리하는 제한된 크기의 스레드 풀
+        // 큐가 가득 차면 요청 스레드가 직접 업로드하여 자연스럽게 속도가 조절됩니다.
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.uploadExecutor = new ThreadPoolExecutor(uploadPoolSize, uploadPoolSize,
+                60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(uploadPoolSize * 4),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "s3-upload-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
     }
 
-    public String uploadAndGenerateUrl(MultipartFile file, String fileName) throws IOException {
-        ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentType(file.getContentType());
-        metadata.setContentLength(file.getSize());
+    /**
+     * 사진을 크기 단계별 JPEG 로 변환한 뒤 모든 단계를 업로드합니다.
+     * 원본 파일의 SHA-256 해시로 같은 내용의 사진을 찾아, 이미 저장되어 있으면
+     * 변환과 업로드를 건너뛰고 기존 객체를 재사용합니다 (한 요청 안의 중복도 한 번만 올립니다).
+     * 새로 올리는 사진의 객체 키는 해시 뒤에 무작위 값을 붙여, 삭제가 예약된 이전 객체와 겹치지 않게 합니다.
+     * 변환은 ImageProcessor 의 작업 풀에서, 업로드는 업로드 스레드 풀에서 진행됩니다.
+     * 하나라도 실패하면 이번에 올린 객체의 삭제를 예약하고 예외를 던집니다.
+     *
+     * @param files     업로드할 사진 목록
+     * @param directory 저장할 디렉터리 (예: "diet-images/")
+     * @return 사진 순서대로의 업로드 결과
+     * @throws CustomExceptions.FileUploadException 변환 또는 업로드 실패 시 예외 발생
+     */
+    public List<UploadedImage> uploadImages(List<MultipartFile> files, String directory) {
+        Map<String, CompletableFuture<UploadedImage>> byHash = new HashMap<>();
+        // S3에 올리기 시작한 사진의 해시와 객체 키 (실패 시 정리 대상)
+        Map<String, String> attemptedKeys = new ConcurrentHashMap<>();
+        List<Future<UploadedImage>> futures = new ArrayList<>();
+        for (MultipartFile file : files) {
+            String contentHash = hash(file);
+            futures.add(byHash.computeIfAbsent(contentHash, key -> storedImageIndex.findReusable(key)
+                    .map(CompletableFuture::completedFuture)
+                    .orElseGet(() -> imageProcessor.processAsync(file)
+                            .thenApplyAsync(tiers -> {
+                                String baseKey = directory + key + "-" + UUID.randomUUID();
+                                attemptedKeys.put(key, baseKey);
+                                return uploadTiers(key, baseKey, tiers);
+                            }, uploadExecutor))));
+        }
+
+        List<UploadedImage> uploadedImages = new ArrayList<>();
+        Throwable failure = null;
+        for (Future<UploadedImage> future : futures) {
+            try {
+                uploadedImages.add(future.get());
+            } catch (ExecutionException e) {
+                failure = failure == null ? unwrap(e.getCause()) : failure;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = failure == null ? e : failure;
+            }
+        }
 
-        try (InputStream inputStream = file.getInputStream()) {
-            PutObjectRequest putObjectRequest = new PutObjectRequest(bucketName, fileName, inputStream, metadata);
-            amazonS3.putObject(putObjectRequest);
+        if (failure != null) {
+            log.error("사진 업로드 실패: " + failure.getMessage());
+            // 단계 일부만 올라간 사진도 있을 수 있으므로 올리기 시작한 객체를 모두 정리합니다.
+            storedImageIndex.discard(attemptedKeys.entrySet().stream()
+                    .map(attempted -> new UploadedImage(attempted.getKey(), attempted.getValue(), false, null, null, null))
+                    .collect(Collectors.toList()));
+            if (failure instanceof CustomExceptions.FileUploadException) {
+                throw (CustomExceptions.FileUploadException) failure;
+            }
+            throw new CustomExceptions.FileUploadException("파일 업로드 실패", failure);
         }
+        return uploadedImages;
+    }
+
+    private static String hash(MultipartFile file) {
+        try {
+            return ContentHasher.sha256Hex(file);
+        } catch (IOException e) {
+            throw new CustomExceptions.FileUploadException("파일을 읽을 수 없습니다: " + file.getOriginalFilename(), e);
+        }
+    }
+
+    private UploadedImage uploadTiers(String contentHash, String baseKey, Map<ImageTier, byte[]> tiers) {
+        Map<ImageTier, UploadedFile> uploaded = new EnumMap<>(ImageTier.class);
+        for (Map.Entry<ImageTier, byte[]> tier : tiers.entrySet()) {
+            String objectKey = tier.getKey().objectKey(baseKey);
+            byte[] bytes = tier.getValue();
+            ObjectMetadata metadata = new ObjectMetadata();
+            metadata.setContentType("image/jpeg");
+            metadata.setContentLength(bytes.length);
+            // 객체 키를 다시 쓰지 않으므로 같은 키의 내용은 바뀌지 않아 오래 캐시해도 됩니다.
+            metadata.setCacheControl("public, max-age=31536000, immutable");
+            amazonS3.putObject(new PutObjectRequest(bucketName, objectKey, new ByteArrayInputStream(bytes), metadata));
+            uploaded.put(tier.getKey(), new UploadedFile(objectKey, amazonS3.getUrl(bucketName, objectKey).toString()));
+        }
+        return new UploadedImage(contentHash, baseKey, false, uploaded.get(ImageTier.ORIGINAL),
+                uploaded.get(ImageTier.MEDIUM), uploaded.get(ImageTier.THUMBNAIL));
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
 
-        // 업로드된 파일의 URL 생성
-        String fileUrl = amazonS3.getUrl(bucketName, fileName).toString();
-        return fileUrl;
+    @PreDestroy
+    public void shutdown() {
+        uploadExecutor.shutdown();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,148 @@
+package com.example.healthcare.util;
+
+import com.example.healthcare.repository.storage.StoredImageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.transaction.Transactional;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 내용 해시로 저장한 사진의 참조 수(StoredImage)를 관리합니다.
+ * 참조 수가 0 이 되어도 바로 지우지 않고 유예 기간 뒤로 삭제를 예약합니다.
+ * 유예 기간 안에 같은 사진이 다시 올라오면 기존 객체를 그대로 재사용합니다.
+ * 새로 올리는 사진은 매번 새 객체 키를 쓰므로, 삭제가 예약된 객체를 다시 덮어쓰는 일이 없습니다.
+ */
+@Component
+@Slf4j
+public class StoredImageIndex {
+
+    // 참조가 끊긴 행을 새로 올린 객체로 바꿉니다. 이전 객체는 이미 삭제가 예약되어 있습니다.
+    private static final String REPLACE_ORPHAN_SQL = "UPDATE stored_image " +
+            "SET object_key = ?, img_url = ?, medium_url = ?, thumbnail_url = ? " +
+            "WHERE content_hash = ? AND ref_count <= 0";
+
+    // 참조 수를 1 늘리고, 행이 없으면 참조 수 1 로 만듭니다.
+    private static final String ACQUIRE_SQL = "INSERT INTO stored_image " +
+            "(content_hash, object_key, img_url, medium_url, thumbnail_url, ref_count, orphaned_at, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, 1, NULL, ?) " +
+            "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1, orphaned_at = NULL";
+
+    private final StoredImageRepository storedImageRepository;
+    private final S3DeleteQueue s3DeleteQueue;
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration orphanGracePeriod;
+
+    public StoredImageIndex(StoredImageRepository storedImageRepository, S3DeleteQueue s3DeleteQueue,
+                            JdbcTemplate jdbcTemplate,
+                            @Value("${cloud.aws.s3.delete.orphan-grace-period:PT24H}") Duration orphanGracePeriod) {
+        this.storedImageRepository = storedImageRepository;
+        this.s3DeleteQueue = s3DeleteQueue;
+        this.jdbcTemplate = jdbcTemplate;
+        this.orphanGracePeriod = orphanGracePeriod;
+    }
+
+    public Duration getOrphanGracePeriod() {
+        return orphanGracePeriod;
+    }
+
+    /**
+     * 같은 내용의 사진이 이미 저장되어 있다면 업로드 없이 쓸 수 있는 결과를 반환합니다.
+     * 참조가 끊긴 사진은 유예 기간의 절반이 지나기 전까지만 재사용하여,
+     * 이 요청이 커밋되기 전에 워커가 객체를 지우는 일이 없도록 합니다.
+     */
+    public Optional<UploadedImage> findReusable(String contentHash) {
+        LocalDateTime reusableAfter = LocalDateTime.now().minus(orphanGracePeriod.dividedBy(2));
+        return storedImageRepository.findByContentHash(contentHash)
+                .filter(image -> image.getRefCount() > 0
+                        || (image.getOrphanedAt() != null && image.getOrphanedAt().isAfter(reusableAfter)))
+                .map(image -> storedImage(image.getContentHash(), image.getObjectKey(),
+                        image.getImgUrl(), image.getMediumUrl(), image.getThumbnailUrl()));
+    }
+
+    /**
+     * 사진을 참조하는 행을 저장할 때 같은 트랜잭션에서 호출합니다.
+     * 같은 해시를 다른 요청이 먼저 새로 올렸다면 그 객체를 반환하고, 이번에 올린 객체는 삭제를 예약합니다.
+     *
+     * @return 참조 행에 저장할 사진 (색인에 기록된 객체)
+     */
+    @Transactional
+    public UploadedImage acquire(UploadedImage image) {
+        if (!image.isReused()) {
+            jdbcTemplate.update(REPLACE_ORPHAN_SQL, image.getObjectKey(), image.getOriginal().getUrl(),
+                    image.getMedium().getUrl(), image.getThumbnail().getUrl(), image.getContentHash());
+        }
+        jdbcTemplate.update(ACQUIRE_SQL, image.getContentHash(), image.getObjectKey(),
+                image.getOriginal().getUrl(), image.getMedium().getUrl(), image.getThumbnail().getUrl(),
+                LocalDateTime.now());
+        // 위 갱신으로 행을 잠갔으므로 커밋 전까지 객체 키가 바뀌지 않습니다.
+        UploadedImage stored = jdbcTemplate.queryForObject(
+                "SELECT object_key, img_url, medium_url, thumbnail_url FROM stored_image WHERE content_hash = ?",
+                (rs, rowNum) -> storedImage(image.getContentHash(), rs.getString("object_key"),
+                        rs.getString("img_url"), rs.getString("medium_url"), rs.getString("thumbnail_url")),
+                image.getContentHash());
+        if (!image.isReused() && !stored.getObjectKey().equals(image.getObjectKey())) {
+            scheduleRemoval(image.getContentHash(), image.getObjectKey());
+        }
+        return stored;
+    }
+
+    /**
+     * 사진 참조를 해제합니다. 참조 수가 0 이 된 사진은 유예 기간 뒤 삭제되도록 예약합니다.
+     *
+     * @param contentHashes 해제할 참조의 해시 (같은 해시가 여러 번 있으면 그만큼 줄입니다)
+     */
+    @Transactional
+    public void release(Collection<String> contentHashes) {
+        Map<String, Long> releases = contentHashes.stream()
+                .collect(Collectors.groupingBy(Function.identity(), TreeMap::new, Collectors.counting()));
+        LocalDateTime now = LocalDateTime.now();
+        // 교착을 피하기 위해 해시 순서대로 갱신합니다.
+        releases.forEach((contentHash, count) -> {
+            // orphaned_at 을 먼저 계산해야 MySQL 에서도 갱신 전 ref_count 로 비교합니다.
+            jdbcTemplate.update("UPDATE stored_image " +
+                            "SET orphaned_at = CASE WHEN ref_count <= ? THEN ? ELSE orphaned_at END, " +
+                            "ref_count = ref_count - ? WHERE content_hash = ?",
+                    count, now, count, contentHash);
+            List<String> orphaned = jdbcTemplate.queryForList(
+                    "SELECT object_key FROM stored_image WHERE content_hash = ? AND ref_count <= 0",
+                    String.class, contentHash);
+            for (String objectKey : orphaned) {
+                scheduleRemoval(contentHash, objectKey);
+            }
+        });
+    }
+
+    /**
+     * 업로드했지만 저장하지 못한 사진의 삭제를 예약합니다. 재사용한 사진은 건드리지 않습니다.
+     */
+    @Transactional
+    public void discard(Collection<UploadedImage> images) {
+        for (UploadedImage image : images) {
+            if (!image.isReused()) {
+                scheduleRemoval(image.getContentHash(), image.getObjectKey());
+            }
+        }
+    }
+
+    private static UploadedImage storedImage(String contentHash, String objectKey,
+                                             String imgUrl, String mediumUrl, String thumbnailUrl) {
+        return new UploadedImage(contentHash, objectKey, true,
+                new UploadedFile(ImageTier.ORIGINAL.objectKey(objectKey), imgUrl),
+                new UploadedFile(ImageTier.MEDIUM.objectKey(objectKey), mediumUrl),
+                new UploadedFile(ImageTier.THUMBNAIL.objectKey(objectKey), thumbnailUrl));
+    }
+
+    private void scheduleRemoval(String contentHash, String objectKey) {
+        List<String> objectKeys = Arrays.stream(ImageTier.values())
+                .map(tier -> tier.objectKey(objectKey))
+                .collect(Collectors.toList());
+        s3DeleteQueue.enqueue(objectKeys, contentHash, orphanGracePeriod);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.healthcare.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * S3 에 업로드된 객체의 키와 접근 URL 입니다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class UploadedFile {
+    private final String objectKey;
+    private final String url;
+}
@@ -0,0 +1,28 @@
+package com.example.healthcare.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 크기 단계별로 업로드된 사진입니다.
+ * reused 가 true 이면 같은 내용의 사진이 이미 있어 이번 요청에서는 S3에 올리지 않았습니다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class UploadedImage {
+    private final String contentHash;
+    // 크기 단계 접미사를 붙이기 전의 객체 키
+    private final String objectKey;
+    private final boolean reused;
+    private final UploadedFile original;
+    private final UploadedFile medium;
+    private final UploadedFile thumbnail;
+
+    public List<String> getObjectKeys() {
+        return List.of(original.getObjectKey(), medium.getObjectKey(), thumbnail.getObjectKey());
+    }
+}
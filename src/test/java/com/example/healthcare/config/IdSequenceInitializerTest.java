@@ -0,0 +1,79 @@
+package com.example.healthcare.config;
+
+import com.example.healthcare.domain.diet.Diet;
+import com.example.healthcare.repository.diet.DietRepository;
+import com.example.healthcare.support.JpaSliceTestConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = JpaSliceTestConfiguration.class)
+@Import(IdSequenceInitializer.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdSequenceInitializerTest {
+
+    @Autowired
+    private IdSequenceInitializer idSequenceInitializer;
+    @Autowired
+    private DietRepository dietRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void generatedIdsStayAboveManuallyAssignedIds() {
+        jdbcTemplate.update("DELETE FROM id_sequence");
+        jdbcTemplate.update("INSERT INTO diet (id, user_id, diet_date) VALUES (?, ?, ?)", 500L, 1L, LocalDate.now());
+
+        idSequenceInitializer.initialize();
+        Diet diet = dietRepository.save(Diet.createDiet(1L, LocalDate.now()));
+
+        assertThat(diet.getId()).isGreaterThan(500L);
+        dietRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentRegistrationsNeverShareAnId() throws Exception {
+        int threads = 8;
+        int perThread = 100;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<Long>>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                List<Long> ids = new ArrayList<>();
+                for (int i = 0; i < perThread; i++) {
+                    ids.add(dietRepository.save(Diet.createDiet(1L, LocalDate.now())).getId());
+                }
+                return ids;
+            }));
+        }
+        start.countDown();
+
+        Set<Long> ids = new HashSet<>();
+        for (Future<List<Long>> future : futures) {
+            ids.addAll(future.get(60, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        assertThat(ids).hasSize(threads * perThread);
+        assertThat(dietRepository.count()).isEqualTo(threads * perThread);
+        dietRepository.deleteAll();
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.healthcare.config;
+
+import com.example.healthcare.domain.enumType.member.MemberDisclosureStatusRole;
+import com.example.healthcare.domain.enumType.member.MemberStatusRole;
+import com.example.healthcare.domain.enumType.member.MemberTypeRole;
+import com.example.healthcare.domain.memeber.Member;
+import com.example.healthcare.domain.memeber.MemberPrincipal;
+import com.example.healthcare.service.MemberAuthState;
+import com.example.healthcare.service.MemberAuthStateCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class JwtAuthenticationFilterTest {
+
+    private final JwtService jwtService = new JwtService();
+    private final MemberAuthStateCache memberAuthStateCache = mock(MemberAuthStateCache.class);
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtService, memberAuthStateCache);
+
+    private final Member member = Member.builder()
+            .id(7L)
+            .userId("user")
+            .memberType(MemberTypeRole.USER)
+            .memberStatus(MemberStatusRole.ACTIVE)
+            .disclosureStatus(MemberDisclosureStatusRole.PUBLIC)
+            .authVersion(2L)
+            .build();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void buildsPrincipalFromClaimsWithoutLoadingTheMember() throws Exception {
+        given(memberAuthStateCache.get(7L)).willReturn(MemberAuthState.createMemberAuthState(member));
+
+        Authentication authentication = authenticate(jwtService.generateToken(member));
+
+        MemberPrincipal principal = (MemberPrincipal) authentication.getPrincipal();
+        assertThat(principal.getId()).isEqualTo(7L);
+        assertThat(principal.getUserId()).isEqualTo("user");
+        assertThat(principal.getMemberType()).isEqualTo(MemberTypeRole.USER);
+        assertThat(authentication.getAuthorities()).extracting(Object::toString).containsExactly("USER");
+    }
+
+    @Test
+    void rejectsTokenIssuedBeforePasswordChange() throws Exception {
+        String token = jwtService.generateToken(member);
+        MemberAuthState state = MemberAuthState.createMemberAuthState(member);
+        state.setAuthVersion(3L);
+        given(memberAuthStateCache.get(7L)).willReturn(state);
+
+        assertThat(authenticate(token)).isNull();
+    }
+
+    @Test
+    void rejectsInactiveOrDeletedMember() throws Exception {
+        String token = jwtService.generateToken(member);
+        MemberAuthState state = MemberAuthState.createMemberAuthState(member);
+        state.setMemberStatus(MemberStatusRole.INACTIVE);
+        given(memberAuthStateCache.get(7L)).willReturn(state);
+
+        assertThat(authenticate(token)).isNull();
+
+        given(memberAuthStateCache.get(7L)).willReturn(null);
+        assertThat(authenticate(token)).isNull();
+    }
+
+    private Authentication authenticate(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
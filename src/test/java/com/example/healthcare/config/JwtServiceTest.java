@@ -0,0 +1,38 @@
+package com.example.healthcare.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtServiceTest {
+
+    private final JwtService jwtService = new JwtService();
+    private final UserDetails user = User.withUsername("user").password("password").authorities("USER").build();
+
+    @Test
+    void parseVerifiesOnceAndExposesSubjectAndExpiry() {
+        String token = jwtService.generateToken(user);
+
+        ParsedToken parsed = jwtService.parse(token);
+
+        assertThat(parsed.getSubject()).isEqualTo("user");
+        assertThat(parsed.getExpiration()).isAfter(new Date());
+        assertThat(parsed.isValidFor(user)).isTrue();
+        assertThat(parsed.isValidFor(User.withUsername("other").password("password").authorities("USER").build()))
+                .isFalse();
+        assertThat(jwtService.isTokenValid(token, user)).isTrue();
+    }
+
+    @Test
+    void parseRejectsTamperedSignature() {
+        String token = jwtService.generateToken(user);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThatThrownBy(() -> jwtService.parse(tampered)).isInstanceOf(RuntimeException.class);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.healthcare.config;
+
+import com.example.healthcare.controller.response.calendar.CalendarMonthResponse;
+import com.example.healthcare.controller.response.exercise.ExerciseResponse;
+import com.example.healthcare.domain.enumType.exercise.ExerciseRole;
+import com.example.healthcare.domain.enumType.member.MemberDisclosureStatusRole;
+import com.example.healthcare.domain.enumType.member.MemberStatusRole;
+import com.example.healthcare.service.CalendarCacheKeys;
+import com.example.healthcare.service.ExerciseCacheKeys;
+import com.example.healthcare.service.MemberAuthState;
+import com.example.healthcare.service.MemberAuthStateCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class RedisConfigTest {
+
+    private final RedisCacheManager cacheManager = new RedisConfig().redisCacheManager(
+            mock(RedisConnectionFactory.class), Duration.ofMinutes(10), Duration.ofMinutes(5),
+            Duration.ofMinutes(30), Duration.ofHours(1), Duration.ofHours(2), Duration.ofMinutes(1));
+
+    @BeforeEach
+    void setUp() {
+        // 스프링 컨테이너가 하듯 초기 캐시를 만듭니다.
+        cacheManager.afterPropertiesSet();
+    }
+
+    @Test
+    void exerciseCachesHaveTheirOwnTtl() {
+        Map<String, RedisCacheConfiguration> configurations = cacheManager.getCacheConfigurations();
+
+        assertThat(configurations.get(ExerciseCacheKeys.DAY).getTtl()).isEqualTo(Duration.ofMinutes(5));
+        assertThat(configurations.get(ExerciseCacheKeys.WEEK).getTtl()).isEqualTo(Duration.ofMinutes(30));
+        assertThat(configurations.get(ExerciseCacheKeys.MONTH).getTtl()).isEqualTo(Duration.ofHours(1));
+        assertThat(configurations.get(CalendarCacheKeys.MONTH).getTtl()).isEqualTo(Duration.ofHours(2));
+        assertThat(configurations.get(MemberAuthStateCache.NAME).getTtl()).isEqualTo(Duration.ofMinutes(1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void exerciseResponsesRoundTripThroughTheValueSerializer() {
+        RedisSerializationContext.SerializationPair<Object> values =
+                cacheManager.getCacheConfigurations().get(ExerciseCacheKeys.WEEK).getValueSerializationPair();
+        // 서비스와 같이 ArrayList 로 만듭니다. (불변 List 는 타입 정보로 다시 만들 수 없습니다)
+        List<ExerciseResponse> responses = new ArrayList<>();
+        responses.add(ExerciseResponse.builder()
+                .id(1L)
+                .sports("squat")
+                .exerciseDate(LocalDateTime.of(2023, 8, 2, 9, 30))
+                .status(ExerciseRole.COMPLETE)
+                .build());
+
+        ByteBuffer written = values.write(responses);
+        List<ExerciseResponse> read = (List<ExerciseResponse>) values.read(written);
+
+        assertThat(read).containsExactlyElementsOf(responses);
+    }
+
+    @Test
+    void calendarSummaryRoundTripsThroughTheValueSerializer() {
+        RedisSerializationContext.SerializationPair<Object> values =
+                cacheManager.getCacheConfigurations().get(CalendarCacheKeys.MONTH).getValueSerializationPair();
+        CalendarMonthResponse response = CalendarMonthResponse.builder()
+                .month("2023-02")
+                .exerciseStatuses(new ArrayList<>(List.of("COMPLETE", "INCOMPLETE")))
+                .dietStatuses(new ArrayList<>(List.of("COMPLETE")))
+                .days(new int[][]{{1, 0, 2}, {0, 3, 0}})
+                .build();
+
+        assertThat(values.read(values.write(response))).isEqualTo(response);
+    }
+
+    @Test
+    void memberAuthStateRoundTripsThroughTheValueSerializer() {
+        RedisSerializationContext.SerializationPair<Object> values =
+                cacheManager.getCacheConfigurations().get(MemberAuthStateCache.NAME).getValueSerializationPair();
+        MemberAuthState state = MemberAuthState.builder()
+                .memberId(1L)
+                .userId("user")
+                .memberStatus(MemberStatusRole.ACTIVE)
+                .disclosureStatus(MemberDisclosureStatusRole.PRIVATE)
+                .authVersion(3L)
+                .build();
+
+        assertThat(values.read(values.write(state))).isEqualTo(state);
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.healthcare.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class TwoTierCacheManagerTest {
+
+    private ConcurrentMapCacheManager remoteCacheManager;
+    private StringRedisTemplate redisTemplate;
+    private TwoTierCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        remoteCacheManager = new ConcurrentMapCacheManager("exerciseDay");
+        redisTemplate = mock(StringRedisTemplate.class);
+        cacheManager = new TwoTierCacheManager(remoteCacheManager, redisTemplate, 100, Duration.ofMinutes(1));
+        cacheManager.afterPropertiesSet();
+    }
+
+    @Test
+    void readsAreServedFromLocalTierOnceLoaded() {
+        Cache cache = cacheManager.getCache("exerciseDay");
+        remoteCacheManager.getCache("exerciseDay").put("1:2023-08-01", "from redis");
+
+        assertThat(cache.get("1:2023-08-01").get()).isEqualTo("from redis");
+        // L2 가 바뀌어도 L1 에 있는 값으로 응답합니다.
+        remoteCacheManager.getCache("exerciseDay").put("1:2023-08-01", "changed");
+        assertThat(cache.get("1:2023-08-01").get()).isEqualTo("from redis");
+        assertThat(cache.get("1:2023-08-02", () -> "loaded")).isEqualTo("loaded");
+        assertThat(remoteCacheManager.getCache("exerciseDay").get("1:2023-08-02").get()).isEqualTo("loaded");
+    }
+
+    @Test
+    void evictClearsBothTiersAndBroadcasts() {
+        Cache cache = cacheManager.getCache("exerciseDay");
+        cache.put("1:2023-08-01", "value");
+
+        cache.evict("1:2023-08-01");
+
+        assertThat(cache.get("1:2023-08-01")).isNull();
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(TwoTierCacheManager.INVALIDATION_CHANNEL), message.capture());
+        assertThat(message.getValue()).endsWith("\nexerciseDay\n1:2023-08-01");
+    }
+
+    @Test
+    void putIfAbsentKeepsValueAlreadyInRemoteTier() {
+        Cache cache = cacheManager.getCache("exerciseDay");
+        remoteCacheManager.getCache("exerciseDay").put("1:2023-08-01", "fresh");
+
+        assertThat(cache.putIfAbsent("1:2023-08-01", "stale").get()).isEqualTo("fresh");
+        assertThat(cache.get("1:2023-08-01").get()).isEqualTo("fresh");
+        assertThat(cache.putIfAbsent("1:2023-08-02", "loaded")).isNull();
+        assertThat(remoteCacheManager.getCache("exerciseDay").get("1:2023-08-02").get()).isEqualTo("loaded");
+    }
+
+    @Test
+    void putAndPublishWritesBothTiersAndBroadcasts() {
+        TwoTierCache cache = (TwoTierCache) cacheManager.getCache("exerciseDay");
+        cache.put("1:2023-08-01", "stale");
+
+        cache.putAndPublish("1:2023-08-01", "fresh");
+
+        assertThat(cache.get("1:2023-08-01").get()).isEqualTo("fresh");
+        assertThat(remoteCacheManager.getCache("exerciseDay").get("1:2023-08-01").get()).isEqualTo("fresh");
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(TwoTierCacheManager.INVALIDATION_CHANNEL), message.capture());
+        assertThat(message.getValue()).endsWith("\nexerciseDay\n1:2023-08-01");
+    }
+
+    @Test
+    void evictAllBroadcastsKeysInBatches() {
+        TwoTierCache cache = (TwoTierCache) cacheManager.getCache("exerciseDay");
+        List<String> keys = IntStream.rangeClosed(1, TwoTierCacheManager.KEYS_PER_MESSAGE + 1)
+                .mapToObj(userId -> userId + ":2023-08-01")
+                .collect(Collectors.toList());
+        keys.forEach(key -> cache.put(key, "value"));
+
+        cache.evictAll(keys);
+
+        assertThat(keys).allSatisfy(key -> assertThat(cache.get(key)).isNull());
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate, times(2)).convertAndSend(eq(TwoTierCacheManager.INVALIDATION_CHANNEL), message.capture());
+        assertThat(message.getAllValues().get(0).split("\n")).hasSize(2 + TwoTierCacheManager.KEYS_PER_MESSAGE);
+        assertThat(message.getAllValues().get(1)).endsWith("\nexerciseDay\n" + keys.get(keys.size() - 1));
+    }
+
+    @Test
+    void batchedInvalidationFromAnotherNodeDropsEveryListedKey() {
+        Cache cache = cacheManager.getCache("exerciseDay");
+        cache.put("1:2023-08-01", "stale");
+        cache.put("2:2023-08-01", "stale");
+        cache.put("3:2023-08-01", "kept");
+        remoteCacheManager.getCache("exerciseDay").put("1:2023-08-01", "fresh");
+        remoteCacheManager.getCache("exerciseDay").put("2:2023-08-01", "fresh");
+
+        cacheManager.onMessage(message("other-node\nexerciseDay\n1:2023-08-01\n2:2023-08-01"), null);
+
+        assertThat(cache.get("1:2023-08-01").get()).isEqualTo("fresh");
+        assertThat(cache.get("2:2023-08-01").get()).isEqualTo("fresh");
+        assertThat(cache.get("3:2023-08-01").get()).isEqualTo("kept");
+    }
+
+    @Test
+    void invalidationFromAnotherNodeDropsOnlyTheLocalEntry() {
+        Cache cache = cacheManager.getCache("exerciseDay");
+        cache.put("1:2023-08-01", "stale");
+        cache.put("1:2023-08-02", "kept");
+        // 다른 노드가 DB 를 바꾸고 L2 를 새 값으로 채운 상황
+        remoteCacheManager.getCache("exerciseDay").put("1:2023-08-01", "fresh");
+
+        cacheManager.onMessage(message("other-node\nexerciseDay\n1:2023-08-01"), null);
+
+        assertThat(cache.get("1:2023-08-01").get()).isEqualTo("fresh");
+        assertThat(cache.get("1:2023-08-02").get()).isEqualTo("kept");
+
+        cacheManager.onMessage(message("other-node\nexerciseDay"), null);
+        remoteCacheManager.getCache("exerciseDay").put("1:2023-08-02", "refreshed");
+        assertThat(cache.get("1:2023-08-02").get()).isEqualTo("refreshed");
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(TwoTierCacheManager.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.healthcare.repository;
+
+import com.example.healthcare.domain.enumType.diet.DietStatusRole;
+import com.example.healthcare.domain.enumType.exercise.ExerciseRole;
+import com.example.healthcare.domain.enumType.member.MemberDisclosureStatusRole;
+import com.example.healthcare.repository.diet.DailyNutritionSummaryRepository;
+import com.example.healthcare.repository.diet.DietImageUrlRepository;
+import com.example.healthcare.repository.diet.DietInfoRepository;
+import com.example.healthcare.repository.diet.DietRepository;
+import com.example.healthcare.repository.exercise.ExerciseRepository;
+import com.example.healthcare.repository.exercise.ExerciseSetRepository;
+import com.example.healthcare.repository.exercise.ExerciseVolumeSummaryRepository;
+import com.example.healthcare.repository.member.MemberRepository;
+import com.example.healthcare.repository.storage.S3DeleteTaskRepository;
+import com.example.healthcare.repository.storage.StoredImageRepository;
+import com.example.healthcare.support.JpaSliceTestConfiguration;
+import com.example.healthcare.support.SqlCapture;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 모든 리포지토리 조회 메서드가 인덱스를 타는지 H2(MySQL 모드)의 EXPLAIN 으로 확인합니다.
+ * 메서드가 실제로 실행한 SQL 을 그대로 EXPLAIN 하므로, 조회 조건이나 인덱스가 바뀌어
+ * 전체 스캔(tableScan)으로 떨어지면 실패합니다. 새 조회 메서드를 추가하면 여기에도 추가합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = JpaSliceTestConfiguration.class)
+class RepositoryQueryPlanTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 8, 1, 12, 0);
+    private static final LocalDate TODAY = NOW.toLocalDate();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+    @Autowired
+    private ExerciseSetRepository exerciseSetRepository;
+    @Autowired
+    private ExerciseVolumeSummaryRepository exerciseVolumeSummaryRepository;
+    @Autowired
+    private DietRepository dietRepository;
+    @Autowired
+    private DietInfoRepository dietInfoRepository;
+    @Autowired
+    private DietImageUrlRepository dietImageUrlRepository;
+    @Autowired
+    private DailyNutritionSummaryRepository dailyNutritionSummaryRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private S3DeleteTaskRepository s3DeleteTaskRepository;
+    @Autowired
+    private StoredImageRepository storedImageRepository;
+
+    private SoftAssertions softly;
+
+    @BeforeEach
+    void setUp() {
+        softly = new SoftAssertions();
+    }
+
+    @AfterEach
+    void tearDown() {
+        softly.assertAll();
+    }
+
+    @Test
+    void exerciseFindersUseIndexes() {
+        assertIndexed("findByUserIdAndExerciseDateBetween",
+                () -> exerciseRepository.findByUserIdAndExerciseDateBetween(1L, NOW, NOW.plusDays(1)));
+        assertIndexed("findExpiredBatch", () -> exerciseRepository.findExpiredBatch(
+                NOW, ExerciseRole.SCHEDULED_TO_BE_COMPLETED, PageRequest.of(0, 10)));
+        assertIndexed("findByIdInAndStatus", () -> exerciseRepository.findByIdInAndStatus(
+                List.of(1L, 2L), ExerciseRole.SCHEDULED_TO_BE_COMPLETED));
+        assertIndexed("findAllByUserId", () -> exerciseRepository.findAllByUserId(1L));
+        assertIndexed("findFirstPage", () -> exerciseRepository.findFirstPage(
+                1L, "bench", ExerciseRole.COMPLETE, PageRequest.of(0, 10)));
+        assertIndexed("findPageAfter", () -> exerciseRepository.findPageAfter(
+                1L, null, null, NOW, 1L, PageRequest.of(0, 10)));
+        assertIndexed("findPublicExercisesBetween", () -> exerciseRepository.findPublicExercisesBetween(
+                MemberDisclosureStatusRole.PUBLIC, NOW, NOW.plusDays(1)));
+        assertIndexed("findUserIdsAfter", () -> exerciseRepository.findUserIdsAfter(0L, PageRequest.of(0, 10)));
+        assertIndexed("findAllWithoutSetsByUserIdIn",
+                () -> exerciseRepository.findAllWithoutSetsByUserIdIn(List.of(1L, 2L)));
+        assertIndexed("findVolumeRowsByUserIdIn",
+                () -> exerciseRepository.findVolumeRowsByUserIdIn(List.of(1L, 2L), ExerciseRole.COMPLETE));
+        assertIndexed("findVolumeRows", () -> exerciseRepository.findVolumeRows(
+                1L, "bench", ExerciseRole.COMPLETE, NOW, NOW.plusWeeks(1)));
+
+        assertIndexed("countByDayAndStatus", () -> exerciseRepository.countByDayAndStatus(
+                1L, NOW, NOW.plusMonths(1)));
+
+        assertIndexed("findAllByExerciseIdIn", () -> exerciseSetRepository.findAllByExerciseIdIn(List.of(1L, 2L)));
+
+        assertIndexed("findAllByUserIdAndSportsAndWeekStartBetweenOrderByWeekStartAsc",
+                () -> exerciseVolumeSummaryRepository.findAllByUserIdAndSportsAndWeekStartBetweenOrderByWeekStartAsc(
+                        1L, "bench", TODAY, TODAY.plusWeeks(4)));
+        assertIndexed("findAllByUserId (volume summary)", () -> exerciseVolumeSummaryRepository.findAllByUserId(1L));
+    }
+
+    @Test
+    void dietFindersUseIndexes() {
+        assertIndexed("findByUserIdAndDietDateBetween",
+                () -> dietRepository.findByUserIdAndDietDateBetween(1L, TODAY, TODAY.plusDays(7)));
+        assertIndexed("findByUserId", () -> dietRepository.findByUserId(1L));
+        assertIndexed("findByUserIdAndId", () -> dietRepository.findByUserIdAndId(1L, 1L));
+        assertIndexed("findFirstDietDateBetween",
+                () -> dietRepository.findFirstDietDateBetween(TODAY.minusDays(7), TODAY));
+        assertIndexed("findFirstDietDateBefore", () -> dietRepository.findFirstDietDateBefore(TODAY));
+        assertIndexed("findUserIdsWithStatusOn",
+                () -> dietRepository.findUserIdsWithStatusOn(TODAY, DietStatusRole.SCHEDULED_TO_BE_EAT));
+        assertIndexed("findByUserIdOrderByDietDateAscIdAsc",
+                () -> dietRepository.findByUserIdOrderByDietDateAscIdAsc(1L, PageRequest.of(0, 10)));
+        assertIndexed("findPageAfter (diet)", () -> dietRepository.findPageAfter(1L, TODAY, 1L, PageRequest.of(0, 10)));
+        assertIndexed("findPublicDietsByDate",
+                () -> dietRepository.findPublicDietsByDate(MemberDisclosureStatusRole.PUBLIC, TODAY));
+        assertIndexed("findUserIdsAfter (diet)", () -> dietRepository.findUserIdsAfter(0L, PageRequest.of(0, 10)));
+        assertIndexed("sumDailyNutritionByUserIds",
+                () -> dietRepository.sumDailyNutritionByUserIds(List.of(1L, 2L), DietStatusRole.COMPLETE));
+
+        assertIndexed("countByDayAndStatus (diet)", () -> dietRepository.countByDayAndStatus(
+                1L, TODAY, TODAY.plusMonths(1)));
+
+        assertIndexed("findAllByDietId", () -> dietInfoRepository.findAllByDietId(1L));
+        assertIndexed("findAllByDietIdIn", () -> dietInfoRepository.findAllByDietIdIn(List.of(1L, 2L)));
+
+        assertIndexed("findAllByDietId (image)", () -> dietImageUrlRepository.findAllByDietId(1L));
+        assertIndexed("findAllByDietIdIn (image)", () -> dietImageUrlRepository.findAllByDietIdIn(List.of(1L, 2L)));
+
+        assertIndexed("findAllByUserIdAndSummaryDateBetweenOrderBySummaryDateAsc",
+                () -> dailyNutritionSummaryRepository.findAllByUserIdAndSummaryDateBetweenOrderBySummaryDateAsc(
+                        1L, TODAY, TODAY.plusDays(7)));
+    }
+
+    @Test
+    void memberFindersUseIndexes() {
+        assertIndexed("findByUserId (member)", () -> memberRepository.findByUserId("user"));
+        assertIndexed("findByEmail", () -> memberRepository.findByEmail("user@example.com"));
+        assertIndexed("findByNickname", () -> memberRepository.findByNickname("nickname"));
+        assertIndexed("findTimeZonesByIdIn", () -> memberRepository.findTimeZonesByIdIn(List.of(1L, 2L)));
+        assertIndexed("findAllByDisclosureStatus",
+                () -> memberRepository.findAllByDisclosureStatus(MemberDisclosureStatusRole.PUBLIC));
+    }
+
+    @Test
+    void storageFindersUseIndexes() {
+        assertIndexed("findByNextAttemptAtLessThanEqualOrderByIdAsc",
+                () -> s3DeleteTaskRepository.findByNextAttemptAtLessThanEqualOrderByIdAsc(NOW, PageRequest.of(0, 10)));
+        assertIndexed("findByContentHash", () -> storedImageRepository.findByContentHash("hash"));
+        assertIndexed("findAllByContentHashIn", () -> storedImageRepository.findAllByContentHashIn(List.of("a", "b")));
+    }
+
+    @Test
+    void explainReportsTableScanForUnindexedPredicate() {
+        // 검사 자체가 전체 스캔을 알아보는지 확인합니다.
+        assertThat(explain("select * from exercise e where e.sports = ?")).contains(".tableScan");
+    }
+
+    private void assertIndexed(String finder, Runnable query) {
+        SqlCapture.clear();
+        query.run();
+        List<String> selects = SqlCapture.statements().stream()
+                .filter(sql -> sql.trim().toLowerCase().startsWith("select"))
+                .collect(Collectors.toList());
+        softly.assertThat(selects).as(finder).isNotEmpty();
+        for (String sql : selects) {
+            softly.assertThat(explain(sql)).as(finder + ": " + sql).doesNotContain(".tableScan");
+        }
+    }
+
+    // 파라미터를 바인딩하지 않아도 H2 는 ?1, ?2 자리표시자로 실행 계획을 보여줍니다.
+    private String explain(String sql) {
+        return jdbcTemplate.query(connection -> connection.prepareStatement("EXPLAIN " + sql),
+                resultSet -> resultSet.next() ? resultSet.getString(1) : null);
+    }
+}
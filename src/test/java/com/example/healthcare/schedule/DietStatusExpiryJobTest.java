@@ -0,0 +1,177 @@
+package com.example.healthcare.schedule;
+
+import com.example.healthcare.domain.diet.Diet;
+import com.example.healthcare.domain.diet.DietInfo;
+import com.example.healthcare.domain.enumType.diet.DietStatusRole;
+import com.example.healthcare.domain.enumType.job.JobRunStatus;
+import com.example.healthcare.domain.job.JobRun;
+import com.example.healthcare.repository.diet.DietInfoRepository;
+import com.example.healthcare.repository.diet.DietRepository;
+import com.example.healthcare.repository.job.JobCheckpointRepository;
+import com.example.healthcare.repository.job.JobRunRepository;
+import com.example.healthcare.service.CalendarCacheEvictor;
+import com.example.healthcare.support.JpaSliceTestConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = JpaSliceTestConfiguration.class)
+@Import({DietStatusExpiryJob.class, JobRunner.class, DietStatusExpiryJobTest.Metrics.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DietStatusExpiryJobTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2023, 8, 2);
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private DietStatusExpiryJob dietStatusExpiryJob;
+    @Autowired
+    private DietRepository dietRepository;
+    @Autowired
+    private DietInfoRepository dietInfoRepository;
+    @Autowired
+    private JobCheckpointRepository jobCheckpointRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private JobRunner jobRunner;
+    @Autowired
+    private JobRunRepository jobRunRepository;
+
+    @MockBean
+    private CalendarCacheEvictor calendarCacheEvictor;
+    @MockBean
+    private JobLease jobLease;
+
+    @BeforeEach
+    void setUp() {
+        given(jobLease.acquire(eq(DietStatusExpiryJob.JOB_NAME), any()))
+                .willReturn(Optional.of(new JobLease.Lease(DietStatusExpiryJob.JOB_NAME, "owner", 1L)));
+        given(jobLease.renew(any(), any())).willReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dietInfoRepository.deleteAllInBatch();
+        dietRepository.deleteAllInBatch();
+        jobCheckpointRepository.deleteAllInBatch();
+        jobRunRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void firstRunExpiresHistoryAndLaterRunsStartFromWatermark() {
+        Long oldDiet = saveDiet(1L, TODAY.minusDays(3),
+                DietStatusRole.SCHEDULED_TO_BE_EAT, DietStatusRole.SCHEDULED_TO_BE_EAT, DietStatusRole.COMPLETE);
+        saveDiet(2L, TODAY.minusDays(1), DietStatusRole.SCHEDULED_TO_BE_EAT);
+        Long todayDiet = saveDiet(1L, TODAY, DietStatusRole.SCHEDULED_TO_BE_EAT);
+
+        assertThat(expire(TODAY)).isEqualTo(3);
+
+        assertThat(countByStatus(DietStatusRole.INCOMPLETE)).isEqualTo(3);
+        assertThat(countByStatus(DietStatusRole.COMPLETE)).isEqualTo(1);
+        assertThat(dietInfoRepository.findAllByDietId(todayDiet))
+                .extracting(DietInfo::getDietStatusRole).containsExactly(DietStatusRole.SCHEDULED_TO_BE_EAT);
+        assertThat(watermark()).isEqualTo(TODAY);
+        verify(calendarCacheEvictor).evict(Map.of(1L, Set.of(TODAY.minusDays(3))));
+        verify(calendarCacheEvictor).evict(Map.of(2L, Set.of(TODAY.minusDays(1))));
+        assertThat(meterRegistry.get("job.run.rows").tag("job", DietStatusExpiryJob.JOB_NAME).summary().totalAmount())
+                .isEqualTo(3);
+
+        // 진행 위치 이전의 날짜는 다시 보지 않습니다.
+        dietInfoRepository.save(dietInfo(oldDiet, DietStatusRole.SCHEDULED_TO_BE_EAT));
+        assertThat(expire(TODAY)).isZero();
+        assertThat(countByStatus(DietStatusRole.SCHEDULED_TO_BE_EAT)).isEqualTo(2);
+
+        // 지난 날짜에 항목이 생겨 위치를 되돌리면 그 날짜부터 다시 처리합니다.
+        transactionTemplate.executeWithoutResult(status -> jobCheckpointRepository.rewind(
+                DietStatusExpiryJob.JOB_NAME, TODAY.minusDays(3), LocalDateTime.now()));
+        assertThat(expire(TODAY)).isEqualTo(1);
+        assertThat(watermark()).isEqualTo(TODAY);
+    }
+
+    @Test
+    void catchesUpAfterMissedNights() {
+        saveDiet(1L, TODAY.minusDays(1), DietStatusRole.SCHEDULED_TO_BE_EAT);
+        expire(TODAY);
+
+        // 사흘 동안 실행되지 않았다가 다시 실행된 경우
+        saveDiet(1L, TODAY, DietStatusRole.SCHEDULED_TO_BE_EAT);
+        saveDiet(2L, TODAY.plusDays(2), DietStatusRole.SCHEDULED_TO_BE_EAT, DietStatusRole.SCHEDULED_TO_BE_EAT);
+        saveDiet(2L, TODAY.plusDays(3), DietStatusRole.SCHEDULED_TO_BE_EAT);
+
+        assertThat(expire(TODAY.plusDays(3))).isEqualTo(3);
+        assertThat(countByStatus(DietStatusRole.SCHEDULED_TO_BE_EAT)).isEqualTo(1);
+        assertThat(watermark()).isEqualTo(TODAY.plusDays(3));
+    }
+
+    private long expire(LocalDate today) {
+        JobRun run = jobRunner.run(dietStatusExpiryJob, today.atStartOfDay());
+        assertThat(run.getStatus()).isEqualTo(JobRunStatus.SUCCEEDED);
+        return run.getProcessedRows();
+    }
+
+    private LocalDate watermark() {
+        return jobCheckpointRepository.findById(DietStatusExpiryJob.JOB_NAME).orElseThrow().getWatermark();
+    }
+
+    private long countByStatus(DietStatusRole status) {
+        return dietInfoRepository.findAll().stream()
+                .filter(dietInfo -> dietInfo.getDietStatusRole() == status)
+                .count();
+    }
+
+    private Long saveDiet(Long userId, LocalDate dietDate, DietStatusRole... statuses) {
+        Long dietId = dietRepository.save(Diet.createDiet(userId, dietDate)).getId();
+        for (DietStatusRole status : statuses) {
+            dietInfoRepository.save(dietInfo(dietId, status));
+        }
+        return dietId;
+    }
+
+    private static DietInfo dietInfo(Long dietId, DietStatusRole status) {
+        return DietInfo.builder()
+                .dietId(dietId)
+                .foodName("rice")
+                .kcal(300.0)
+                .dietStatusRole(status)
+                .build();
+    }
+}
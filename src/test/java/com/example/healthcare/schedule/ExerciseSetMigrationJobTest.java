@@ -0,0 +1,146 @@
+package com.example.healthcare.schedule;
+
+import com.example.healthcare.domain.enumType.exercise.ExerciseRole;
+import com.example.healthcare.domain.enumType.job.JobRunStatus;
+import com.example.healthcare.domain.exercise.Exercise;
+import com.example.healthcare.domain.exercise.ExerciseSet;
+import com.example.healthcare.domain.job.JobRun;
+import com.example.healthcare.repository.exercise.ExerciseRepository;
+import com.example.healthcare.repository.exercise.ExerciseSetRepository;
+import com.example.healthcare.repository.job.JobCheckpointRepository;
+import com.example.healthcare.repository.job.JobRunRepository;
+import com.example.healthcare.service.ExerciseCacheEvictor;
+import com.example.healthcare.support.JpaSliceTestConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = JpaSliceTestConfiguration.class)
+@Import({ExerciseSetMigrationJob.class, JobRunner.class, ExerciseSetMigrationJobTest.Metrics.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ExerciseSetMigrationJobTest {
+
+    private static final LocalDateTime MORNING = LocalDateTime.of(2023, 8, 1, 7, 0);
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private ExerciseSetMigrationJob exerciseSetMigrationJob;
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+    @Autowired
+    private ExerciseSetRepository exerciseSetRepository;
+    @Autowired
+    private JobRunner jobRunner;
+    @Autowired
+    private JobCheckpointRepository jobCheckpointRepository;
+    @Autowired
+    private JobRunRepository jobRunRepository;
+
+    @MockBean
+    private ExerciseCacheEvictor exerciseCacheEvictor;
+    @MockBean
+    private JobLease jobLease;
+
+    @BeforeEach
+    void setUp() {
+        given(jobLease.acquire(eq(ExerciseSetMigrationJob.JOB_NAME), any()))
+                .willReturn(Optional.of(new JobLease.Lease(ExerciseSetMigrationJob.JOB_NAME, "owner", 1L)));
+        given(jobLease.renew(any(), any())).willReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        exerciseSetRepository.deleteAllInBatch();
+        exerciseRepository.deleteAllInBatch();
+        jobRunRepository.deleteAllInBatch();
+        jobCheckpointRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void foldsPerSetRowsIntoSessionsOnce() {
+        saveLegacy(1L, "squat", MORNING, 40);
+        saveLegacy(1L, "squat", MORNING, 50);
+        saveLegacy(1L, "squat", MORNING, 60);
+        saveLegacy(1L, "bench", MORNING, 30);
+        saveLegacy(1L, "squat", MORNING.plusDays(1), 45);
+        saveLegacy(2L, "squat", MORNING, 100);
+
+        JobRun run = jobRunner.run(exerciseSetMigrationJob);
+        assertThat(run.getStatus()).isEqualTo(JobRunStatus.SUCCEEDED);
+        assertThat(run.getProcessedRows()).isEqualTo(2);
+
+        List<Exercise> sessions = exerciseRepository.findAll();
+        assertThat(sessions).hasSize(4);
+        Exercise squat = sessions.stream()
+                .filter(exercise -> exercise.getUserId().equals(1L) && exercise.getSports().equals("squat")
+                        && exercise.getExerciseDate().equals(MORNING))
+                .findFirst().orElseThrow();
+        assertThat(exerciseSetRepository.findAllByExerciseIdIn(List.of(squat.getId())).stream()
+                .sorted(Comparator.comparing(ExerciseSet::getSetOrder))
+                .map(ExerciseSet::getWeight)
+                .collect(Collectors.toList()))
+                .containsExactly(40, 50, 60);
+        assertThat(exerciseSetRepository.count()).isEqualTo(6);
+
+        // 이미 세트가 있는 세션은 다시 옮기지 않습니다.
+        assertThat(jobRunner.run(exerciseSetMigrationJob).getProcessedRows()).isZero();
+        assertThat(exerciseSetRepository.count()).isEqualTo(6);
+    }
+
+    @Test
+    void skipsWhenAnotherNodeHoldsTheLease() {
+        saveLegacy(1L, "squat", MORNING, 40);
+        saveLegacy(1L, "squat", MORNING, 50);
+        given(jobLease.acquire(eq(ExerciseSetMigrationJob.JOB_NAME), any())).willReturn(Optional.empty());
+
+        assertThat(jobRunner.run(exerciseSetMigrationJob)).isNull();
+
+        assertThat(exerciseRepository.count()).isEqualTo(2);
+        assertThat(exerciseSetRepository.count()).isZero();
+    }
+
+    private void saveLegacy(Long userId, String sports, LocalDateTime exerciseDate, int weight) {
+        exerciseRepository.save(Exercise.builder()
+                .userId(userId)
+                .sports(sports)
+                .weight(weight)
+                .cnt(10)
+                .exerciseDate(exerciseDate)
+                .status(ExerciseRole.SCHEDULED_TO_BE_COMPLETED)
+                .build());
+    }
+}
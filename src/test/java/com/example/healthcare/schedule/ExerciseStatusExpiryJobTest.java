@@ -0,0 +1,184 @@
+package com.example.healthcare.schedule;
+
+import com.example.healthcare.domain.enumType.exercise.ExerciseRole;
+import com.example.healthcare.domain.enumType.job.JobRunStatus;
+import com.example.healthcare.domain.job.JobRun;
+import com.example.healthcare.repository.exercise.ExerciseRepository;
+import com.example.healthcare.repository.job.JobCheckpointRepository;
+import com.example.healthcare.repository.job.JobRunRepository;
+import com.example.healthcare.service.CalendarCacheKeys;
+import com.example.healthcare.service.ExerciseCacheEvictor;
+import com.example.healthcare.service.ExerciseCacheKeys;
+import com.example.healthcare.support.JpaSliceTestConfiguration;
+import com.example.healthcare.support.SqlCapture;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = JpaSliceTestConfiguration.class)
+@Import({ExerciseStatusExpiryJob.class, JobRunner.class, ExerciseCacheEvictor.class, ExerciseStatusExpiryJobTest.Beans.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ExerciseStatusExpiryJobTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 8, 2, 0, 0);
+
+    @TestConfiguration
+    static class Beans {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(ExerciseCacheKeys.DAY, ExerciseCacheKeys.WEEK,
+                    ExerciseCacheKeys.MONTH, CalendarCacheKeys.MONTH);
+        }
+    }
+
+    @Autowired
+    private ExerciseStatusExpiryJob exerciseStatusExpiryJob;
+    @Autowired
+    private JobRunner jobRunner;
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private JobCheckpointRepository jobCheckpointRepository;
+    @Autowired
+    private JobRunRepository jobRunRepository;
+
+    @MockBean
+    private JobLease jobLease;
+
+    @BeforeEach
+    void setUp() {
+        given(jobLease.acquire(eq(ExerciseStatusExpiryJob.JOB_NAME), any()))
+                .willReturn(Optional.of(new JobLease.Lease(ExerciseStatusExpiryJob.JOB_NAME, "owner", 1L)));
+        given(jobLease.renew(any(), any())).willReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        exerciseRepository.deleteAllInBatch();
+        jobRunRepository.deleteAllInBatch();
+        jobCheckpointRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void expiresOverdueExercisesInChunkedBulkUpdates() {
+        int overdue = ExerciseStatusExpiryJob.CHUNK_SIZE + 3;
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = 1; id <= overdue; id++) {
+            // 사용자 10명이 지난 30일에 나눠 가진 기한이 지난 예정 운동 (1번 사용자는 7월에만 있습니다)
+            rows.add(row(id, id % 10, NOW.minusDays(1 + id % 30), ExerciseRole.SCHEDULED_TO_BE_COMPLETED));
+        }
+        rows.add(row(overdue + 1L, 1L, NOW.minusDays(1), ExerciseRole.COMPLETE));
+        rows.add(row(overdue + 2L, 1L, NOW.plusHours(9), ExerciseRole.SCHEDULED_TO_BE_COMPLETED));
+        jdbcTemplate.batchUpdate("INSERT INTO exercise (id, user_id, sports, weight, cnt, break_time, exercise_date, status) " +
+                "VALUES (?, ?, 'squat', 100, 5, 60, ?, ?)", rows);
+        cacheManager.getCache(ExerciseCacheKeys.DAY).put(ExerciseCacheKeys.day(1L, "2023-07-31"), "stale");
+        cacheManager.getCache(CalendarCacheKeys.MONTH).put(CalendarCacheKeys.month(1L, NOW.minusDays(2).toLocalDate()), "stale");
+        cacheManager.getCache(CalendarCacheKeys.MONTH).put(CalendarCacheKeys.month(1L, NOW.toLocalDate()), "kept");
+        cacheManager.getCache(ExerciseCacheKeys.DAY).put(ExerciseCacheKeys.day(1L, "2023-08-02"), "kept");
+
+        SqlCapture.clear();
+        JobRun run = jobRunner.run(exerciseStatusExpiryJob, NOW);
+
+        assertThat(run.getStatus()).isEqualTo(JobRunStatus.SUCCEEDED);
+        assertThat(run.getProcessedRows()).isEqualTo(overdue);
+        assertThat(run.getChunks()).isEqualTo(2);
+        assertThat(countByStatus(ExerciseRole.INCOMPLETE)).isEqualTo(overdue);
+        assertThat(countByStatus(ExerciseRole.COMPLETE)).isEqualTo(1);
+        assertThat(countByStatus(ExerciseRole.SCHEDULED_TO_BE_COMPLETED)).isEqualTo(1);
+
+        // 행마다 UPDATE 하지 않고 묶음마다 IN 절 크기 단위로 갱신합니다 (5000건 → 5번, 3건 → 1번).
+        List<String> updates = SqlCapture.statements().stream()
+                .filter(sql -> sql.trim().toLowerCase().startsWith("update exercise "))
+                .collect(Collectors.toList());
+        assertThat(updates).hasSize(6);
+
+        assertThat(cacheManager.getCache(ExerciseCacheKeys.DAY).get(ExerciseCacheKeys.day(1L, "2023-07-31"))).isNull();
+        assertThat(cacheManager.getCache(CalendarCacheKeys.MONTH)
+                .get(CalendarCacheKeys.month(1L, NOW.toLocalDate()))).isNotNull();
+        assertThat(cacheManager.getCache(CalendarCacheKeys.MONTH)
+                .get(CalendarCacheKeys.month(1L, NOW.minusDays(2).toLocalDate()))).isNull();
+        assertThat(cacheManager.getCache(ExerciseCacheKeys.DAY).get(ExerciseCacheKeys.day(1L, "2023-08-02"))).isNotNull();
+
+        assertThat(meterRegistry.get("job.run").tag("job", ExerciseStatusExpiryJob.JOB_NAME).timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("job.run.rows").tag("job", ExerciseStatusExpiryJob.JOB_NAME).summary()
+                .totalAmount()).isEqualTo(overdue);
+
+        // 다시 실행하면 바꿀 행이 없습니다.
+        assertThat(jobRunner.run(exerciseStatusExpiryJob, NOW).getProcessedRows()).isZero();
+    }
+
+    @Test
+    void fullChunkCompletedConcurrentlyIsNotTheLastChunk() {
+        ExerciseRepository repository = mock(ExerciseRepository.class);
+        ExerciseStatusExpiryJob job = new ExerciseStatusExpiryJob(repository, mock(ExerciseCacheEvictor.class));
+        List<ExerciseRepository.ExpiredExerciseRow> rows = new ArrayList<>();
+        for (long id = 1; id <= ExerciseStatusExpiryJob.CHUNK_SIZE; id++) {
+            ExerciseRepository.ExpiredExerciseRow row = mock(ExerciseRepository.ExpiredExerciseRow.class);
+            given(row.getId()).willReturn(id);
+            given(row.getUserId()).willReturn(1L);
+            given(row.getExerciseDate()).willReturn(NOW.minusDays(1));
+            rows.add(row);
+        }
+        given(repository.findExpiredBatch(any(), any(), any())).willReturn(rows);
+        // 읽은 행을 모두 사용자가 먼저 완료하여 바뀐 행이 없습니다.
+        given(repository.updateStatusByIdIn(anyCollection(), any(), any())).willReturn(0);
+
+        ChunkedJob.Chunk chunk = job.executeChunk(new JobContext(ExerciseStatusExpiryJob.JOB_NAME, 1L, NOW));
+
+        assertThat(chunk.getProcessedRows()).isZero();
+        assertThat(chunk.isLast()).isFalse();
+    }
+
+    private long countByStatus(ExerciseRole status) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM exercise WHERE status = ?", Long.class, status.name());
+    }
+
+    private static Object[] row(long id, long userId, LocalDateTime exerciseDate, ExerciseRole status) {
+        return new Object[]{id, userId, Timestamp.valueOf(exerciseDate), status.name()};
+    }
+}
@@ -0,0 +1,237 @@
+package com.example.healthcare.schedule;
+
+import com.example.healthcare.domain.diet.Diet;
+import com.example.healthcare.domain.diet.DietInfo;
+import com.example.healthcare.domain.enumType.diet.DietStatusRole;
+import com.example.healthcare.domain.enumType.exercise.ExerciseRole;
+import com.example.healthcare.domain.exercise.Exercise;
+import com.example.healthcare.domain.memeber.Member;
+import com.example.healthcare.repository.diet.DietInfoRepository;
+import com.example.healthcare.repository.diet.DietRepository;
+import com.example.healthcare.repository.exercise.ExerciseRepository;
+import com.example.healthcare.repository.member.MemberRepository;
+import com.example.healthcare.service.CalendarCacheEvictor;
+import com.example.healthcare.service.ExerciseCacheEvictor;
+import com.example.healthcare.support.JpaSliceTestConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = JpaSliceTestConfiguration.class)
+@Import({ExpiryQueueWorker.class, ExpiryQueue.class, ExpiryQueueWorkerTest.Metrics.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ExpiryQueueWorkerTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final ZoneId LOS_ANGELES = ZoneId.of("America/Los_Angeles");
+    private static final LocalDate DAY = LocalDate.of(2023, 8, 1);
+    // 서울은 8월 2일 0시, 로스앤젤레스는 아직 8월 1일 오전 8시
+    private static final Instant NOW = DAY.plusDays(1).atStartOfDay(SEOUL).toInstant();
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private ExpiryQueueWorker expiryQueueWorker;
+    @Autowired
+    private ExpiryQueue expiryQueue;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+    @Autowired
+    private DietRepository dietRepository;
+    @Autowired
+    private DietInfoRepository dietInfoRepository;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockBean
+    private StringRedisTemplate redisTemplate;
+    @MockBean
+    private ExerciseCacheEvictor exerciseCacheEvictor;
+    @MockBean
+    private CalendarCacheEvictor calendarCacheEvictor;
+
+    @SuppressWarnings("unchecked")
+    private final ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+
+    private Long seoulUser;
+    private Long laUser;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        seoulUser = memberRepository.save(member("seoul", SEOUL.getId())).getId();
+        laUser = memberRepository.save(member("la", LOS_ANGELES.getId())).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dietInfoRepository.deleteAllInBatch();
+        dietRepository.deleteAllInBatch();
+        exerciseRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void scheduleUsesEndOfDayInMemberTimeZone() {
+        Exercise exercise = exerciseRepository.save(
+                exercise(laUser, DAY.atTime(10, 0), ExerciseRole.SCHEDULED_TO_BE_COMPLETED));
+        Exercise completed = exerciseRepository.save(exercise(laUser, DAY.atTime(11, 0), ExerciseRole.COMPLETE));
+
+        expiryQueue.scheduleExercises(laUser, List.of(exercise, completed));
+
+        // 완료된 운동은 넣지 않고, 로스앤젤레스의 8월 2일 0시를 기한으로 넣습니다.
+        assertThat(captureEnqueued()).containsExactly(Map.entry(ExpiryQueue.exerciseMember(exercise.getId()),
+                (double) DAY.plusDays(1).atStartOfDay(LOS_ANGELES).toInstant().toEpochMilli()));
+    }
+
+    @Test
+    void rescheduleUserMovesPendingDeadlinesToNewTimeZone() {
+        Exercise pending = exerciseRepository.save(
+                exercise(laUser, DAY.atTime(10, 0), ExerciseRole.SCHEDULED_TO_BE_COMPLETED));
+        exerciseRepository.save(exercise(laUser, DAY.atTime(11, 0), ExerciseRole.COMPLETE));
+        Long pendingDiet = saveDiet(laUser, DAY, DietStatusRole.SCHEDULED_TO_BE_EAT, DietStatusRole.COMPLETE);
+        saveDiet(laUser, DAY, DietStatusRole.COMPLETE);
+        Member member = memberRepository.findById(laUser).orElseThrow();
+        member.setTimeZone(SEOUL.getId());
+        memberRepository.save(member);
+
+        expiryQueue.rescheduleUser(laUser);
+
+        // 로스앤젤레스 기한보다 앞당겨진 서울의 8월 2일 0시로 바뀝니다.
+        double seoulDeadline = DAY.plusDays(1).atStartOfDay(SEOUL).toInstant().toEpochMilli();
+        assertThat(captureEnqueued()).containsOnly(
+                Map.entry(ExpiryQueue.exerciseMember(pending.getId()), seoulDeadline),
+                Map.entry(ExpiryQueue.dietMember(pendingDiet), seoulDeadline));
+    }
+
+    @Test
+    void expiresOnlyItemsWhoseLocalDayHasEnded() {
+        Exercise seoulExercise = exerciseRepository.save(
+                exercise(seoulUser, DAY.atTime(10, 0), ExerciseRole.SCHEDULED_TO_BE_COMPLETED));
+        Exercise laExercise = exerciseRepository.save(
+                exercise(laUser, DAY.atTime(10, 0), ExerciseRole.SCHEDULED_TO_BE_COMPLETED));
+        Exercise completed = exerciseRepository.save(exercise(seoulUser, DAY.atTime(7, 0), ExerciseRole.COMPLETE));
+        Long seoulDiet = saveDiet(seoulUser, DAY, DietStatusRole.SCHEDULED_TO_BE_EAT, DietStatusRole.COMPLETE);
+        Long laDiet = saveDiet(laUser, DAY, DietStatusRole.SCHEDULED_TO_BE_EAT);
+        pollReturns(List.of(ExpiryQueue.exerciseMember(seoulExercise.getId()),
+                ExpiryQueue.exerciseMember(laExercise.getId()), ExpiryQueue.exerciseMember(completed.getId()),
+                ExpiryQueue.dietMember(seoulDiet), ExpiryQueue.dietMember(laDiet)));
+
+        assertThat(expiryQueueWorker.drain(NOW)).isEqualTo(5);
+
+        assertThat(exerciseRepository.findById(seoulExercise.getId()).orElseThrow().getStatus())
+                .isEqualTo(ExerciseRole.INCOMPLETE);
+        assertThat(exerciseRepository.findById(laExercise.getId()).orElseThrow().getStatus())
+                .isEqualTo(ExerciseRole.SCHEDULED_TO_BE_COMPLETED);
+        assertThat(exerciseRepository.findById(completed.getId()).orElseThrow().getStatus())
+                .isEqualTo(ExerciseRole.COMPLETE);
+        assertThat(dietInfoRepository.findAllByDietId(seoulDiet)).extracting(DietInfo::getDietStatusRole)
+                .containsExactlyInAnyOrder(DietStatusRole.INCOMPLETE, DietStatusRole.COMPLETE);
+        assertThat(dietInfoRepository.findAllByDietId(laDiet)).extracting(DietInfo::getDietStatusRole)
+                .containsExactly(DietStatusRole.SCHEDULED_TO_BE_EAT);
+
+        verify(exerciseCacheEvictor).evict(Map.of(seoulUser, Set.of(DAY)));
+        verify(calendarCacheEvictor).evict(Map.of(seoulUser, Set.of(DAY)));
+        assertThat(meterRegistry.get("expiry.queue.expired").tag("type", "exercise").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("expiry.queue.expired").tag("type", "diet").counter().count()).isEqualTo(1);
+
+        // 아직 하루가 끝나지 않은 로스앤젤레스 회원의 대상은 그 시간대의 기한으로 다시 넣습니다.
+        double laDeadline = DAY.plusDays(1).atStartOfDay(LOS_ANGELES).toInstant().toEpochMilli();
+        assertThat(captureEnqueued()).containsOnly(
+                Map.entry(ExpiryQueue.exerciseMember(laExercise.getId()), laDeadline),
+                Map.entry(ExpiryQueue.dietMember(laDiet), laDeadline));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void pollReturns(List<String> due) {
+        given(redisTemplate.execute(any(RedisScript.class), eq(List.of(ExpiryQueue.QUEUE_KEY)), any(), any()))
+                .willReturn(due, Collections.emptyList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Double> captureEnqueued() {
+        ArgumentCaptor<Set<ZSetOperations.TypedTuple<String>>> captor = ArgumentCaptor.forClass(Set.class);
+        verify(zSetOperations, atLeastOnce()).add(eq(ExpiryQueue.QUEUE_KEY), captor.capture());
+        Map<String, Double> enqueued = new HashMap<>();
+        for (Set<ZSetOperations.TypedTuple<String>> tuples : captor.getAllValues()) {
+            tuples.forEach(tuple -> enqueued.put(tuple.getValue(), tuple.getScore()));
+        }
+        return enqueued;
+    }
+
+    private Long saveDiet(Long userId, LocalDate dietDate, DietStatusRole... statuses) {
+        Long dietId = dietRepository.save(Diet.createDiet(userId, dietDate)).getId();
+        for (DietStatusRole status : statuses) {
+            dietInfoRepository.save(DietInfo.builder()
+                    .dietId(dietId)
+                    .foodName("rice")
+                    .kcal(300.0)
+                    .dietStatusRole(status)
+                    .build());
+        }
+        return dietId;
+    }
+
+    private static Exercise exercise(Long userId, LocalDateTime exerciseDate, ExerciseRole status) {
+        return Exercise.builder()
+                .userId(userId)
+                .sports("squat")
+                .weight(100)
+                .cnt(5)
+                .breakTime(60)
+                .exerciseDate(exerciseDate)
+                .status(status)
+                .build();
+    }
+
+    private static Member member(String userId, String timeZone) {
+        return Member.builder()
+                .userId(userId)
+                .email(userId + "@example.com")
+                .password("password")
+                .nickname(userId)
+                .timeZone(timeZone)
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.healthcare.schedule;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class JobLeaseTest {
+
+    private StringRedisTemplate redisTemplate;
+    private JobLease jobLease;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        jobLease = new JobLease(redisTemplate);
+    }
+
+    @Test
+    void acquireReturnsFencingTokenOnlyWhenLeaseIsFree() {
+        List<String> keys = List.of(JobLease.LEASE_KEY_PREFIX + "job", JobLease.FENCE_KEY_PREFIX + "job");
+        given(redisTemplate.execute(any(RedisScript.class), eq(keys), anyString(), eq("60000"))).willReturn(7L);
+
+        Optional<JobLease.Lease> lease = jobLease.acquire("job", Duration.ofMinutes(1));
+
+        assertThat(lease).isPresent();
+        assertThat(lease.get().getToken()).isEqualTo(7L);
+
+        // 다른 노드가 가지고 있으면 스크립트가 nil 을 돌려줍니다.
+        given(redisTemplate.execute(any(RedisScript.class), eq(keys), anyString(), eq("60000"))).willReturn(null);
+        assertThat(jobLease.acquire("job", Duration.ofMinutes(1))).isEmpty();
+    }
+
+    @Test
+    void renewFailsOnceLeaseBelongsToSomeoneElse() {
+        JobLease.Lease lease = new JobLease.Lease("job", "owner", 7L);
+        given(redisTemplate.execute(any(RedisScript.class), eq(List.of(JobLease.LEASE_KEY_PREFIX + "job")),
+                eq("owner"), eq("60000"))).willReturn(0L);
+
+        assertThat(jobLease.renew(lease, Duration.ofMinutes(1))).isFalse();
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.healthcare.schedule;
+
+import com.example.healthcare.domain.enumType.job.JobRunStatus;
+import com.example.healthcare.domain.job.JobCheckpoint;
+import com.example.healthcare.domain.job.JobRun;
+import com.example.healthcare.repository.job.JobCheckpointRepository;
+import com.example.healthcare.repository.job.JobRunRepository;
+import com.example.healthcare.support.JpaSliceTestConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = JpaSliceTestConfiguration.class)
+@Import({JobRunner.class, JobRunnerTest.Metrics.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JobRunnerTest {
+
+    private static final String JOB_NAME = "countdown";
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 8, 2, 0, 0);
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private JobRunner jobRunner;
+    @Autowired
+    private JobCheckpointRepository jobCheckpointRepository;
+    @Autowired
+    private JobRunRepository jobRunRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockBean
+    private JobLease jobLease;
+
+    @AfterEach
+    void tearDown() {
+        jobRunRepository.deleteAllInBatch();
+        jobCheckpointRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void runsChunksUnderLeaseAndRecordsHistory() {
+        JobLease.Lease lease = lease(3L);
+        given(jobLease.renew(any(), any())).willReturn(true);
+        // 이전 실행이 도중에 죽어 RUNNING 으로 남은 기록
+        JobRun crashed = jobRunRepository.save(JobRun.createJobRun(JOB_NAME, 2L, "node-a", NOW.minusDays(1)));
+
+        JobRun run = jobRunner.run(new CountdownJob(3), NOW);
+
+        assertThat(run.getStatus()).isEqualTo(JobRunStatus.SUCCEEDED);
+        assertThat(run.getChunks()).isEqualTo(3);
+        assertThat(run.getProcessedRows()).isEqualTo(30);
+        assertThat(run.getFencingToken()).isEqualTo(3L);
+        assertThat(run.getFinishedAt()).isNotNull();
+        assertThat(jobRunRepository.findById(crashed.getId()).orElseThrow().getStatus())
+                .isEqualTo(JobRunStatus.ABANDONED);
+        assertThat(jobRunRepository.findByJobNameOrderByStartedAtDesc(JOB_NAME, PageRequest.of(0, 1)))
+                .extracting(JobRun::getId).containsExactly(run.getId());
+        assertThat(jobCheckpointRepository.findById(JOB_NAME).orElseThrow().getFencingToken()).isEqualTo(3L);
+        verify(jobLease).release(lease);
+    }
+
+    @Test
+    void skipsWhenAnotherNodeHoldsTheLease() {
+        given(jobLease.acquire(eq(JOB_NAME), any())).willReturn(Optional.empty());
+        CountdownJob job = new CountdownJob(1);
+
+        assertThat(jobRunner.run(job, NOW)).isNull();
+
+        assertThat(job.executed).isZero();
+        assertThat(jobRunRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    void staleFencingTokenIsRejectedBeforeAnyChunkRuns() {
+        // 리스가 만료된 사이 토큰 5 를 받은 노드가 이미 기록한 상황
+        JobCheckpoint checkpoint = JobCheckpoint.createJobCheckpoint(JOB_NAME, null);
+        checkpoint.setFencingToken(5L);
+        jobCheckpointRepository.save(checkpoint);
+        lease(4L);
+        CountdownJob job = new CountdownJob(1);
+
+        JobRun run = jobRunner.run(job, NOW);
+
+        assertThat(run.getStatus()).isEqualTo(JobRunStatus.FAILED);
+        assertThat(run.getError()).contains("JobLeaseLostException");
+        assertThat(job.executed).isZero();
+        assertThat(jobCheckpointRepository.findById(JOB_NAME).orElseThrow().getFencingToken()).isEqualTo(5L);
+    }
+
+    @Test
+    void stopsAfterLosingLeaseAndNextRunResumesFromCheckpoint() {
+        lease(1L);
+        given(jobLease.renew(any(), any())).willReturn(false);
+
+        JobRun first = jobRunner.run(new CountdownJob(3), NOW);
+
+        assertThat(first.getStatus()).isEqualTo(JobRunStatus.FAILED);
+        assertThat(first.getChunks()).isEqualTo(1);
+
+        lease(2L);
+        given(jobLease.renew(any(), any())).willReturn(true);
+        JobRun second = jobRunner.run(new CountdownJob(3), NOW);
+
+        // 첫 실행이 커밋한 묶음은 다시 처리하지 않습니다.
+        assertThat(second.getStatus()).isEqualTo(JobRunStatus.SUCCEEDED);
+        assertThat(second.getChunks()).isEqualTo(2);
+        assertThat(jobRunRepository.findAll()).extracting(JobRun::getStatus)
+                .containsExactlyInAnyOrder(JobRunStatus.FAILED, JobRunStatus.SUCCEEDED);
+    }
+
+    @Test
+    void failureToOpenRunRecordIsLoggedNotThrown() {
+        JobLease.Lease lease = lease(1L);
+        JobRunRepository failingRepository = mock(JobRunRepository.class);
+        given(failingRepository.markAbandoned(any(), any(), any(), any(), any()))
+                .willThrow(new DataAccessResourceFailureException("db down"));
+        CountdownJob job = new CountdownJob(1);
+
+        assertThat(runnerWith(failingRepository).run(job, NOW)).isNull();
+
+        assertThat(job.executed).isZero();
+        verify(jobLease).release(lease);
+    }
+
+    @Test
+    void failureToCloseRunRecordIsLoggedNotThrown() {
+        JobLease.Lease lease = lease(1L);
+        JobRunRepository failingRepository = mock(JobRunRepository.class);
+        given(failingRepository.save(any())).willAnswer(returnsFirstArg())
+                .willThrow(new DataAccessResourceFailureException("db down"));
+
+        JobRun run = runnerWith(failingRepository).run(new CountdownJob(1), NOW);
+
+        assertThat(run.getStatus()).isEqualTo(JobRunStatus.SUCCEEDED);
+        assertThat(run.getFinishedAt()).isNotNull();
+        verify(jobLease).release(lease);
+    }
+
+    private JobRunner runnerWith(JobRunRepository runRepository) {
+        return new JobRunner(jobLease, jobCheckpointRepository, runRepository, transactionTemplate,
+                new SimpleMeterRegistry(), Duration.ofMinutes(5));
+    }
+
+    private JobLease.Lease lease(long token) {
+        JobLease.Lease lease = new JobLease.Lease(JOB_NAME, "owner-" + token, token);
+        given(jobLease.acquire(eq(JOB_NAME), any())).willReturn(Optional.of(lease));
+        return lease;
+    }
+
+    /**
+     * 진행 위치를 JobCheckpoint 의 watermark 에 하루씩 저장하며 정해진 날짜 수만큼 처리하는 작업입니다.
+     */
+    private class CountdownJob implements ChunkedJob {
+        private final LocalDate end;
+        private int executed;
+
+        CountdownJob(int days) {
+            this.end = NOW.toLocalDate().plusDays(days);
+        }
+
+        @Override
+        public String getName() {
+            return JOB_NAME;
+        }
+
+        @Override
+        public Chunk executeChunk(JobContext context) {
+            executed++;
+            JobCheckpoint checkpoint = jobCheckpointRepository.findById(JOB_NAME).orElseThrow();
+            LocalDate next = (checkpoint.getWatermark() == null
+                    ? context.getStartedAt().toLocalDate() : checkpoint.getWatermark()).plusDays(1);
+            checkpoint.setWatermark(next);
+            return new Chunk(10, !next.isBefore(end));
+        }
+    }
+}
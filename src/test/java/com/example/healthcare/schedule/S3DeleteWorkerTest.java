@@ -0,0 +1,254 @@
+package com.example.healthcare.schedule;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsResult;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.example.healthcare.domain.storage.S3DeleteTask;
+import com.example.healthcare.domain.storage.StoredImage;
+import com.example.healthcare.repository.storage.S3DeleteTaskRepository;
+import com.example.healthcare.repository.storage.StoredImageRepository;
+import com.example.healthcare.support.JpaSliceTestConfiguration;
+import com.example.healthcare.util.S3DeleteQueue;
+import com.example.healthcare.util.S3Deleter;
+import com.example.healthcare.util.StoredImageIndex;
+import com.example.healthcare.util.UploadedFile;
+import com.example.healthcare.util.UploadedImage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+
+@DataJpaTest(properties = "cloud.aws.s3.bucket=test-bucket")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = JpaSliceTestConfiguration.class)
+@Import({S3DeleteWorker.class, S3Deleter.class, S3DeleteQueue.class, StoredImageIndex.class,
+        S3DeleteWorkerTest.Metrics.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class S3DeleteWorkerTest {
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    // 로컬 S3 대역: 지워진 키를 기록하는 모의 클라이언트
+    @MockBean
+    private AmazonS3 amazonS3;
+
+    @Autowired
+    private S3DeleteWorker s3DeleteWorker;
+    @Autowired
+    private S3DeleteQueue s3DeleteQueue;
+    @Autowired
+    private S3DeleteTaskRepository s3DeleteTaskRepository;
+    @Autowired
+    private StoredImageRepository storedImageRepository;
+    @Autowired
+    private StoredImageIndex storedImageIndex;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void drainsQueueInBatchesOfAtMostOneThousandKeys() {
+        List<Integer> batchSizes = new ArrayList<>();
+        willAnswer(invocation -> {
+            DeleteObjectsRequest request = invocation.getArgument(0);
+            batchSizes.add(request.getKeys().size());
+            return new DeleteObjectsResult(Collections.emptyList());
+        }).given(amazonS3).deleteObjects(any(DeleteObjectsRequest.class));
+        s3DeleteQueue.enqueue(keys(2500));
+
+        s3DeleteWorker.drain();
+
+        assertThat(batchSizes).containsExactly(1000, 1000, 500);
+        assertThat(s3DeleteTaskRepository.count()).isZero();
+        assertThat(meterRegistry.get("s3.delete.queue.depth").gauge().value()).isZero();
+        assertThat(meterRegistry.get("s3.delete.objects").tag("result", "deleted").counter().count())
+                .isEqualTo(2500);
+    }
+
+    @Test
+    void reschedulesFailedKeysWithBackoff() {
+        MultiObjectDeleteException.DeleteError error = new MultiObjectDeleteException.DeleteError();
+        error.setKey("diet-images/1.jpg");
+        error.setCode("InternalError");
+        error.setMessage("try again");
+        given(amazonS3.deleteObjects(any(DeleteObjectsRequest.class)))
+                .willThrow(new MultiObjectDeleteException(List.of(error), Collections.emptyList()));
+        s3DeleteQueue.enqueue(keys(3));
+        LocalDateTime before = LocalDateTime.now();
+
+        s3DeleteWorker.drain();
+
+        List<S3DeleteTask> remaining = s3DeleteTaskRepository.findAll();
+        assertThat(remaining).hasSize(1);
+        S3DeleteTask task = remaining.get(0);
+        assertThat(task.getObjectKey()).isEqualTo("diet-images/1.jpg");
+        assertThat(task.getAttempts()).isEqualTo(1);
+        assertThat(task.getNextAttemptAt()).isAfterOrEqualTo(before.plus(S3DeleteWorker.BASE_BACKOFF));
+        assertThat(task.getLastError()).contains("InternalError");
+        assertThat(meterRegistry.get("s3.delete.queue.depth").gauge().value()).isEqualTo(1);
+
+        // 재시도 시각 전에는 다시 요청하지 않습니다.
+        s3DeleteWorker.drain();
+        assertThat(s3DeleteTaskRepository.findAll()).extracting(S3DeleteTask::getAttempts).containsExactly(1);
+        s3DeleteTaskRepository.deleteAll();
+    }
+
+    @Test
+    void skipsImagesReferencedAgainAndPurgesExpiredOnes() {
+        List<String> deletedKeys = Collections.synchronizedList(new ArrayList<>());
+        willAnswer(invocation -> {
+            DeleteObjectsRequest request = invocation.getArgument(0);
+            request.getKeys().forEach(key -> deletedKeys.add(key.getKey()));
+            return new DeleteObjectsResult(Collections.emptyList());
+        }).given(amazonS3).deleteObjects(any(DeleteObjectsRequest.class));
+        LocalDateTime longAgo = LocalDateTime.now().minusDays(2);
+        // 유예 기간 중 다시 참조된 사진과 참조가 끊긴 채 유예 기간이 지난 사진
+        storedImageRepository.save(storedImage("revived", 1, null));
+        storedImageRepository.save(storedImage("expired", 0, longAgo));
+        s3DeleteQueue.enqueue(List.of("diet-images/revived.jpg", "diet-images/revived_thumb.jpg"), "revived", Duration.ZERO);
+        s3DeleteQueue.enqueue(List.of("diet-images/expired.jpg", "diet-images/expired_thumb.jpg"), "expired", Duration.ZERO);
+
+        s3DeleteWorker.drain();
+
+        assertThat(deletedKeys).containsExactlyInAnyOrder("diet-images/expired.jpg", "diet-images/expired_thumb.jpg");
+        assertThat(s3DeleteTaskRepository.count()).isZero();
+        assertThat(storedImageRepository.findAll()).extracting(StoredImage::getContentHash).containsExactly("revived");
+        storedImageRepository.deleteAll();
+    }
+
+    @Test
+    void callsS3OutsideTransactionWithTasksLeased() {
+        LocalDateTime longAgo = LocalDateTime.now().minusDays(2);
+        storedImageRepository.save(storedImage("leased", 0, longAgo));
+        s3DeleteQueue.enqueue(List.of("diet-images/leased.jpg"), "leased", Duration.ZERO);
+        List<LocalDateTime> leasedUntil = new ArrayList<>();
+        willAnswer(invocation -> {
+            // S3 요청 중에는 트랜잭션이 없고, 같은 사진의 참조 행도 잠겨 있지 않습니다.
+            assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isFalse();
+            StoredImage image = storedImageRepository.findByContentHash("leased").orElseThrow();
+            image.setCreatedAt(LocalDateTime.now());
+            storedImageRepository.save(image);
+            s3DeleteTaskRepository.findAll().forEach(task -> leasedUntil.add(task.getNextAttemptAt()));
+            return new DeleteObjectsResult(Collections.emptyList());
+        }).given(amazonS3).deleteObjects(any(DeleteObjectsRequest.class));
+        LocalDateTime before = LocalDateTime.now();
+
+        s3DeleteWorker.drain();
+
+        assertThat(leasedUntil).singleElement()
+                .satisfies(nextAttemptAt -> assertThat(nextAttemptAt).isAfter(before.plusMinutes(1)));
+        assertThat(s3DeleteTaskRepository.count()).isZero();
+        assertThat(storedImageRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    void reuploadOfExpiredImageKeepsNewObjectsWhicheverSideRunsFirst() {
+        List<String> deletedKeys = Collections.synchronizedList(new ArrayList<>());
+        willAnswer(invocation -> {
+            DeleteObjectsRequest request = invocation.getArgument(0);
+            request.getKeys().forEach(key -> deletedKeys.add(key.getKey()));
+            return new DeleteObjectsResult(Collections.emptyList());
+        }).given(amazonS3).deleteObjects(any(DeleteObjectsRequest.class));
+        LocalDateTime longAgo = LocalDateTime.now().minusDays(2);
+
+        // 다시 올린 사진의 참조가 먼저 저장된 경우: 행은 새 객체로 바뀌고 이전 객체만 지워집니다.
+        storedImageRepository.save(storedImage("first", 0, longAgo));
+        s3DeleteQueue.enqueue(List.of("diet-images/first.jpg", "diet-images/first_thumb.jpg"), "first", Duration.ZERO);
+        UploadedImage acquired = storedImageIndex.acquire(uploadedImage("first", "diet-images/first-new"));
+        s3DeleteWorker.drain();
+
+        assertThat(acquired.getObjectKey()).isEqualTo("diet-images/first-new");
+        assertThat(storedImageRepository.findByContentHash("first")).get()
+                .extracting(StoredImage::getObjectKey, StoredImage::getRefCount)
+                .containsExactly("diet-images/first-new", 1);
+
+        // 워커가 먼저 지운 경우: 참조는 새 객체로 행을 다시 만듭니다.
+        storedImageRepository.save(storedImage("second", 0, longAgo));
+        s3DeleteQueue.enqueue(List.of("diet-images/second.jpg", "diet-images/second_thumb.jpg"), "second", Duration.ZERO);
+        s3DeleteWorker.drain();
+        storedImageIndex.acquire(uploadedImage("second", "diet-images/second-new"));
+
+        assertThat(storedImageRepository.findByContentHash("second")).get()
+                .extracting(StoredImage::getObjectKey, StoredImage::getRefCount)
+                .containsExactly("diet-images/second-new", 1);
+        assertThat(deletedKeys).containsExactlyInAnyOrder("diet-images/first.jpg", "diet-images/first_thumb.jpg",
+                "diet-images/second.jpg", "diet-images/second_thumb.jpg");
+        assertThat(s3DeleteTaskRepository.count()).isZero();
+        storedImageRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentUploadOfSameImageKeepsFirstAndRemovesSecond() {
+        UploadedImage first = storedImageIndex.acquire(uploadedImage("twice", "diet-images/twice-a"));
+        UploadedImage second = storedImageIndex.acquire(uploadedImage("twice", "diet-images/twice-b"));
+
+        assertThat(first.getObjectKey()).isEqualTo("diet-images/twice-a");
+        assertThat(second.getObjectKey()).isEqualTo("diet-images/twice-a");
+        assertThat(second.getThumbnail().getUrl()).isEqualTo("https://bucket/diet-images/twice-a_thumb.jpg");
+        // 나중에 올린 객체는 참조되지 않으므로 유예 기간 뒤 지워집니다.
+        assertThat(s3DeleteTaskRepository.findAll()).extracting(S3DeleteTask::getObjectKey)
+                .containsExactlyInAnyOrder("diet-images/twice-b.jpg", "diet-images/twice-b_medium.jpg",
+                        "diet-images/twice-b_thumb.jpg");
+        s3DeleteTaskRepository.deleteAll();
+        storedImageRepository.deleteAll();
+    }
+
+    @Test
+    void backoffGrowsExponentiallyUpToOneHour() {
+        assertThat(S3DeleteWorker.backoff(1)).isEqualTo(S3DeleteWorker.BASE_BACKOFF);
+        assertThat(S3DeleteWorker.backoff(2)).isEqualTo(S3DeleteWorker.BASE_BACKOFF.multipliedBy(2));
+        assertThat(S3DeleteWorker.backoff(30)).isEqualTo(S3DeleteWorker.MAX_BACKOFF);
+    }
+
+    private static StoredImage storedImage(String contentHash, int refCount, LocalDateTime orphanedAt) {
+        return StoredImage.builder()
+                .contentHash(contentHash)
+                .objectKey("diet-images/" + contentHash)
+                .refCount(refCount)
+                .orphanedAt(orphanedAt)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static UploadedImage uploadedImage(String contentHash, String objectKey) {
+        return new UploadedImage(contentHash, objectKey, false,
+                new UploadedFile(objectKey + ".jpg", "https://bucket/" + objectKey + ".jpg"),
+                new UploadedFile(objectKey + "_medium.jpg", "https://bucket/" + objectKey + "_medium.jpg"),
+                new UploadedFile(objectKey + "_thumb.jpg", "https://bucket/" + objectKey + "_thumb.jpg"));
+    }
+
+    private static Set<String> keys(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> "diet-images/" + i + ".jpg")
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.healthcare.service;
+
+import com.example.healthcare.controller.request.diet.DietRequest;
+import com.example.healthcare.controller.request.exercise.ExerciseRequest;
+import com.example.healthcare.controller.request.exercise.ExerciseSetRequest;
+import com.example.healthcare.controller.response.calendar.CalendarMonthResponse;
+import com.example.healthcare.domain.diet.Diet;
+import com.example.healthcare.domain.diet.DietInfo;
+import com.example.healthcare.repository.diet.DailyNutritionSummaryRepository;
+import com.example.healthcare.repository.diet.DietInfoRepository;
+import com.example.healthcare.repository.diet.DietRepository;
+import com.example.healthcare.repository.exercise.ExerciseRepository;
+import com.example.healthcare.repository.exercise.ExerciseSetRepository;
+import com.example.healthcare.repository.exercise.ExerciseVolumeSummaryRepository;
+import com.example.healthcare.schedule.DietStatusExpiryJob;
+import com.example.healthcare.schedule.ExpiryQueue;
+import com.example.healthcare.support.JpaSliceTestConfiguration;
+import com.example.healthcare.support.QueryCounter;
+import com.example.healthcare.util.S3DeleteQueue;
+import com.example.healthcare.util.S3Uploader;
+import com.example.healthcare.util.StoredImageIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = JpaSliceTestConfiguration.class)
+@Import({CalendarSummaryServiceTest.CacheTestConfiguration.class, CalendarSummaryService.class,
+        ExerciseService.class, ExerciseAggregateLoader.class, ExerciseVolumeService.class, ExerciseCacheEvictor.class,
+        DietService.class, DietAggregateLoader.class, DailyNutritionSummaryService.class, CalendarCacheEvictor.class,
+        S3DeleteQueue.class, StoredImageIndex.class, DietStatusExpiryJob.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CalendarSummaryServiceTest {
+
+    private static final Long USER_ID = 7L;
+
+    @TestConfiguration
+    @EnableCaching
+    static class CacheTestConfiguration {
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(CalendarCacheKeys.MONTH);
+        }
+    }
+
+    @Autowired
+    private CalendarSummaryService calendarSummaryService;
+    @Autowired
+    private ExerciseService exerciseService;
+    @Autowired
+    private DietService dietService;
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+    @Autowired
+    private ExerciseSetRepository exerciseSetRepository;
+    @Autowired
+    private ExerciseVolumeSummaryRepository exerciseVolumeSummaryRepository;
+    @Autowired
+    private DietRepository dietRepository;
+    @Autowired
+    private DietInfoRepository dietInfoRepository;
+    @Autowired
+    private DailyNutritionSummaryRepository dailyNutritionSummaryRepository;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private MemberService memberService;
+    @MockBean
+    private S3Uploader s3Uploader;
+    @MockBean
+    private ExpiryQueue expiryQueue;
+
+    private QueryCounter queryCounter;
+
+    @BeforeEach
+    void setUp() {
+        queryCounter = new QueryCounter(entityManagerFactory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.getCache(CalendarCacheKeys.MONTH).clear();
+        exerciseVolumeSummaryRepository.deleteAllInBatch();
+        exerciseSetRepository.deleteAllInBatch();
+        exerciseRepository.deleteAllInBatch();
+        dailyNutritionSummaryRepository.deleteAllInBatch();
+        dietInfoRepository.deleteAllInBatch();
+        dietRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void monthIsCountedPerDayAndStatusWithTwoGroupedQueries() {
+        exerciseService.registerExercise(USER_ID, List.of(
+                exerciseRequest("squat", "2023-02-01 07:00"),
+                exerciseRequest("bench", "2023-02-01 19:00"),
+                exerciseRequest("squat", "2023-02-28 23:59"),
+                exerciseRequest("squat", "2023-03-01 00:00")));
+        exerciseService.successExercise(USER_ID, exerciseRepository.findAllByUserId(USER_ID).stream()
+                .filter(exercise -> exercise.getSports().equals("bench"))
+                .findFirst().orElseThrow().getId());
+        dietService.registerDiet(USER_ID, "2023-02-01", List.of(dietRequest("rice"), dietRequest("egg")), null);
+        dietService.registerDiet(USER_ID, "2023-02-15", List.of(dietRequest("apple")), null);
+        dietService.registerDiet(8L, "2023-02-15", List.of(dietRequest("cake")), null);
+
+        queryCounter.reset();
+        CalendarMonthResponse month = calendarSummaryService.getMonth(USER_ID, "2023-02");
+
+        assertThat(queryCounter.count()).isEqualTo(2);
+        assertThat(month.getMonth()).isEqualTo("2023-02");
+        assertThat(month.getExerciseStatuses()).containsExactly("COMPLETE", "INCOMPLETE", "SCHEDULED_TO_BE_COMPLETED");
+        assertThat(month.getDietStatuses()).containsExactly("COMPLETE", "INCOMPLETE", "SCHEDULED_TO_BE_EAT");
+        assertThat(month.getDays().length).isEqualTo(28);
+        assertThat(month.getDays()[0]).containsExactly(1, 0, 1, 0, 0, 2);
+        assertThat(month.getDays()[14]).containsExactly(0, 0, 0, 0, 0, 1);
+        assertThat(month.getDays()[27]).containsExactly(0, 0, 1, 0, 0, 0);
+    }
+
+    @Test
+    void cachedMonthIsEvictedByExerciseAndDietWrites() {
+        calendarSummaryService.getMonth(USER_ID, "2023-02");
+        queryCounter.reset();
+        assertThat(calendarSummaryService.getMonth(USER_ID, "2023-02").getDays()[0]).containsOnly(0);
+        assertThat(queryCounter.count()).isZero();
+
+        exerciseService.registerExercise(USER_ID, List.of(exerciseRequest("squat", "2023-02-01 07:00")));
+        assertThat(calendarSummaryService.getMonth(USER_ID, "2023-02").getDays()[0])
+                .containsExactly(0, 0, 1, 0, 0, 0);
+
+        dietService.registerDiet(USER_ID, "2023-02-01", List.of(dietRequest("rice")), null);
+        Diet diet = dietRepository.findByUserId(USER_ID).get(0);
+        DietInfo rice = dietInfoRepository.findAllByDietId(diet.getId()).get(0);
+        dietService.dietSuccess(USER_ID, diet.getId(), rice.getId());
+        assertThat(calendarSummaryService.getMonth(USER_ID, "2023-02").getDays()[0])
+                .containsExactly(0, 0, 1, 1, 0, 0);
+
+        // 다른 달로 옮기면 두 달 모두 다시 계산합니다.
+        calendarSummaryService.getMonth(USER_ID, "2023-03");
+        DietRequest movedRice = dietRequest("rice");
+        movedRice.setId(rice.getId());
+        dietService.updateDiet(USER_ID, diet.getId(), "2023-03-02", List.of(movedRice), null, null);
+        assertThat(calendarSummaryService.getMonth(USER_ID, "2023-02").getDays()[0])
+                .containsExactly(0, 0, 1, 0, 0, 0);
+        assertThat(calendarSummaryService.getMonth(USER_ID, "2023-03").getDays()[1]).endsWith(1, 0, 0);
+
+        exerciseService.deleteExercise(USER_ID, exerciseRepository.findAllByUserId(USER_ID).get(0).getId());
+        assertThat(calendarSummaryService.getMonth(USER_ID, "2023-02").getDays()[0]).containsOnly(0);
+    }
+
+    private static ExerciseRequest exerciseRequest(String sports, String exerciseDate) {
+        return ExerciseRequest.builder()
+                .sports(sports)
+                .exerciseDate(exerciseDate)
+                .sets(List.of(new ExerciseSetRequest(60, 10, 90)))
+                .build();
+    }
+
+    private static DietRequest dietRequest(String foodName) {
+        return DietRequest.builder().foodName(foodName).kcal(100.0).build();
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.healthcare.service;
+
+import com.example.healthcare.controller.request.diet.DietRequest;
+import com.example.healthcare.controller.response.diet.NutritionSummaryResponse;
+import com.example.healthcare.domain.diet.DailyNutritionSummary;
+import com.example.healthcare.domain.diet.Diet;
+import com.example.healthcare.domain.diet.DietInfo;
+import com.example.healthcare.repository.diet.DailyNutritionSummaryRepository;
+import com.example.healthcare.repository.diet.DietInfoRepository;
+import com.example.healthcare.repository.diet.DietRepository;
+import com.example.healthcare.schedule.DailyNutritionSummaryRebuildJob;
+import com.example.healthcare.schedule.DietStatusExpiryJob;
+import com.example.healthcare.schedule.ExpiryQueue;
+import com.example.healthcare.support.JpaSliceTestConfiguration;
+import com.example.healthcare.util.S3DeleteQueue;
+import com.example.healthcare.util.S3Uploader;
+import com.example.healthcare.util.StoredImageIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = JpaSliceTestConfiguration.class)
+@Import({DietService.class, DietAggregateLoader.class, DailyNutritionSummaryService.class,
+        S3DeleteQueue.class, StoredImageIndex.class, DietStatusExpiryJob.class, DailyNutritionSummaryRebuildJob.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DailyNutritionSummaryServiceTest {
+
+    private static final Long USER_ID = 7L;
+
+    @Autowired
+    private DietService dietService;
+    @Autowired
+    private DailyNutritionSummaryService dailyNutritionSummaryService;
+    @Autowired
+    private DailyNutritionSummaryRebuildJob dailyNutritionSummaryRebuildJob;
+    @Autowired
+    private DailyNutritionSummaryRepository dailyNutritionSummaryRepository;
+    @Autowired
+    private DietRepository dietRepository;
+    @Autowired
+    private DietInfoRepository dietInfoRepository;
+
+    @MockBean
+    private S3Uploader s3Uploader;
+    @MockBean
+    private CalendarCacheEvictor calendarCacheEvictor;
+    @MockBean
+    private ExpiryQueue expiryQueue;
+
+    @AfterEach
+    void tearDown() {
+        dailyNutritionSummaryRepository.deleteAllInBatch();
+        dietInfoRepository.deleteAllInBatch();
+        dietRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void summaryFollowsRegisterCompleteUpdateAndDelete() {
+        dietService.registerDiet(USER_ID, "2023-08-01",
+                List.of(dietRequest("rice", 300.0, 60.0, 5.0, 1.0), dietRequest("egg", 80.0, 1.0, 6.0, 5.0)), null);
+        dietService.registerDiet(USER_ID, "2023-08-01", List.of(dietRequest("apple", 50.0, 12.0, 0.0, 0.0)), null);
+
+        DailyNutritionSummary registered = summaryOf(LocalDate.of(2023, 8, 1));
+        assertThat(registered.getPlannedKcal()).isEqualTo(430.0);
+        assertThat(registered.getPlannedFat()).isEqualTo(6.0);
+        assertThat(registered.getCompletedKcal()).isZero();
+
+        Diet first = dietRepository.findByUserId(USER_ID).get(0);
+        DietInfo egg = dietInfoRepository.findAllByDietId(first.getId()).stream()
+                .filter(dietInfo -> dietInfo.getFoodName().equals("egg"))
+                .findFirst().orElseThrow();
+        dietService.dietSuccess(USER_ID, first.getId(), egg.getId());
+        dietService.dietSuccess(USER_ID, first.getId(), egg.getId());
+
+        DailyNutritionSummary completed = summaryOf(LocalDate.of(2023, 8, 1));
+        assertThat(completed.getCompletedKcal()).isEqualTo(80.0);
+        assertThat(completed.getCompletedProtein()).isEqualTo(6.0);
+
+        // 완료된 egg 의 칼로리를 바꾸고 rice 를 지운 채 다음 날로 옮깁니다.
+        DietRequest heavierEgg = dietRequest("egg", 100.0, 1.0, 6.0, 5.0);
+        heavierEgg.setId(egg.getId());
+        dietService.updateDiet(USER_ID, first.getId(), "2023-08-02", List.of(heavierEgg), null, null);
+
+        assertThat(summaryOf(LocalDate.of(2023, 8, 1)).getPlannedKcal()).isCloseTo(50.0, within(1e-9));
+        assertThat(summaryOf(LocalDate.of(2023, 8, 1)).getCompletedKcal()).isCloseTo(0.0, within(1e-9));
+        DailyNutritionSummary moved = summaryOf(LocalDate.of(2023, 8, 2));
+        assertThat(moved.getPlannedKcal()).isEqualTo(100.0);
+        assertThat(moved.getCompletedKcal()).isEqualTo(100.0);
+
+        assertMatchesRebuild();
+
+        dietService.deleteDiet(USER_ID, first.getId());
+        assertThat(summaryOf(LocalDate.of(2023, 8, 2)).getPlannedKcal()).isCloseTo(0.0, within(1e-9));
+        assertMatchesRebuild();
+    }
+
+    @Test
+    void rangeQueriesReadOnlyRollupRows() {
+        dietService.registerDiet(USER_ID, "2023-07-31", List.of(dietRequest("rice", 300.0, 60.0, 5.0, 1.0)), null);
+        dietService.registerDiet(USER_ID, "2023-08-06", List.of(dietRequest("egg", 80.0, 1.0, 6.0, 5.0)), null);
+        dietService.registerDiet(USER_ID, "2023-08-07", List.of(dietRequest("apple", 50.0, 12.0, 0.0, 0.0)), null);
+        dietService.registerDiet(USER_ID, "2023-12-31", List.of(dietRequest("cake", 400.0, 50.0, 4.0, 20.0)), null);
+
+        NutritionSummaryResponse week = dailyNutritionSummaryService.getWeeklySummary(USER_ID, "2023-08-02");
+        assertThat(week.getStartDate()).isEqualTo(LocalDate.of(2023, 7, 31));
+        assertThat(week.getEndDate()).isEqualTo(LocalDate.of(2023, 8, 6));
+        assertThat(week.getDays()).hasSize(2);
+        assertThat(week.getTotal().getPlannedKcal()).isEqualTo(380.0);
+
+        NutritionSummaryResponse month = dailyNutritionSummaryService.getMonthlySummary(USER_ID, "2023-08");
+        assertThat(month.getDays()).extracting(day -> day.getDate().getDayOfMonth()).containsExactly(6, 7);
+        assertThat(month.getTotal().getPlannedKcal()).isEqualTo(130.0);
+
+        NutritionSummaryResponse year = dailyNutritionSummaryService.getYearlySummary(USER_ID, "2023");
+        assertThat(year.getDays()).hasSize(4);
+        assertThat(year.getTotal().getPlannedKcal()).isEqualTo(830.0);
+        assertThat(year.getTotal().getPlannedFat()).isEqualTo(26.0);
+    }
+
+    @Test
+    void rebuildBackfillsExistingDietsAcrossChunks() {
+        for (long userId = 1; userId <= DailyNutritionSummaryRebuildJob.CHUNK_SIZE + 5; userId++) {
+            Long dietId = dietRepository.save(Diet.createDiet(userId, LocalDate.of(2023, 8, 1))).getId();
+            dietInfoRepository.save(DietInfo.createDietInfo(dietId, dietRequest("rice", 100.0, 20.0, 2.0, 1.0)));
+        }
+
+        int rebuilt = dailyNutritionSummaryRebuildJob.rebuildAll();
+
+        assertThat(rebuilt).isEqualTo(DailyNutritionSummaryRebuildJob.CHUNK_SIZE + 5);
+        assertThat(dailyNutritionSummaryRepository.findAll())
+                .allSatisfy(summary -> assertThat(summary.getPlannedKcal()).isEqualTo(100.0));
+    }
+
+    @Test
+    void rebuildDropsSummariesOfUsersWithoutDiets() {
+        for (long userId = 1; userId <= DailyNutritionSummaryRebuildJob.CHUNK_SIZE + 5; userId++) {
+            // 짝수 사용자는 식단이 모두 지워지고 합계 행만 남은 상황
+            if (userId % 2 == 0) {
+                dailyNutritionSummaryRepository.save(DailyNutritionSummary.builder()
+                        .userId(userId)
+                        .summaryDate(LocalDate.of(2023, 8, 1))
+                        .plannedKcal(100.0).plannedCarbohydrate(20.0).plannedProtein(2.0).plannedFat(1.0)
+                        .completedKcal(0.0).completedCarbohydrate(0.0).completedProtein(0.0).completedFat(0.0)
+                        .build());
+                continue;
+            }
+            Long dietId = dietRepository.save(Diet.createDiet(userId, LocalDate.of(2023, 8, 1))).getId();
+            dietInfoRepository.save(DietInfo.createDietInfo(dietId, dietRequest("rice", 100.0, 20.0, 2.0, 1.0)));
+        }
+
+        dailyNutritionSummaryRebuildJob.rebuildAll();
+
+        assertThat(dailyNutritionSummaryRepository.findAll())
+                .hasSize((DailyNutritionSummaryRebuildJob.CHUNK_SIZE + 6) / 2)
+                .allSatisfy(summary -> assertThat(summary.getUserId() % 2).isEqualTo(1L));
+    }
+
+    private void assertMatchesRebuild() {
+        List<String> incremental = snapshot();
+        dailyNutritionSummaryRebuildJob.rebuildAll();
+        List<String> rebuilt = snapshot();
+        assertThat(incremental).isEqualTo(rebuilt);
+    }
+
+    private List<String> snapshot() {
+        return dailyNutritionSummaryRepository.findAll().stream()
+                .sorted(Comparator.comparing(DailyNutritionSummary::getSummaryDate))
+                // 모두 빠진 날은 재구성 시 행이 없으므로 비교에서 제외합니다.
+                .filter(summary -> Math.abs(summary.getPlannedKcal()) > 1e-9)
+                .map(summary -> summary.getSummaryDate() + ":" + Math.round(summary.getPlannedKcal())
+                        + "/" + Math.round(summary.getCompletedKcal())
+                        + "/" + Math.round(summary.getPlannedFat())
+                        + "/" + Math.round(summary.getCompletedProtein()))
+                .collect(Collectors.toList());
+    }
+
+    private DailyNutritionSummary summaryOf(LocalDate date) {
+        return dailyNutritionSummaryRepository
+                .findAllByUserIdAndSummaryDateBetweenOrderBySummaryDateAsc(USER_ID, date, date)
+                .get(0);
+    }
+
+    private static DietRequest dietRequest(String foodName, Double kcal, Double carbohydrate, Double protein, Double fat) {
+        return DietRequest.builder()
+                .foodName(foodName)
+                .kcal(kcal)
+                .carbohydrate(carbohydrate)
+                .protein(protein)
+                .saturatedFat(fat)
+                .build();
+    }
+}
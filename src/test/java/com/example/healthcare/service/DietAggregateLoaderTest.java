@@ -0,0 +1,125 @@
+package com.example.healthcare.service;
+
+import com.example.healthcare.controller.request.diet.DietRequest;
+import com.example.healthcare.controller.response.diet.DietWithImgResponse;
+import com.example.healthcare.domain.diet.Diet;
+import com.example.healthcare.domain.diet.DietImageUrl;
+import com.example.healthcare.domain.diet.DietInfo;
+import com.example.healthcare.repository.diet.DietImageUrlRepository;
+import com.example.healthcare.repository.diet.DietInfoRepository;
+import com.example.healthcare.repository.diet.DietRepository;
+import com.example.healthcare.support.JpaSliceTestConfiguration;
+import com.example.healthcare.support.QueryCounter;
+import com.example.healthcare.util.QueryChunks;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = JpaSliceTestConfiguration.class)
+@Import(DietAggregateLoader.class)
+class DietAggregateLoaderTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Autowired
+    private DietAggregateLoader dietAggregateLoader;
+    @Autowired
+    private DietRepository dietRepository;
+    @Autowired
+    private DietInfoRepository dietInfoRepository;
+    @Autowired
+    private DietImageUrlRepository dietImageUrlRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private QueryCounter queryCounter;
+
+    @BeforeEach
+    void setUp() {
+        queryCounter = new QueryCounter(entityManagerFactory);
+    }
+
+    @Test
+    void monthViewRunsTwoStatementsRegardlessOfDietCount() {
+        List<Diet> diets = saveDiets(LocalDate.of(2023, 8, 1), 31, 3, 2);
+
+        queryCounter.reset();
+        DietWithImgResponse response = dietAggregateLoader.load(diets);
+
+        assertThat(queryCounter.count()).isEqualTo(2);
+        assertThat(response.getDietResponses()).hasSize(31 * 3);
+        assertThat(response.getDietImgUrlResponses()).hasSize(31 * 2);
+    }
+
+    @Test
+    void allHistoryViewRunsTwoStatementsPerInClauseChunk() {
+        int dietCount = QueryChunks.IN_CLAUSE_CHUNK_SIZE * 2 + 1;
+        List<Diet> diets = saveDiets(LocalDate.of(2015, 1, 1), dietCount, 1, 1);
+
+        queryCounter.reset();
+        DietWithImgResponse response = dietAggregateLoader.load(diets);
+
+        assertThat(queryCounter.count()).isEqualTo(2 * 3);
+        assertThat(response.getDietResponses()).hasSize(dietCount);
+        assertThat(response.getDietImgUrlResponses()).hasSize(dietCount);
+    }
+
+    @Test
+    void keepsDietOrderInResponse() {
+        List<Diet> diets = saveDiets(LocalDate.of(2023, 8, 1), 3, 2, 1);
+        List<Diet> reversed = new ArrayList<>(diets);
+        Collections.reverse(reversed);
+
+        DietWithImgResponse response = dietAggregateLoader.load(reversed);
+
+        Long first = diets.get(0).getId();
+        Long second = diets.get(1).getId();
+        Long third = diets.get(2).getId();
+        assertThat(response.getDietResponses())
+                .extracting("dietId")
+                .containsExactly(third, third, second, second, first, first);
+        assertThat(response.getDietImgUrlResponses())
+                .extracting("dietId")
+                .containsExactly(third, second, first);
+    }
+
+    private List<Diet> saveDiets(LocalDate startDate, int dietCount, int infosPerDiet, int imagesPerDiet) {
+        List<Diet> diets = new ArrayList<>();
+        for (int i = 0; i < dietCount; i++) {
+            Diet diet = dietRepository.save(Diet.createDiet(USER_ID, startDate.plusDays(i)));
+            Long dietId = diet.getId();
+            diets.add(diet);
+            for (int j = 0; j < infosPerDiet; j++) {
+                dietInfoRepository.save(DietInfo.createDietInfo(dietId, DietRequest.builder()
+                        .foodName("food-" + j)
+                        .kcal(100.0)
+                        .build()));
+            }
+            for (int j = 0; j < imagesPerDiet; j++) {
+                dietImageUrlRepository.save(DietImageUrl.createDietImageUrl(dietId, "https://bucket/diet-images/" + i + "-" + j + ".jpg"));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return diets;
+    }
+}
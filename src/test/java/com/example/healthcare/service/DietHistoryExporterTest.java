@@ -0,0 +1,96 @@
+package com.example.healthcare.service;
+
+import com.example.healthcare.controller.request.diet.DietRequest;
+import com.example.healthcare.controller.response.diet.DietHistoryResponse;
+import com.example.healthcare.domain.diet.Diet;
+import com.example.healthcare.domain.diet.DietImageUrl;
+import com.example.healthcare.domain.diet.DietInfo;
+import com.example.healthcare.domain.enumType.diet.DietStatusRole;
+import com.example.healthcare.repository.diet.DietImageUrlRepository;
+import com.example.healthcare.repository.diet.DietInfoRepository;
+import com.example.healthcare.repository.diet.DietRepository;
+import com.example.healthcare.support.JpaSliceTestConfiguration;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = JpaSliceTestConfiguration.class)
+@Import({DietHistoryExporter.class, JacksonAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DietHistoryExporterTest {
+
+    @Autowired
+    private DietHistoryExporter dietHistoryExporter;
+    @Autowired
+    private DietRepository dietRepository;
+    @Autowired
+    private DietInfoRepository dietInfoRepository;
+    @Autowired
+    private DietImageUrlRepository dietImageUrlRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void tearDown() {
+        dietImageUrlRepository.deleteAllInBatch();
+        dietInfoRepository.deleteAllInBatch();
+        dietRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void writesOneLinePerDietInDateOrder() throws Exception {
+        Long later = dietRepository.save(Diet.createDiet(1L, LocalDate.of(2023, 8, 2))).getId();
+        Long earlier = dietRepository.save(Diet.createDiet(1L, LocalDate.of(2023, 8, 1))).getId();
+        Long empty = dietRepository.save(Diet.createDiet(1L, LocalDate.of(2023, 8, 3))).getId();
+        dietRepository.save(Diet.createDiet(2L, LocalDate.of(2023, 8, 1)));
+
+        DietInfo rice = DietInfo.createDietInfo(earlier, DietRequest.builder().foodName("rice").kcal(300.0).build());
+        rice.setDietStatusRole(DietStatusRole.COMPLETE);
+        dietInfoRepository.save(rice);
+        dietInfoRepository.save(DietInfo.createDietInfo(earlier, DietRequest.builder().foodName("egg").build()));
+        dietInfoRepository.save(DietInfo.createDietInfo(later, DietRequest.builder().foodName("salad").kcal(120.0).build()));
+        dietImageUrlRepository.save(DietImageUrl.createDietImageUrl(earlier, "https://bucket/diet-images/a.jpg"));
+        dietImageUrlRepository.save(DietImageUrl.createDietImageUrl(earlier, "https://bucket/diet-images/b.jpg"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int exported = dietHistoryExporter.export(1L, out);
+
+        List<DietHistoryResponse> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readValue(line, DietHistoryResponse.class));
+        }
+        assertThat(exported).isEqualTo(3);
+        assertThat(lines).extracting(DietHistoryResponse::getDietId).containsExactly(earlier, later, empty);
+
+        DietHistoryResponse first = lines.get(0);
+        assertThat(first.getDietDate()).isEqualTo(LocalDate.of(2023, 8, 1));
+        assertThat(first.getDietResponses()).extracting("foodName").containsExactly("rice", "egg");
+        assertThat(first.getDietResponses().get(0).getKcal()).isEqualTo(300.0);
+        assertThat(first.getDietResponses().get(0).getDietStatusRole()).isEqualTo(DietStatusRole.COMPLETE);
+        assertThat(first.getDietResponses().get(1).getKcal()).isNull();
+        assertThat(first.getDietImgUrlResponses()).extracting("imgUrl")
+                .containsExactly("https://bucket/diet-images/a.jpg", "https://bucket/diet-images/b.jpg");
+        assertThat(lines.get(2).getDietResponses()).isEmpty();
+        assertThat(lines.get(2).getDietImgUrlResponses()).isEmpty();
+    }
+}
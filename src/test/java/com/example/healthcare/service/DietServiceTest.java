@@ -0,0 +1,367 @@
+package com.example.healthcare.service;
+
+import com.example.healthcare.controller.request.diet.DietRequest;
+import com.example.healthcare.controller.response.diet.DietHistoryPageResponse;
+import com.example.healthcare.controller.response.diet.DietWithImgResponse;
+import com.example.healthcare.domain.diet.Diet;
+import com.example.healthcare.domain.diet.DietImageUrl;
+import com.example.healthcare.domain.diet.DietInfo;
+import com.example.healthcare.domain.enumType.member.MemberDisclosureStatusRole;
+import com.example.healthcare.domain.job.JobCheckpoint;
+import com.example.healthcare.domain.enumType.member.MemberStatusRole;
+import com.example.healthcare.domain.enumType.member.MemberTypeRole;
+import com.example.healthcare.domain.memeber.Member;
+import com.example.healthcare.repository.diet.DietImageUrlRepository;
+import com.example.healthcare.repository.diet.DietInfoRepository;
+import com.example.healthcare.repository.diet.DietRepository;
+import com.example.healthcare.repository.job.JobCheckpointRepository;
+import com.example.healthcare.repository.member.MemberRepository;
+import com.example.healthcare.schedule.DietStatusExpiryJob;
+import com.example.healthcare.schedule.ExpiryQueue;
+import com.example.healthcare.support.JpaSliceTestConfiguration;
+import com.example.healthcare.support.QueryCounter;
+import com.example.healthcare.repository.storage.S3DeleteTaskRepository;
+import com.example.healthcare.domain.storage.S3DeleteTask;
+import com.example.healthcare.domain.storage.StoredImage;
+import com.example.healthcare.repository.storage.StoredImageRepository;
+import com.example.healthcare.util.S3DeleteQueue;
+import com.example.healthcare.util.S3Uploader;
+import com.example.healthcare.util.StoredImageIndex;
+import com.example.healthcare.util.UploadedFile;
+import com.example.healthcare.util.UploadedImage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = JpaSliceTestConfiguration.class)
+@Import({DietService.class, DietAggregateLoader.class, DailyNutritionSummaryService.class, S3DeleteQueue.class,
+        StoredImageIndex.class, DietStatusExpiryJob.class})
+class DietServiceTest {
+
+    @Autowired
+    private DietService dietService;
+    @Autowired
+    private DietRepository dietRepository;
+    @Autowired
+    private DietInfoRepository dietInfoRepository;
+    @Autowired
+    private DietImageUrlRepository dietImageUrlRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private S3DeleteTaskRepository s3DeleteTaskRepository;
+    @Autowired
+    private StoredImageRepository storedImageRepository;
+    @Autowired
+    private StoredImageIndex storedImageIndex;
+    @Autowired
+    private JobCheckpointRepository jobCheckpointRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private S3Uploader s3Uploader;
+    @MockBean
+    private CalendarCacheEvictor calendarCacheEvictor;
+    @MockBean
+    private ExpiryQueue expiryQueue;
+
+    private QueryCounter queryCounter;
+
+    @BeforeEach
+    void setUp() {
+        queryCounter = new QueryCounter(entityManagerFactory);
+    }
+
+    @Test
+    void publicFeedUsesConstantStatementsAndSkipsMembersWithoutDiets() {
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < 20; i++) {
+            Member member = saveMember("public" + i, MemberDisclosureStatusRole.PUBLIC);
+            if (i % 2 == 0) {
+                saveDiet(member.getId(), today);
+                saveDiet(member.getId(), today);
+            }
+        }
+        Member privateMember = saveMember("private", MemberDisclosureStatusRole.PRIVATE);
+        saveDiet(privateMember.getId(), today);
+        Member yesterdayMember = saveMember("yesterday", MemberDisclosureStatusRole.PUBLIC);
+        saveDiet(yesterdayMember.getId(), today.minusDays(1));
+        entityManager.flush();
+        entityManager.clear();
+
+        queryCounter.reset();
+        List<Map<String, DietWithImgResponse>> feed = dietService.getAllUserDiets();
+
+        assertThat(queryCounter.count()).isEqualTo(3);
+        assertThat(feed).hasSize(10).allSatisfy(entry -> assertThat(entry).hasSize(1));
+        assertThat(feed.get(0)).containsKey("public0");
+        assertThat(feed.get(0).get("public0").getDietResponses()).hasSize(4);
+        assertThat(feed.get(0).get("public0").getDietImgUrlResponses()).hasSize(2);
+        assertThat(feed).noneMatch(entry -> entry.containsKey("private") || entry.containsKey("yesterday"));
+    }
+
+    @Test
+    void registerDietStoresUploadedImagesInOneTransaction() {
+        List<MultipartFile> files = List.of(image("a.jpg"), image("b.jpg"));
+        given(s3Uploader.uploadImages(anyList(), anyString())).willReturn(List.of(uploaded("a"), uploaded("b")));
+
+        dietService.registerDiet(1L, "2023-08-01", List.of(dietRequest("rice"), dietRequest("egg")), files);
+
+        Diet diet = dietRepository.findByUserId(1L).get(0);
+        assertThat(dietInfoRepository.findAllByDietId(diet.getId())).hasSize(2);
+        assertThat(dietImageUrlRepository.findAllByDietId(diet.getId()))
+                .extracting(DietImageUrl::getImgUrl, DietImageUrl::getThumbnailUrl)
+                .containsExactly(
+                        tuple("https://bucket/diet-images/a.jpg", "https://bucket/diet-images/a_thumb.jpg"),
+                        tuple("https://bucket/diet-images/b.jpg", "https://bucket/diet-images/b_thumb.jpg"));
+    }
+
+    @Test
+    void registerDietForPastDateRewindsExpiryCheckpoint() {
+        jobCheckpointRepository.save(JobCheckpoint.createJobCheckpoint(DietStatusExpiryJob.JOB_NAME, LocalDate.of(2023, 8, 10)));
+
+        dietService.registerDiet(1L, "2023-08-01", List.of(dietRequest("rice")), List.of());
+        // 이미 더 이른 위치라면 그대로 둡니다.
+        dietService.registerDiet(1L, "2023-08-05", List.of(dietRequest("egg")), List.of());
+
+        entityManager.clear();
+        assertThat(jobCheckpointRepository.findById(DietStatusExpiryJob.JOB_NAME).orElseThrow().getWatermark())
+                .isEqualTo(LocalDate.of(2023, 8, 1));
+    }
+
+    @Test
+    void registerDietRemovesUploadedImagesWhenSaveFails() {
+        given(s3Uploader.uploadImages(anyList(), anyString())).willReturn(List.of(uploaded("a")));
+
+        assertThatThrownBy(() -> dietService.registerDiet(1L, "2023-08-01", null, List.of(image("a.jpg"))))
+                .isInstanceOf(NullPointerException.class);
+
+        assertThat(s3DeleteTaskRepository.findAll())
+                .extracting(S3DeleteTask::getObjectKey)
+                .containsExactlyInAnyOrder("diet-images/a.jpg", "diet-images/a_medium.jpg", "diet-images/a_thumb.jpg");
+    }
+
+    @Test
+    void registerDietInsertsDietInfosInJdbcBatches() {
+        List<DietRequest> dietRequests = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            dietRequests.add(dietRequest("food-" + i));
+        }
+
+        queryCounter.reset();
+        dietService.registerDiet(1L, "2023-08-01", dietRequests, null);
+        entityManager.flush();
+
+        assertThat(queryCounter.inserts()).isEqualTo(61);
+        // 식단 1건 + 식단 항목 50건 + 10건
+        assertThat(queryCounter.batches()).isEqualTo(3);
+    }
+
+    @Test
+    void updateDietOnlyWritesChangedRows() {
+        Long dietId = dietRepository.save(Diet.createDiet(1L, LocalDate.of(2023, 8, 1))).getId();
+        DietInfo rice = dietInfoRepository.save(DietInfo.createDietInfo(dietId, dietRequest("rice")));
+        DietInfo egg = dietInfoRepository.save(DietInfo.createDietInfo(dietId, dietRequest("egg")));
+        DietImageUrl photo = dietImageUrlRepository.save(
+                DietImageUrl.createDietImageUrl(dietId, "https://bucket/diet-images/a.jpg"));
+        entityManager.flush();
+        entityManager.clear();
+
+        DietRequest fixedRice = dietRequest("rice");
+        fixedRice.setId(rice.getId());
+        fixedRice.setKcal(250.0);
+        DietRequest sameEgg = dietRequest("egg");
+        sameEgg.setId(egg.getId());
+
+        queryCounter.reset();
+        dietService.updateDiet(1L, dietId, "2023-08-01", List.of(fixedRice, sameEgg), List.of(photo.getId()), null);
+        entityManager.flush();
+
+        assertThat(queryCounter.updates()).isEqualTo(1);
+        assertThat(queryCounter.inserts()).isZero();
+        assertThat(dietInfoRepository.findById(rice.getId())).get().extracting(DietInfo::getKcal).isEqualTo(250.0);
+        assertThat(dietImageUrlRepository.findAllByDietId(dietId)).hasSize(1);
+        verifyNoInteractions(s3Uploader);
+        assertThat(s3DeleteTaskRepository.count()).isZero();
+    }
+
+    @Test
+    void updateDietInsertsDeletesAndDropsUnkeptImages() {
+        Long dietId = dietRepository.save(Diet.createDiet(1L, LocalDate.of(2023, 8, 1))).getId();
+        DietInfo rice = dietInfoRepository.save(DietInfo.createDietInfo(dietId, dietRequest("rice")));
+        dietInfoRepository.save(DietInfo.createDietInfo(dietId, dietRequest("egg")));
+        DietImageUrl kept = dietImageUrlRepository.save(
+                DietImageUrl.createDietImageUrl(dietId, "https://bucket/diet-images/kept.jpg"));
+        dietImageUrlRepository.save(DietImageUrl.createDietImageUrl(dietId, uploaded("old")));
+        storedImageIndex.acquire(uploaded("old"));
+        entityManager.flush();
+        entityManager.clear();
+
+        DietRequest sameRice = dietRequest("rice");
+        sameRice.setId(rice.getId());
+
+        dietService.updateDiet(1L, dietId, "2023-08-02",
+                List.of(sameRice, dietRequest("salad")), List.of(kept.getId()), null);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(dietInfoRepository.findAllByDietId(dietId))
+                .extracting(DietInfo::getFoodName)
+                .containsExactlyInAnyOrder("rice", "salad");
+        assertThat(dietImageUrlRepository.findAllByDietId(dietId))
+                .extracting(DietImageUrl::getImgUrl)
+                .containsExactly("https://bucket/diet-images/kept.jpg");
+        assertThat(dietRepository.findById(dietId)).get()
+                .extracting(Diet::getDietDate).isEqualTo(LocalDate.of(2023, 8, 2));
+        assertThat(s3DeleteTaskRepository.findAll())
+                .extracting(S3DeleteTask::getObjectKey)
+                .containsExactlyInAnyOrder("diet-images/old.jpg", "diet-images/old_medium.jpg", "diet-images/old_thumb.jpg");
+    }
+
+    @Test
+    void sharedImageIsRemovedOnlyAfterLastReferenceAndGracePeriod() {
+        given(s3Uploader.uploadImages(anyList(), anyString())).willReturn(List.of(uploaded("same")));
+        dietService.registerDiet(1L, "2023-08-01", List.of(dietRequest("rice")), List.of(image("same.jpg")));
+        dietService.registerDiet(2L, "2023-08-01", List.of(dietRequest("egg")), List.of(image("same.jpg")));
+
+        StoredImage storedImage = storedImageRepository.findByContentHash(hash("same")).orElseThrow();
+        assertThat(storedImage.getRefCount()).isEqualTo(2);
+
+        dietService.deleteDiet(1L, dietRepository.findByUserId(1L).get(0).getId());
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(s3DeleteTaskRepository.count()).isZero();
+
+        LocalDateTime beforeRelease = LocalDateTime.now();
+        dietService.deleteDiet(2L, dietRepository.findByUserId(2L).get(0).getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(storedImageRepository.findByContentHash(hash("same"))).get()
+                .extracting(StoredImage::getRefCount).isEqualTo(0);
+        assertThat(s3DeleteTaskRepository.findAll())
+                .allSatisfy(task -> {
+                    assertThat(task.getContentHash()).isEqualTo(hash("same"));
+                    assertThat(task.getNextAttemptAt())
+                            .isAfterOrEqualTo(beforeRelease.plus(storedImageIndex.getOrphanGracePeriod()));
+                })
+                .extracting(S3DeleteTask::getObjectKey)
+                .containsExactlyInAnyOrder("diet-images/same.jpg", "diet-images/same_medium.jpg", "diet-images/same_thumb.jpg");
+    }
+
+    @Test
+    void historyPagesWalkAllDietsInDateThenIdOrder() {
+        LocalDate base = LocalDate.of(2023, 8, 1);
+        for (int i = 0; i < 7; i++) {
+            // 같은 날짜의 식단이 페이지 경계에 걸치도록 이틀에 걸쳐 나눠 저장합니다.
+            saveDiet(1L, base.plusDays(i % 2 == 0 ? 1 : 0));
+        }
+        saveDiet(2L, base);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            queryCounter.reset();
+            DietHistoryPageResponse page = dietService.getDietHistoryPage(1L, cursor, 3);
+            assertThat(queryCounter.count()).isEqualTo(3);
+            page.getDiets().forEach(diet -> {
+                assertThat(diet.getDietResponses()).hasSize(2);
+                assertThat(diet.getDietImgUrlResponses()).hasSize(1);
+                seen.add(diet.getDietId());
+            });
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        List<Long> expected = dietRepository.findByUserId(1L).stream()
+                .sorted(Comparator.comparing(Diet::getDietDate).thenComparing(Diet::getId))
+                .map(Diet::getId)
+                .collect(Collectors.toList());
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void historyPageRejectsMalformedCursor() {
+        assertThatThrownBy(() -> dietService.getDietHistoryPage(1L, "not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static UploadedImage uploaded(String name) {
+        return new UploadedImage(hash(name), "diet-images/" + name, false,
+                new UploadedFile("diet-images/" + name + ".jpg", "https://bucket/diet-images/" + name + ".jpg"),
+                new UploadedFile("diet-images/" + name + "_medium.jpg", "https://bucket/diet-images/" + name + "_medium.jpg"),
+                new UploadedFile("diet-images/" + name + "_thumb.jpg", "https://bucket/diet-images/" + name + "_thumb.jpg"));
+    }
+
+    // 테스트에서는 이름을 64자로 늘려 내용 해시 대신 씁니다.
+    private static String hash(String name) {
+        return String.format("%-64s", name).replace(' ', '0');
+    }
+
+    private static MultipartFile image(String name) {
+        return new MockMultipartFile("files", name, "image/jpeg", new byte[]{1, 2, 3});
+    }
+
+    private static DietRequest dietRequest(String foodName) {
+        return DietRequest.builder().foodName(foodName).kcal(100.0).build();
+    }
+
+    private Member saveMember(String nickname, MemberDisclosureStatusRole disclosureStatus) {
+        return memberRepository.save(Member.builder()
+                .userId(nickname)
+                .email(nickname + "@example.com")
+                .password("password")
+                .nickname(nickname)
+                .memberType(MemberTypeRole.USER)
+                .memberStatus(MemberStatusRole.ACTIVE)
+                .disclosureStatus(disclosureStatus)
+                .build());
+    }
+
+    private void saveDiet(Long userId, LocalDate dietDate) {
+        Long dietId = dietRepository.save(Diet.createDiet(userId, dietDate)).getId();
+        for (int i = 0; i < 2; i++) {
+            dietInfoRepository.save(DietInfo.createDietInfo(dietId, DietRequest.builder()
+                    .foodName("food-" + i)
+                    .kcal(100.0)
+                    .build()));
+        }
+        dietImageUrlRepository.save(DietImageUrl.createDietImageUrl(dietId, "https://bucket/diet-images/" + dietId + ".jpg"));
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.healthcare.service;
+
+import com.example.healthcare.controller.request.exercise.ExerciseRequest;
+import com.example.healthcare.controller.response.exercise.ExerciseResponse;
+import com.example.healthcare.domain.enumType.exercise.ExerciseRole;
+import com.example.healthcare.domain.exercise.Exercise;
+import com.example.healthcare.repository.exercise.ExerciseRepository;
+import com.example.healthcare.repository.exercise.ExerciseSetRepository;
+import com.example.healthcare.schedule.ExpiryQueue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringJUnitConfig(ExerciseServiceCacheTest.CacheTestConfiguration.class)
+class ExerciseServiceCacheTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Configuration
+    @EnableCaching
+    @Import({ExerciseService.class, ExerciseAggregateLoader.class, ExerciseCacheEvictor.class, CalendarCacheEvictor.class})
+    static class CacheTestConfiguration {
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(ExerciseCacheKeys.DAY, ExerciseCacheKeys.WEEK, ExerciseCacheKeys.MONTH);
+        }
+    }
+
+    @Autowired
+    private ExerciseService exerciseService;
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockBean
+    private ExerciseRepository exerciseRepository;
+    @MockBean
+    private ExerciseSetRepository exerciseSetRepository;
+    @MockBean
+    private MemberService memberService;
+    @MockBean
+    private ExerciseVolumeService exerciseVolumeService;
+    @MockBean
+    private ExpiryQueue expiryQueue;
+
+    private final Exercise squat = Exercise.builder()
+            .id(10L)
+            .userId(USER_ID)
+            .sports("squat")
+            .exerciseDate(LocalDateTime.of(2023, 8, 2, 9, 0))
+            .status(ExerciseRole.SCHEDULED_TO_BE_COMPLETED)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        given(exerciseRepository.findByUserIdAndExerciseDateBetween(eq(USER_ID), any(), any()))
+                .willReturn(List.of(squat));
+        given(exerciseRepository.findById(squat.getId())).willReturn(Optional.of(squat));
+    }
+
+    @Test
+    void weekQueriesShareOneEntryForAnyDayOfTheWeek() {
+        List<ExerciseResponse> first = exerciseService.myExerciseForWeek(USER_ID, "2023-07-31");
+        List<ExerciseResponse> second = exerciseService.myExerciseForWeek(USER_ID, "2023-08-06");
+
+        assertThat(second).isSameAs(first);
+        verify(exerciseRepository, times(1)).findByUserIdAndExerciseDateBetween(eq(USER_ID), any(), any());
+    }
+
+    @Test
+    void updateEvictsBucketsOfBothOldAndNewDates() {
+        warmUp("2023-08-02", "2023-08-01", "2023-08");
+        warmUp("2023-09-15", "2023-09-15", "2023-09");
+        // 다른 주와 달의 캐시는 남아 있어야 합니다.
+        warmUp("2023-07-20", "2023-07-20", "2023-07");
+        clearInvocations(exerciseRepository);
+
+        ExerciseRequest request = new ExerciseRequest();
+        request.setSports("squat");
+        request.setExerciseDate("2023-09-15 10:00");
+        exerciseService.updateExercise(USER_ID, squat.getId(), request);
+
+        assertThat(cached(ExerciseCacheKeys.DAY, ExerciseCacheKeys.day(USER_ID, "2023-08-02"))).isFalse();
+        assertThat(cached(ExerciseCacheKeys.WEEK, ExerciseCacheKeys.week(USER_ID, "2023-08-01"))).isFalse();
+        assertThat(cached(ExerciseCacheKeys.MONTH, ExerciseCacheKeys.month(USER_ID, "2023-08"))).isFalse();
+        assertThat(cached(ExerciseCacheKeys.DAY, ExerciseCacheKeys.day(USER_ID, "2023-09-15"))).isFalse();
+        assertThat(cached(ExerciseCacheKeys.WEEK, ExerciseCacheKeys.week(USER_ID, "2023-09-15"))).isFalse();
+        assertThat(cached(ExerciseCacheKeys.MONTH, ExerciseCacheKeys.month(USER_ID, "2023-09"))).isFalse();
+        assertThat(cached(ExerciseCacheKeys.DAY, ExerciseCacheKeys.day(USER_ID, "2023-07-20"))).isTrue();
+        assertThat(cached(ExerciseCacheKeys.WEEK, ExerciseCacheKeys.week(USER_ID, "2023-07-20"))).isTrue();
+        assertThat(cached(ExerciseCacheKeys.MONTH, ExerciseCacheKeys.month(USER_ID, "2023-07"))).isTrue();
+    }
+
+    private void warmUp(String day, String weekDay, String month) {
+        exerciseService.myExerciseForDate(USER_ID, day);
+        exerciseService.myExerciseForWeek(USER_ID, weekDay);
+        exerciseService.myExerciseForMonth(USER_ID, month);
+    }
+
+    private boolean cached(String cacheName, String key) {
+        return cacheManager.getCache(cacheName).get(key) != null;
+    }
+}
@@ -0,0 +1,255 @@
+package com.example.healthcare.service;
+
+import com.example.healthcare.controller.request.exercise.ExerciseRequest;
+import com.example.healthcare.controller.request.exercise.ExerciseSetRequest;
+import com.example.healthcare.controller.response.exercise.ExercisePageResponse;
+import com.example.healthcare.controller.response.exercise.ExerciseResponse;
+import com.example.healthcare.controller.response.exercise.ExerciseSetResponse;
+import com.example.healthcare.domain.enumType.exercise.ExerciseRole;
+import com.example.healthcare.domain.enumType.member.MemberDisclosureStatusRole;
+import com.example.healthcare.domain.enumType.member.MemberStatusRole;
+import com.example.healthcare.domain.enumType.member.MemberTypeRole;
+import com.example.healthcare.domain.exercise.Exercise;
+import com.example.healthcare.domain.exercise.ExerciseSet;
+import com.example.healthcare.domain.memeber.Member;
+import com.example.healthcare.repository.exercise.ExerciseRepository;
+import com.example.healthcare.repository.exercise.ExerciseSetRepository;
+import com.example.healthcare.repository.member.MemberRepository;
+import com.example.healthcare.schedule.ExpiryQueue;
+import com.example.healthcare.support.JpaSliceTestConfiguration;
+import com.example.healthcare.support.QueryCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = JpaSliceTestConfiguration.class)
+@Import({ExerciseService.class, ExerciseAggregateLoader.class, ExerciseVolumeService.class})
+class ExerciseServiceTest {
+
+    @Autowired
+    private ExerciseService exerciseService;
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+    @Autowired
+    private ExerciseSetRepository exerciseSetRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private MemberService memberService;
+    @MockBean
+    private ExerciseCacheEvictor exerciseCacheEvictor;
+    @MockBean
+    private ExpiryQueue expiryQueue;
+
+    private QueryCounter queryCounter;
+
+    @BeforeEach
+    void setUp() {
+        queryCounter = new QueryCounter(entityManagerFactory);
+    }
+
+    @Test
+    void publicExercisesAreLoadedWithConstantQueriesAndGroupedByNickname() {
+        LocalDate day = LocalDate.of(2023, 8, 1);
+        for (int i = 0; i < 20; i++) {
+            Member member = saveMember("public" + i, MemberDisclosureStatusRole.PUBLIC);
+            if (i % 2 == 0) {
+                saveExercise(member.getId(), day.atTime(7, 0));
+                saveExercise(member.getId(), day.atTime(23, 59, 59, 500_000_000));
+            }
+        }
+        Member privateMember = saveMember("private", MemberDisclosureStatusRole.PRIVATE);
+        saveExercise(privateMember.getId(), day.atTime(9, 0));
+        Member otherDayMember = saveMember("otherDay", MemberDisclosureStatusRole.PUBLIC);
+        saveExercise(otherDayMember.getId(), day.plusDays(1).atStartOfDay());
+        entityManager.flush();
+        entityManager.clear();
+
+        queryCounter.reset();
+        Map<String, List<ExerciseResponse>> exercises = exerciseService.getAllUserExercises("2023-08-01");
+
+        // 운동 세션 조회 1번 + 세트 조회 1번
+        assertThat(queryCounter.count()).isEqualTo(2);
+        assertThat(exercises).hasSize(10).allSatisfy((nickname, list) -> assertThat(list).hasSize(2));
+        assertThat(exercises.keySet()).startsWith("public0", "public2").doesNotContain("private", "otherDay");
+    }
+
+    // 1, 20, 200 세트를 등록할 때 INSERT 가 50건 단위 JDBC 배치로 나가는지 확인합니다.
+    @ParameterizedTest
+    @ValueSource(ints = {1, 20, 200})
+    void registerExerciseSendsInsertsInJdbcBatches(int rows) {
+        List<ExerciseSetRequest> sets = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            sets.add(new ExerciseSetRequest(40 + i, 10, 60));
+        }
+
+        queryCounter.reset();
+        exerciseService.registerExercise(1L, List.of(exerciseRequest("squat", "2023-08-01 07:00", sets)));
+        entityManager.flush();
+
+        // 세션 1건 + 세트 rows 건
+        assertThat(queryCounter.inserts()).isEqualTo(1 + rows);
+        assertThat(queryCounter.batches()).isEqualTo(1 + (rows + 49) / 50);
+    }
+
+    @Test
+    void monthViewLoadsSessionsAndSetsWithConstantQueries() {
+        for (int day = 1; day <= 30; day++) {
+            exerciseService.registerExercise(1L, List.of(exerciseRequest("squat",
+                    String.format("2023-08-%02d 07:00", day),
+                    List.of(new ExerciseSetRequest(60, 10, 90), new ExerciseSetRequest(70, 8, 90),
+                            new ExerciseSetRequest(80, 5, 120)))));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        queryCounter.reset();
+        List<ExerciseResponse> month = exerciseService.myExerciseForMonth(1L, "2023-08");
+
+        assertThat(queryCounter.count()).isEqualTo(2);
+        assertThat(month).hasSize(30).allSatisfy(session -> {
+            assertThat(session.getWeight()).isEqualTo(60);
+            assertThat(session.getSets())
+                    .extracting(ExerciseSetResponse::getSetOrder, ExerciseSetResponse::getWeight)
+                    .containsExactly(tuple(1, 60), tuple(2, 70), tuple(3, 80));
+        });
+    }
+
+    @Test
+    void updateReplacesSetsAndDeleteRemovesThem() {
+        exerciseService.registerExercise(1L, List.of(exerciseRequest("bench", "2023-08-01 07:00",
+                List.of(new ExerciseSetRequest(40, 10, 60), new ExerciseSetRequest(50, 8, 60)))));
+        Long exerciseId = exerciseRepository.findAllByUserId(1L).get(0).getId();
+
+        exerciseService.updateExercise(1L, exerciseId, exerciseRequest("bench", "2023-08-01 07:00",
+                List.of(new ExerciseSetRequest(55, 6, 90))));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(exerciseSetRepository.findAllByExerciseIdIn(List.of(exerciseId)))
+                .extracting(ExerciseSet::getWeight).containsExactly(55);
+
+        exerciseService.deleteExercise(1L, exerciseId);
+        entityManager.flush();
+        assertThat(exerciseSetRepository.count()).isZero();
+        assertThat(exerciseRepository.count()).isZero();
+    }
+
+    @Test
+    void exercisePagesFollowDateAndIdOrderWithFilters() {
+        // 같은 일시의 세션이 페이지 경계에 걸쳐도 ID 로 순서가 정해집니다.
+        for (int day = 1; day <= 4; day++) {
+            String date = String.format("2023-08-%02d 07:00", 5 - day);
+            exerciseService.registerExercise(1L, List.of(
+                    exerciseRequest("squat", date, List.of(new ExerciseSetRequest(60, 10, 90))),
+                    exerciseRequest("bench", date, List.of(new ExerciseSetRequest(40, 10, 60)))));
+        }
+        exerciseService.registerExercise(2L, List.of(
+                exerciseRequest("squat", "2023-08-01 07:00", List.of(new ExerciseSetRequest(60, 10, 90)))));
+        Long completed = exerciseRepository.findAllByUserId(1L).get(0).getId();
+        exerciseService.successExercise(1L, completed);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            queryCounter.reset();
+            ExercisePageResponse page = exerciseService.getExercisePage(1L, null, null, cursor, 3);
+            // 세션 조회 1번 + 세트 조회 1번
+            assertThat(queryCounter.count()).isEqualTo(2);
+            page.getExercises().forEach(exercise -> {
+                assertThat(exercise.getSets()).hasSize(1);
+                seen.add(exercise.getId());
+            });
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        List<Long> expected = exerciseRepository.findAllByUserId(1L).stream()
+                .sorted(Comparator.comparing(Exercise::getExerciseDate).thenComparing(Exercise::getId))
+                .map(Exercise::getId)
+                .collect(Collectors.toList());
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).containsExactlyElementsOf(expected);
+
+        ExercisePageResponse squats = exerciseService.getExercisePage(1L, "squat", null, null, 10);
+        assertThat(squats.getExercises()).hasSize(4).extracting(ExerciseResponse::getSports).containsOnly("squat");
+        assertThat(squats.getNextCursor()).isNull();
+        assertThat(exerciseService.getExercisePage(1L, null, ExerciseRole.COMPLETE, null, 10).getExercises())
+                .extracting(ExerciseResponse::getId).containsExactly(completed);
+    }
+
+    @Test
+    void exercisePageRejectsMalformedCursor() {
+        assertThatThrownBy(() -> exerciseService.getExercisePage(1L, null, null, "not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void noPublicExercisesYieldsAnEmptyResult() {
+        saveMember("quiet", MemberDisclosureStatusRole.PUBLIC);
+
+        assertThat(exerciseService.getAllUserExercises("2023-08-01")).isEmpty();
+    }
+
+    private static ExerciseRequest exerciseRequest(String sports, String exerciseDate, List<ExerciseSetRequest> sets) {
+        return ExerciseRequest.builder()
+                .sports(sports)
+                .exerciseDate(exerciseDate)
+                .sets(sets)
+                .build();
+    }
+
+    private Member saveMember(String nickname, MemberDisclosureStatusRole disclosureStatus) {
+        return memberRepository.save(Member.builder()
+                .userId(nickname)
+                .email(nickname + "@example.com")
+                .password("password")
+                .nickname(nickname)
+                .memberType(MemberTypeRole.USER)
+                .memberStatus(MemberStatusRole.ACTIVE)
+                .disclosureStatus(disclosureStatus)
+                .build());
+    }
+
+    private void saveExercise(Long userId, LocalDateTime exerciseDate) {
+        exerciseRepository.save(Exercise.builder()
+                .userId(userId)
+                .sports("squat")
+                .exerciseDate(exerciseDate)
+                .status(ExerciseRole.SCHEDULED_TO_BE_COMPLETED)
+                .build());
+    }
+}
@@ -0,0 +1,270 @@
+package com.example.healthcare.service;
+
+import com.example.healthcare.controller.request.exercise.ExerciseRequest;
+import com.example.healthcare.controller.request.exercise.ExerciseSetRequest;
+import com.example.healthcare.controller.response.exercise.ExerciseVolumeResponse;
+import com.example.healthcare.controller.response.exercise.PersonalRecordResponse;
+import com.example.healthcare.domain.enumType.exercise.ExerciseRole;
+import com.example.healthcare.domain.exercise.Exercise;
+import com.example.healthcare.domain.exercise.ExerciseVolumeSummary;
+import com.example.healthcare.repository.exercise.ExerciseRepository;
+import com.example.healthcare.repository.exercise.ExerciseSetRepository;
+import com.example.healthcare.repository.exercise.ExerciseVolumeSummaryRepository;
+import com.example.healthcare.schedule.ExerciseVolumeSummaryRebuildJob;
+import com.example.healthcare.schedule.ExpiryQueue;
+import com.example.healthcare.support.JpaSliceTestConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = JpaSliceTestConfiguration.class)
+@Import({ExerciseService.class, ExerciseAggregateLoader.class, ExerciseVolumeService.class,
+        ExerciseVolumeSummaryRebuildJob.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ExerciseVolumeServiceTest {
+
+    private static final Long USER_ID = 7L;
+    private static final LocalDate FIRST_WEEK = LocalDate.of(2023, 7, 31);
+
+    @Autowired
+    private ExerciseService exerciseService;
+    @Autowired
+    private ExerciseVolumeService exerciseVolumeService;
+    @Autowired
+    private ExerciseVolumeSummaryRebuildJob exerciseVolumeSummaryRebuildJob;
+    @Autowired
+    private ExerciseVolumeSummaryRepository exerciseVolumeSummaryRepository;
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+    @Autowired
+    private ExerciseSetRepository exerciseSetRepository;
+
+    @MockBean
+    private MemberService memberService;
+    @MockBean
+    private ExerciseCacheEvictor exerciseCacheEvictor;
+    @MockBean
+    private ExpiryQueue expiryQueue;
+
+    @AfterEach
+    void tearDown() {
+        exerciseVolumeSummaryRepository.deleteAllInBatch();
+        exerciseSetRepository.deleteAllInBatch();
+        exerciseRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void rollupFollowsSuccessUpdateAndDeleteAndMatchesRebuild() {
+        exerciseService.registerExercise(USER_ID, List.of(
+                exerciseRequest("bench", "2023-08-01 10:00",
+                        List.of(set(60, 10), set(80, 5), set(70, 8))),
+                exerciseRequest("squat", "2023-08-02 10:00", List.of(set(100, 5))),
+                exerciseRequest("bench", "2023-08-09 10:00", List.of(set(85, 3)))));
+        Long bench = exerciseIdOf("bench", 1);
+        Long squat = exerciseIdOf("squat", 2);
+        Long nextBench = exerciseIdOf("bench", 9);
+
+        // 완료하지 않은 세션은 합계에 들어가지 않으며, 같은 세션을 두 번 완료해도 한 번만 더합니다.
+        assertThat(exerciseVolumeSummaryRepository.findAll()).isEmpty();
+        exerciseService.successExercise(USER_ID, bench);
+        exerciseService.successExercise(USER_ID, bench);
+        exerciseService.successExercise(USER_ID, squat);
+        exerciseService.successExercise(USER_ID, nextBench);
+
+        ExerciseVolumeSummary firstWeek = summaryOf("bench", FIRST_WEEK);
+        assertThat(firstWeek.getVolume()).isEqualTo(600 + 400 + 560);
+        assertThat(firstWeek.getMaxWeight()).isEqualTo(80);
+        assertThat(firstWeek.getCompletedSets()).isEqualTo(3);
+        assertMatchesRebuild();
+
+        // 완료된 세션의 세트를 바꾸면 최대 무게가 줄어들 수 있으므로 그 주를 다시 계산합니다.
+        exerciseService.updateExercise(USER_ID, bench,
+                exerciseRequest("bench", "2023-08-01 10:00", List.of(set(50, 10))));
+        assertThat(summaryOf("bench", FIRST_WEEK).getMaxWeight()).isEqualTo(50);
+        assertMatchesRebuild();
+
+        // 다음 주로 옮기면 이전 주의 행은 사라집니다.
+        exerciseService.updateExercise(USER_ID, bench,
+                exerciseRequest("bench", "2023-08-08 10:00", List.of(set(50, 10))));
+        assertThat(exerciseVolumeSummaryRepository
+                .findAllByUserIdAndSportsAndWeekStartBetweenOrderByWeekStartAsc(USER_ID, "bench", FIRST_WEEK, FIRST_WEEK))
+                .isEmpty();
+        ExerciseVolumeSummary secondWeek = summaryOf("bench", FIRST_WEEK.plusWeeks(1));
+        assertThat(secondWeek.getVolume()).isEqualTo(500 + 255);
+        assertThat(secondWeek.getMaxWeight()).isEqualTo(85);
+        assertMatchesRebuild();
+
+        exerciseService.deleteExercise(USER_ID, nextBench);
+        assertThat(summaryOf("bench", FIRST_WEEK.plusWeeks(1)).getMaxWeight()).isEqualTo(50);
+        exerciseService.deleteExercise(USER_ID, squat);
+        assertMatchesRebuild();
+        assertThat(exerciseVolumeSummaryRepository.findAll())
+                .extracting(ExerciseVolumeSummary::getSports, ExerciseVolumeSummary::getVolume)
+                .containsExactly(tuple("bench", 500L));
+    }
+
+    @Test
+    void weeklyVolumeAndPersonalRecordsReadOnlyRollupRows() {
+        exerciseService.registerExercise(USER_ID, List.of(
+                exerciseRequest("bench", "2023-08-01 10:00", List.of(set(80, 5), set(60, 10))),
+                exerciseRequest("bench", "2023-08-15 10:00", List.of(set(90, 1), set(60, 5))),
+                exerciseRequest("bench", "2023-08-16 10:00", List.of(set(70, 10))),
+                exerciseRequest("squat", "2023-08-02 10:00", List.of(set(120, 3)))));
+        exerciseRepository.findAllByUserId(USER_ID)
+                .forEach(exercise -> exerciseService.successExercise(USER_ID, exercise.getId()));
+
+        List<ExerciseVolumeResponse> weeks =
+                exerciseVolumeService.getWeeklyVolume(USER_ID, "bench", "2023-08-02", "2023-08-20");
+        assertThat(weeks)
+                .extracting(ExerciseVolumeResponse::getWeekStart, ExerciseVolumeResponse::getVolume,
+                        ExerciseVolumeResponse::getMaxWeight, ExerciseVolumeResponse::getCompletedSets)
+                .containsExactly(
+                        tuple(FIRST_WEEK, 1000L, 80, 2),
+                        tuple(FIRST_WEEK.plusWeeks(1), 0L, 0, 0),
+                        tuple(FIRST_WEEK.plusWeeks(2), 90L + 300 + 700, 90, 3));
+
+        List<PersonalRecordResponse> records = exerciseVolumeService.getPersonalRecords(USER_ID);
+        assertThat(records)
+                .extracting(PersonalRecordResponse::getSports, PersonalRecordResponse::getMaxWeight,
+                        PersonalRecordResponse::getMaxWeightWeek, PersonalRecordResponse::getBestWeeklyVolume,
+                        PersonalRecordResponse::getBestWeeklyVolumeWeek)
+                .containsExactly(
+                        tuple("bench", 90, FIRST_WEEK.plusWeeks(2), 1090L, FIRST_WEEK.plusWeeks(2)),
+                        tuple("squat", 120, FIRST_WEEK, 360L, FIRST_WEEK));
+    }
+
+    @Test
+    void sessionWithoutSetRowsCountsAsOneSet() {
+        Exercise legacy = exerciseRepository.save(Exercise.builder()
+                .userId(USER_ID)
+                .sports("deadlift")
+                .weight(140)
+                .cnt(3)
+                .exerciseDate(LocalDateTime.of(2023, 8, 3, 10, 0))
+                .status(ExerciseRole.SCHEDULED_TO_BE_COMPLETED)
+                .build());
+
+        exerciseService.successExercise(USER_ID, legacy.getId());
+
+        ExerciseVolumeSummary summary = summaryOf("deadlift", FIRST_WEEK);
+        assertThat(summary.getVolume()).isEqualTo(420);
+        assertThat(summary.getCompletedSets()).isEqualTo(1);
+        assertMatchesRebuild();
+    }
+
+    @Test
+    void concurrentCompletesAddVolumeOnce() throws Exception {
+        exerciseService.registerExercise(USER_ID, List.of(
+                exerciseRequest("bench", "2023-08-01 10:00", List.of(set(60, 10), set(80, 5)))));
+        Long bench = exerciseIdOf("bench", 1);
+
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    exerciseService.successExercise(USER_ID, bench);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        ExerciseVolumeSummary summary = summaryOf("bench", FIRST_WEEK);
+        assertThat(summary.getVolume()).isEqualTo(600 + 400);
+        assertThat(summary.getCompletedSets()).isEqualTo(2);
+        assertMatchesRebuild();
+    }
+
+    @Test
+    void rebuildDropsSummariesOfUsersWithoutExercises() {
+        exerciseService.registerExercise(USER_ID, List.of(exerciseRequest("bench", "2023-08-01 10:00", List.of(set(60, 10)))));
+        exerciseService.successExercise(USER_ID, exerciseIdOf("bench", 1));
+        // 운동 기록이 모두 지워지고 합계 행만 남은 사용자
+        exerciseVolumeSummaryRepository.save(ExerciseVolumeSummary.builder()
+                .userId(USER_ID + 1).sports("squat").weekStart(FIRST_WEEK)
+                .volume(500).maxWeight(50).completedSets(1)
+                .build());
+
+        exerciseVolumeSummaryRebuildJob.rebuildAll();
+
+        assertThat(exerciseVolumeSummaryRepository.findAllByUserId(USER_ID + 1)).isEmpty();
+        assertThat(summaryOf("bench", FIRST_WEEK).getVolume()).isEqualTo(600);
+    }
+
+    private void assertMatchesRebuild() {
+        List<String> incremental = snapshot();
+        exerciseVolumeSummaryRebuildJob.rebuildAll();
+        List<String> rebuilt = snapshot();
+        assertThat(incremental).isEqualTo(rebuilt);
+    }
+
+    private List<String> snapshot() {
+        return exerciseVolumeSummaryRepository.findAll().stream()
+                .sorted(Comparator.comparing(ExerciseVolumeSummary::getSports)
+                        .thenComparing(ExerciseVolumeSummary::getWeekStart))
+                .map(summary -> summary.getSports() + "@" + summary.getWeekStart() + ":" + summary.getVolume()
+                        + "/" + summary.getMaxWeight() + "/" + summary.getCompletedSets())
+                .collect(Collectors.toList());
+    }
+
+    private ExerciseVolumeSummary summaryOf(String sports, LocalDate weekStart) {
+        return exerciseVolumeSummaryRepository
+                .findAllByUserIdAndSportsAndWeekStartBetweenOrderByWeekStartAsc(USER_ID, sports, weekStart, weekStart)
+                .get(0);
+    }
+
+    private Long exerciseIdOf(String sports, int dayOfMonth) {
+        return exerciseRepository.findAllByUserId(USER_ID).stream()
+                .filter(exercise -> exercise.getSports().equals(sports)
+                        && exercise.getExerciseDate().getDayOfMonth() == dayOfMonth)
+                .findFirst().orElseThrow()
+                .getId();
+    }
+
+    private static ExerciseSetRequest set(int weight, int cnt) {
+        return new ExerciseSetRequest(weight, cnt, 60);
+    }
+
+    private static ExerciseRequest exerciseRequest(String sports, String exerciseDate, List<ExerciseSetRequest> sets) {
+        return ExerciseRequest.builder()
+                .sports(sports)
+                .exerciseDate(exerciseDate)
+                .sets(sets)
+                .build();
+    }
+}
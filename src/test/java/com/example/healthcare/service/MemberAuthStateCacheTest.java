@@ -0,0 +1,164 @@
+package com.example.healthcare.service;
+
+import com.example.healthcare.domain.enumType.member.MemberDisclosureStatusRole;
+import com.example.healthcare.domain.enumType.member.MemberStatusRole;
+import com.example.healthcare.domain.enumType.member.MemberTypeRole;
+import com.example.healthcare.domain.memeber.Member;
+import com.example.healthcare.repository.member.MemberRepository;
+import com.example.healthcare.support.JpaSliceTestConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = JpaSliceTestConfiguration.class)
+@Import({MemberAuthStateCache.class, MemberAuthStateCacheTest.Caches.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberAuthStateCacheTest {
+
+    @TestConfiguration
+    static class Caches {
+        @Bean
+        CacheManager cacheManager() {
+            ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager() {
+                @Override
+                protected Cache createConcurrentMapCache(String name) {
+                    return new InterleavingCache(name);
+                }
+            };
+            cacheManager.setCacheNames(List.of(MemberAuthStateCache.NAME));
+            return cacheManager;
+        }
+    }
+
+    // 조회가 DB 를 읽은 뒤 캐시에 쓰기 직전에 다른 작업을 끼워 넣습니다.
+    static class InterleavingCache extends ConcurrentMapCache {
+
+        private Runnable beforeNextWrite;
+
+        InterleavingCache(String name) {
+            super(name);
+        }
+
+        void beforeNextWrite(Runnable action) {
+            this.beforeNextWrite = action;
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            runPending();
+            super.put(key, value);
+        }
+
+        @Override
+        public ValueWrapper putIfAbsent(Object key, Object value) {
+            runPending();
+            return super.putIfAbsent(key, value);
+        }
+
+        private void runPending() {
+            Runnable action = beforeNextWrite;
+            beforeNextWrite = null;
+            if (action != null) {
+                action.run();
+            }
+        }
+    }
+
+    @Autowired
+    private MemberAuthStateCache memberAuthStateCache;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private CacheManager cacheManager;
+
+    @AfterEach
+    void tearDown() {
+        memberRepository.deleteAllInBatch();
+        cacheManager.getCache(MemberAuthStateCache.NAME).clear();
+    }
+
+    @Test
+    void servesCachedStateUntilExplicitlyRefreshed() {
+        Member member = saveMember();
+        assertThat(memberAuthStateCache.get(member.getId()).accepts("user", 0L)).isTrue();
+
+        member.setMemberStatus(MemberStatusRole.INACTIVE);
+        member.setAuthVersion(1L);
+        transactionTemplate.executeWithoutResult(status -> {
+            memberRepository.save(member);
+            memberAuthStateCache.refresh(member.getId());
+            // 커밋 전에는 아직 이전 상태가 남아 있습니다.
+            assertThat(memberAuthStateCache.get(member.getId()).getMemberStatus()).isEqualTo(MemberStatusRole.ACTIVE);
+        });
+
+        MemberAuthState state = memberAuthStateCache.get(member.getId());
+        assertThat(state.getMemberStatus()).isEqualTo(MemberStatusRole.INACTIVE);
+        assertThat(state.accepts("user", 1L)).isFalse();
+
+        memberRepository.deleteById(member.getId());
+        memberAuthStateCache.refresh(member.getId());
+        assertThat(memberAuthStateCache.get(member.getId())).isNull();
+    }
+
+    @Test
+    void lookupThatReadStaleStateDoesNotOverwriteRefreshedState() {
+        Member member = saveMember();
+        member.setAuthVersion(1L);
+        // 조회가 인증 버전 0 을 읽은 뒤, 캐시에 쓰기 전에 비밀번호 변경이 커밋됩니다.
+        ((InterleavingCache) cacheManager.getCache(MemberAuthStateCache.NAME)).beforeNextWrite(() ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    memberRepository.save(member);
+                    memberAuthStateCache.refresh(member.getId());
+                }));
+
+        assertThat(memberAuthStateCache.get(member.getId()).getAuthVersion()).isEqualTo(1L);
+        assertThat(memberAuthStateCache.get(member.getId()).accepts("user", 0L)).isFalse();
+    }
+
+    @Test
+    void lookupThatReadMemberBeforeDeletionDoesNotCacheIt() {
+        Member member = saveMember();
+        ((InterleavingCache) cacheManager.getCache(MemberAuthStateCache.NAME)).beforeNextWrite(() -> {
+            memberRepository.deleteById(member.getId());
+            memberAuthStateCache.refresh(member.getId());
+        });
+
+        assertThat(memberAuthStateCache.get(member.getId())).isNull();
+        assertThat(memberAuthStateCache.get(member.getId())).isNull();
+    }
+
+    private Member saveMember() {
+        return memberRepository.save(Member.builder()
+                .userId("user")
+                .email("user@example.com")
+                .password("password")
+                .nickname("user")
+                .memberType(MemberTypeRole.USER)
+                .memberStatus(MemberStatusRole.ACTIVE)
+                .disclosureStatus(MemberDisclosureStatusRole.PUBLIC)
+                .build());
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.healthcare.support;
+
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * HealthcareApplication 의 config 패키지 스캔(Redis, S3, Security)을 피해
+ * 엔티티와 리포지토리만 올리는 @DataJpaTest 용 설정입니다.
+ */
+@Configuration
+@EntityScan("com.example.healthcare.domain")
+@EnableJpaRepositories(basePackages = {
+        "com.example.healthcare.repository.diet",
+        "com.example.healthcare.repository.exercise",
+        "com.example.healthcare.repository.job",
+        "com.example.healthcare.repository.member",
+        "com.example.healthcare.repository.storage"
+})
+public class JpaSliceTestConfiguration {
+}
@@ -0,0 +1,53 @@
+package com.example.healthcare.support;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hibernate Statistics 로 실행된 SQL 문 수를 셉니다.
+ * hibernate.generate_statistics=true (application-test.yml) 가 필요합니다.
+ * JDBC 배치 실행 수는 application-test.yml 에 등록한 BatchListener 로 셉니다.
+ */
+public class QueryCounter {
+
+    private final Statistics statistics;
+
+    public QueryCounter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private static final AtomicLong BATCHES = new AtomicLong();
+
+    public void reset() {
+        statistics.clear();
+        BATCHES.set(0);
+    }
+
+    public long count() {
+        return statistics.getPrepareStatementCount();
+    }
+
+    public long inserts() {
+        return statistics.getEntityInsertCount();
+    }
+
+    public long updates() {
+        return statistics.getEntityUpdateCount();
+    }
+
+    public long batches() {
+        return BATCHES.get();
+    }
+
+    // hibernate.session.events.auto 로 모든 세션에 붙습니다.
+    public static class BatchListener extends BaseSessionEventListener {
+        @Override
+        public void jdbcExecuteBatchStart() {
+            BATCHES.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.healthcare.util;
+
+import com.example.healthcare.exception.CustomExceptions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageProcessorTest {
+
+    private final ImageProcessor imageProcessor = new ImageProcessor(1);
+
+    @AfterEach
+    void tearDown() {
+        imageProcessor.shutdown();
+    }
+
+    @Test
+    void producesDownscaledJpegTiers() throws Exception {
+        Map<ImageTier, byte[]> tiers = imageProcessor.process(S3UploaderTest.png("photo.png", 4000, 3000));
+
+        assertThat(tiers).containsOnlyKeys(ImageTier.values());
+        assertThat(size(tiers.get(ImageTier.ORIGINAL))).containsExactly(4000, 3000);
+        assertThat(size(tiers.get(ImageTier.MEDIUM))).containsExactly(1080, 810);
+        assertThat(size(tiers.get(ImageTier.THUMBNAIL))).containsExactly(320, 240);
+        assertThat(tiers.get(ImageTier.THUMBNAIL).length).isLessThan(tiers.get(ImageTier.ORIGINAL).length);
+        tiers.values().forEach(jpeg -> {
+            assertThat(jpeg[0] & 0xFF).isEqualTo(0xFF);
+            assertThat(jpeg[1] & 0xFF).isEqualTo(0xD8);
+            assertThat(hasExifSegment(jpeg)).isFalse();
+        });
+    }
+
+    @Test
+    void neverUpscalesSmallImages() throws Exception {
+        Map<ImageTier, byte[]> tiers = imageProcessor.process(S3UploaderTest.png("small.png", 100, 50));
+
+        assertThat(size(tiers.get(ImageTier.THUMBNAIL))).containsExactly(100, 50);
+    }
+
+    @Test
+    void fillsTransparentAreasWithWhite() throws Exception {
+        Map<ImageTier, byte[]> tiers = imageProcessor.process(S3UploaderTest.png("clear.png", 64, 64));
+
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(tiers.get(ImageTier.ORIGINAL)));
+        int rgb = decoded.getRGB(32, 32) & 0xFFFFFF;
+        assertThat((rgb >> 16) & 0xFF).isGreaterThan(240);
+    }
+
+    @Test
+    void rejectsUnsupportedFiles() {
+        MockMultipartFile text = new MockMultipartFile("files", "notes.txt", "text/plain", "hello".getBytes());
+
+        assertThatThrownBy(() -> imageProcessor.process(text))
+                .isInstanceOf(CustomExceptions.FileUploadException.class);
+    }
+
+    private static int[] size(byte[] jpeg) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(jpeg));
+        return new int[]{image.getWidth(), image.getHeight()};
+    }
+
+    // APP1(0xFFE1) 세그먼트에 EXIF 가 저장됩니다.
+    private static boolean hasExifSegment(byte[] jpeg) {
+        int offset = 2;
+        while (offset + 4 <= jpeg.length && (jpeg[offset] & 0xFF) == 0xFF) {
+            int marker = jpeg[offset + 1] & 0xFF;
+            if (marker == 0xE1) {
+                return true;
+            }
+            if (marker == 0xDA) {
+                return false;
+            }
+            int length = ((jpeg[offset + 2] & 0xFF) << 8) | (jpeg[offset + 3] & 0xFF);
+            offset += 2 + length;
+        }
+        return false;
+    }
+}
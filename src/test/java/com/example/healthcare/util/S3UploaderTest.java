@@ -0,0 +1,132 @@
+package com.example.healthcare.util;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.example.healthcare.exception.CustomExceptions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class S3UploaderTest {
+
+    private AmazonS3 amazonS3;
+    private ImageProcessor imageProcessor;
+    private StoredImageIndex storedImageIndex;
+    private S3Uploader s3Uploader;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        amazonS3 = mock(AmazonS3.class);
+        imageProcessor = new ImageProcessor(2);
+        storedImageIndex = mock(StoredImageIndex.class);
+        s3Uploader = new S3Uploader(amazonS3, "bucket", imageProcessor, storedImageIndex, 4);
+        given(amazonS3.getUrl(eq("bucket"), anyString()))
+                .willAnswer(invocation -> new URL("https://bucket.s3/" + invocation.getArgument(1)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3Uploader.shutdown();
+        imageProcessor.shutdown();
+    }
+
+    @Test
+    void uploadsEveryTierOfEachImage() throws Exception {
+        List<PutObjectRequest> requests = Collections.synchronizedList(new ArrayList<>());
+        willAnswer(invocation -> {
+            requests.add(invocation.getArgument(0));
+            return null;
+        }).given(amazonS3).putObject(any(PutObjectRequest.class));
+
+        List<UploadedImage> uploadedImages = s3Uploader.uploadImages(
+                List.of(png("a.png", 1600, 1200), png("b.png", 200, 100)), "diet-images/");
+
+        assertThat(uploadedImages).hasSize(2).allSatisfy(image -> {
+            String base = image.getOriginal().getObjectKey().replace(".jpg", "");
+            assertThat(base).isEqualTo(image.getObjectKey()).startsWith("diet-images/" + image.getContentHash() + "-");
+            assertThat(image.isReused()).isFalse();
+            assertThat(image.getMedium().getObjectKey()).isEqualTo(base + "_medium.jpg");
+            assertThat(image.getThumbnail().getObjectKey()).isEqualTo(base + "_thumb.jpg");
+            assertThat(image.getThumbnail().getUrl()).isEqualTo("https://bucket.s3/" + base + "_thumb.jpg");
+        });
+        assertThat(requests).hasSize(6)
+                .allSatisfy(request -> assertThat(request.getMetadata().getContentType()).isEqualTo("image/jpeg"));
+        verify(storedImageIndex, never()).discard(anyCollection());
+    }
+
+    @Test
+    void skipsProcessingAndUploadForKnownOrRepeatedContent() throws Exception {
+        MultipartFile known = png("known.png", 300, 200);
+        MultipartFile fresh = png("fresh.png", 400, 300);
+        String knownHash = ContentHasher.sha256Hex(known);
+        UploadedImage stored = new UploadedImage(knownHash, "diet-images/" + knownHash, true,
+                new UploadedFile("diet-images/" + knownHash + ".jpg", "https://bucket.s3/diet-images/" + knownHash + ".jpg"),
+                new UploadedFile("diet-images/" + knownHash + "_medium.jpg", "https://bucket.s3/diet-images/" + knownHash + "_medium.jpg"),
+                new UploadedFile("diet-images/" + knownHash + "_thumb.jpg", "https://bucket.s3/diet-images/" + knownHash + "_thumb.jpg"));
+        given(storedImageIndex.findReusable(anyString())).willReturn(Optional.empty());
+        given(storedImageIndex.findReusable(knownHash)).willReturn(Optional.of(stored));
+        List<PutObjectRequest> requests = Collections.synchronizedList(new ArrayList<>());
+        willAnswer(invocation -> {
+            requests.add(invocation.getArgument(0));
+            return null;
+        }).given(amazonS3).putObject(any(PutObjectRequest.class));
+
+        List<UploadedImage> uploadedImages = s3Uploader.uploadImages(
+                List.of(known, fresh, png("fresh-again.png", 400, 300)), "diet-images/");
+
+        assertThat(uploadedImages).hasSize(3);
+        assertThat(uploadedImages.get(0)).isSameAs(stored);
+        assertThat(uploadedImages.get(1)).isSameAs(uploadedImages.get(2));
+        // 새 사진 한 장의 세 단계만 올라갑니다.
+        assertThat(requests).hasSize(3)
+                .allSatisfy(request -> assertThat(request.getKey()).startsWith("diet-images/" + uploadedImages.get(1).getContentHash()));
+    }
+
+    @Test
+    void removesUploadedTiersWhenAnImageCannotBeProcessed() throws Exception {
+        List<MultipartFile> files = List.of(png("a.png", 400, 300),
+                new MockMultipartFile("files", "notes.txt", "text/plain", "hello".getBytes()));
+
+        assertThatThrownBy(() -> s3Uploader.uploadImages(files, "diet-images/"))
+                .isInstanceOf(CustomExceptions.FileUploadException.class)
+                .hasMessageContaining("notes.txt");
+
+        ArgumentCaptor<Collection<UploadedImage>> removed = ArgumentCaptor.forClass(Collection.class);
+        verify(storedImageIndex).discard(removed.capture());
+        assertThat(removed.getValue()).singleElement()
+                .satisfies(image -> assertThat(image.getObjectKey()).startsWith("diet-images/" + image.getContentHash() + "-"));
+    }
+
+    static MultipartFile png(String name, int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return new MockMultipartFile("files", name, "image/png", out.toByteArray());
+    }
+}